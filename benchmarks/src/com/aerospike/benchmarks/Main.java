@@ -47,6 +47,7 @@ import com.aerospike.client.async.NioEventLoops;
 import com.aerospike.client.policy.AuthMode;
 import com.aerospike.client.policy.ClientPolicy;
 import com.aerospike.client.policy.CommitLevel;
+import com.aerospike.client.policy.ConnPoolType;
 import com.aerospike.client.policy.ReadModeAP;
 import com.aerospike.client.policy.ReadModeSC;
 import com.aerospike.client.policy.RecordExistsAction;
@@ -92,6 +93,7 @@ public class Main implements Log.Callback {
 	private long nKeys;
 	private long startKey;
 	private int nThreads;
+	private boolean virtualThreads;
 	private int asyncMaxCommands = 100;
 	private int eventLoopSize = 1;
 	private boolean asyncEnabled;
@@ -261,9 +263,28 @@ public class Main implements Log.Callback {
 		options.addOption("Y", "connPoolsPerNode", true,
 				"Number of synchronous connection pools per node.  Default 1."
 				);
+		options.addOption("connPoolType", true,
+				"Synchronous connection pool implementation.\n" +
+				"Values:  LOCK | LOCK_FREE.  Default: LOCK"
+				);
+		options.addOption("connPoolAffinity", false,
+				"Pin each thread to one of the connPoolsPerNode pools instead of choosing pools round-robin."
+				);
+		options.addOption("pipelineConnsPerNode", true,
+				"Number of shared pipelined connections per node used by sync single record commands.  Default 0 (disabled)."
+				);
+		options.addOption("pipelineDepth", true,
+				"Maximum commands outstanding on each pipelined connection.  Default 32."
+				);
+		options.addOption("readCoalesceMicros", true,
+				"Combine concurrent sync single record reads issued within this window into batch reads.  Default 0 (disabled)."
+				);
 		options.addOption("z", "threads", true,
 			"Set the number of threads the client will use to generate load. "
 			);
+		options.addOption("virtualThreads", false,
+			"Run synchronous load threads (-z) as virtual threads. Requires Java 21+."
+			);
 		options.addOption("latency", true,
 			"ycsb[,<warmup count>] | [alt,]<columns>,<range shift increment>[,us|ms]\n" +
 			"ycsb: Show the timings in ycsb format.\n" +
@@ -804,6 +825,33 @@ public class Main implements Log.Callback {
 			clientPolicy.connPoolsPerNode = Integer.parseInt(line.getOptionValue("connPoolsPerNode"));
 		}
 
+		if (line.hasOption("connPoolType")) {
+			clientPolicy.connPoolType = ConnPoolType.valueOf(line.getOptionValue("connPoolType").toUpperCase());
+		}
+
+		if (line.hasOption("connPoolAffinity")) {
+			clientPolicy.connPoolAffinity = true;
+		}
+
+		if (line.hasOption("pipelineConnsPerNode")) {
+			clientPolicy.pipelineConnsPerNode = Integer.parseInt(line.getOptionValue("pipelineConnsPerNode"));
+		}
+
+		if (line.hasOption("pipelineDepth")) {
+			clientPolicy.pipelineDepth = Integer.parseInt(line.getOptionValue("pipelineDepth"));
+		}
+
+		if (line.hasOption("readCoalesceMicros")) {
+			clientPolicy.readCoalesceMicros = Integer.parseInt(line.getOptionValue("readCoalesceMicros"));
+		}
+
+		if (line.hasOption("virtualThreads")) {
+			if (! Util.supportsVirtualThreads()) {
+				throw new Exception("Virtual threads (-virtualThreads) require Java 21+");
+			}
+			this.virtualThreads = true;
+		}
+
 		if (line.hasOption("threads")) {
 			this.nThreads = Integer.parseInt(line.getOptionValue("threads"));
 
@@ -956,6 +1004,7 @@ public class Main implements Log.Callback {
 			+ ", namespace: " + args.namespace
 			+ ", set: " + (args.setName.length() > 0? args.setName : "<empty>")
 			+ ", threads: " + this.nThreads
+			+ (this.virtualThreads ? " (virtual)" : "")
 			+ ", workload: " + args.workload);
 
 		if (args.workload == Workload.READ_UPDATE || args.workload == Workload.READ_REPLACE) {
@@ -1171,7 +1220,7 @@ public class Main implements Log.Callback {
 	}
 
 	private void doInserts(AerospikeClient client) throws Exception {
-		ExecutorService es = Executors.newFixedThreadPool(this.nThreads);
+		ExecutorService es = createExecutor();
 
 		// Create N insert tasks
 		long ntasks = this.nThreads < this.nKeys ? this.nThreads : this.nKeys;
@@ -1190,6 +1239,14 @@ public class Main implements Log.Callback {
 		es.shutdownNow();
 	}
 
+	private ExecutorService createExecutor() throws Exception {
+		if (this.virtualThreads) {
+			// Resolve by reflection so the benchmark still compiles for Java 8.
+			return (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		}
+		return Executors.newFixedThreadPool(this.nThreads);
+	}
+
 	private void doAsyncInserts(AerospikeClient client) throws Exception {
 		// Generate asyncMaxCommand writes to seed the event loops.
 		// Then start a new command in each command callback.
@@ -1251,7 +1308,7 @@ public class Main implements Log.Callback {
 	}
 
 	private void doRWTest(AerospikeClient client) throws Exception {
-		ExecutorService es = Executors.newFixedThreadPool(this.nThreads);
+		ExecutorService es = createExecutor();
 		RWTask[] tasks = new RWTask[this.nThreads];
 
 		for (int i = 0 ; i < this.nThreads; i++) {
@@ -0,0 +1,437 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.aerospike.client.async.EventLoop;
+import com.aerospike.client.flow.Publisher;
+import com.aerospike.client.flow.RecordPublisher;
+import com.aerospike.client.listener.DeleteListener;
+import com.aerospike.client.listener.ExecuteListener;
+import com.aerospike.client.listener.ExistsArrayListener;
+import com.aerospike.client.listener.ExistsListener;
+import com.aerospike.client.listener.RecordArrayListener;
+import com.aerospike.client.listener.RecordListener;
+import com.aerospike.client.listener.WriteListener;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.policy.QueryPolicy;
+import com.aerospike.client.policy.ScanPolicy;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.client.query.KeyRecord;
+import com.aerospike.client.query.PartitionFilter;
+import com.aerospike.client.query.Statement;
+
+/**
+ * Asynchronous client facade that returns {@link CompletableFuture} for single record and
+ * batch array commands and {@link Publisher} for batch sequence, scan and query commands.
+ * <p>
+ * Commands run on the event loops configured in the wrapped client's
+ * {@link com.aerospike.client.policy.ClientPolicy#eventLoops}. Futures are completed and
+ * publisher items are sent on event loop threads, so dependent stages should not block.
+ * <p>
+ * Each future also serves as the command listener, so no adapter objects are allocated per
+ * command. Publishers send records only when requested by the subscriber.
+ */
+public final class AerospikeAsyncClient {
+	private final IAerospikeClient client;
+	private final EventLoop eventLoop;
+
+	/**
+	 * Construct facade that distributes commands round-robin across event loops.
+	 *
+	 * @param client	client with event loops defined
+	 */
+	public AerospikeAsyncClient(IAerospikeClient client) {
+		this(client, null);
+	}
+
+	/**
+	 * Construct facade that runs all commands on the specified event loop.
+	 *
+	 * @param client	client with event loops defined
+	 * @param eventLoop	event loop that will process commands. If null, event loops are chosen
+	 * 					round-robin.
+	 */
+	public AerospikeAsyncClient(IAerospikeClient client, EventLoop eventLoop) {
+		this.client = client;
+		this.eventLoop = eventLoop;
+	}
+
+	/**
+	 * Return wrapped client.
+	 */
+	public IAerospikeClient getClient() {
+		return client;
+	}
+
+	//-------------------------------------------------------
+	// Write Record Operations
+	//-------------------------------------------------------
+
+	/**
+	 * Asynchronously write record bin(s).
+	 * See {@link IAerospikeClient#put(WritePolicy, Key, Bin...)}.
+	 *
+	 * @throws AerospikeException	if event loop registration fails
+	 */
+	public CompletableFuture<Void> put(WritePolicy policy, Key key, Bin... bins)
+		throws AerospikeException {
+		WriteFuture future = new WriteFuture();
+		client.put(eventLoop, future, policy, key, bins);
+		return future;
+	}
+
+	/**
+	 * Asynchronously append bin string values to existing record bin values.
+	 * See {@link IAerospikeClient#append(WritePolicy, Key, Bin...)}.
+	 *
+	 * @throws AerospikeException	if event loop registration fails
+	 */
+	public CompletableFuture<Void> append(WritePolicy policy, Key key, Bin... bins)
+		throws AerospikeException {
+		WriteFuture future = new WriteFuture();
+		client.append(eventLoop, future, policy, key, bins);
+		return future;
+	}
+
+	/**
+	 * Asynchronously prepend bin string values to existing record bin values.
+	 * See {@link IAerospikeClient#prepend(WritePolicy, Key, Bin...)}.
+	 *
+	 * @throws AerospikeException	if event loop registration fails
+	 */
+	public CompletableFuture<Void> prepend(WritePolicy policy, Key key, Bin... bins)
+		throws AerospikeException {
+		WriteFuture future = new WriteFuture();
+		client.prepend(eventLoop, future, policy, key, bins);
+		return future;
+	}
+
+	/**
+	 * Asynchronously add integer/double bin values to existing record bin values.
+	 * See {@link IAerospikeClient#add(WritePolicy, Key, Bin...)}.
+	 *
+	 * @throws AerospikeException	if event loop registration fails
+	 */
+	public CompletableFuture<Void> add(WritePolicy policy, Key key, Bin... bins)
+		throws AerospikeException {
+		WriteFuture future = new WriteFuture();
+		client.add(eventLoop, future, policy, key, bins);
+		return future;
+	}
+
+	/**
+	 * Asynchronously delete record for specified key.
+	 * The future returns whether the record existed on the server before deletion.
+	 *
+	 * @throws AerospikeException	if event loop registration fails
+	 */
+	public CompletableFuture<Boolean> delete(WritePolicy policy, Key key)
+		throws AerospikeException {
+		BooleanFuture future = new BooleanFuture();
+		client.delete(eventLoop, future, policy, key);
+		return future;
+	}
+
+	/**
+	 * Asynchronously reset record's time to expiration using the policy's expiration.
+	 * Fail if the record does not exist.
+	 *
+	 * @throws AerospikeException	if event loop registration fails
+	 */
+	public CompletableFuture<Void> touch(WritePolicy policy, Key key)
+		throws AerospikeException {
+		WriteFuture future = new WriteFuture();
+		client.touch(eventLoop, future, policy, key);
+		return future;
+	}
+
+	//-------------------------------------------------------
+	// Read Record Operations
+	//-------------------------------------------------------
+
+	/**
+	 * Asynchronously determine if a record key exists.
+	 *
+	 * @throws AerospikeException	if event loop registration fails
+	 */
+	public CompletableFuture<Boolean> exists(Policy policy, Key key)
+		throws AerospikeException {
+		BooleanFuture future = new BooleanFuture();
+		client.exists(eventLoop, future, policy, key);
+		return future;
+	}
+
+	/**
+	 * Asynchronously read entire record for specified key.
+	 * The future returns null if the record is not found.
+	 *
+	 * @throws AerospikeException	if event loop registration fails
+	 */
+	public CompletableFuture<Record> get(Policy policy, Key key)
+		throws AerospikeException {
+		RecordFuture future = new RecordFuture();
+		client.get(eventLoop, future, policy, key);
+		return future;
+	}
+
+	/**
+	 * Asynchronously read record header and bins for specified key.
+	 * The future returns null if the record is not found.
+	 *
+	 * @throws AerospikeException	if event loop registration fails
+	 */
+	public CompletableFuture<Record> get(Policy policy, Key key, String... binNames)
+		throws AerospikeException {
+		RecordFuture future = new RecordFuture();
+		client.get(eventLoop, future, policy, key, binNames);
+		return future;
+	}
+
+	/**
+	 * Asynchronously read record generation and expiration only for specified key.
+	 * Bins are not read. The future returns null if the record is not found.
+	 *
+	 * @throws AerospikeException	if event loop registration fails
+	 */
+	public CompletableFuture<Record> getHeader(Policy policy, Key key)
+		throws AerospikeException {
+		RecordFuture future = new RecordFuture();
+		client.getHeader(eventLoop, future, policy, key);
+		return future;
+	}
+
+	//-------------------------------------------------------
+	// Batch Read Operations
+	//-------------------------------------------------------
+
+	/**
+	 * Asynchronously check if multiple record keys exist in one batch call.
+	 * The returned array is in positional order with the original key array order.
+	 *
+	 * @throws AerospikeException	if event loop registration fails
+	 */
+	public CompletableFuture<boolean[]> exists(BatchPolicy policy, Key[] keys)
+		throws AerospikeException {
+		ExistsArrayFuture future = new ExistsArrayFuture();
+		client.exists(eventLoop, future, policy, keys);
+		return future;
+	}
+
+	/**
+	 * Asynchronously read multiple records for specified keys in one batch call.
+	 * The returned records are in positional order with the original key array order.
+	 * If a key is not found, the positional record will be null.
+	 *
+	 * @throws AerospikeException	if event loop registration fails
+	 */
+	public CompletableFuture<Record[]> get(BatchPolicy policy, Key[] keys)
+		throws AerospikeException {
+		RecordArrayFuture future = new RecordArrayFuture();
+		client.get(eventLoop, future, policy, keys);
+		return future;
+	}
+
+	/**
+	 * Asynchronously read multiple record headers and bins for specified keys in one batch call.
+	 * The returned records are in positional order with the original key array order.
+	 * If a key is not found, the positional record will be null.
+	 *
+	 * @throws AerospikeException	if event loop registration fails
+	 */
+	public CompletableFuture<Record[]> get(BatchPolicy policy, Key[] keys, String... binNames)
+		throws AerospikeException {
+		RecordArrayFuture future = new RecordArrayFuture();
+		client.get(eventLoop, future, policy, keys, binNames);
+		return future;
+	}
+
+	/**
+	 * Read multiple records for specified keys in one batch call. Records are published in
+	 * the order they are received from the servers. Key not found records are published
+	 * with a null record. The batch is started when the subscriber first requests records.
+	 */
+	public Publisher<KeyRecord> getSequence(BatchPolicy policy, Key[] keys) {
+		return new RecordPublisher(listener -> client.get(eventLoop, listener, policy, keys));
+	}
+
+	/**
+	 * Read multiple record headers and bins for specified keys in one batch call. Records
+	 * are published in the order they are received from the servers. Key not found records
+	 * are published with a null record. The batch is started when the subscriber first
+	 * requests records.
+	 */
+	public Publisher<KeyRecord> getSequence(BatchPolicy policy, Key[] keys, String... binNames) {
+		return new RecordPublisher(listener -> client.get(eventLoop, listener, policy, keys, binNames));
+	}
+
+	//-------------------------------------------------------
+	// Generic Database Operations
+	//-------------------------------------------------------
+
+	/**
+	 * Asynchronously perform multiple read/write operations on a single key in one batch call.
+	 * See {@link IAerospikeClient#operate(WritePolicy, Key, Operation...)}.
+	 *
+	 * @throws AerospikeException	if event loop registration fails
+	 */
+	public CompletableFuture<Record> operate(WritePolicy policy, Key key, Operation... operations)
+		throws AerospikeException {
+		RecordFuture future = new RecordFuture();
+		client.operate(eventLoop, future, policy, key, operations);
+		return future;
+	}
+
+	/**
+	 * Asynchronously execute user defined function on server.
+	 * The future returns the value returned by the function.
+	 *
+	 * @throws AerospikeException	if event loop registration fails
+	 */
+	public CompletableFuture<Object> execute(
+		WritePolicy policy,
+		Key key,
+		String packageName,
+		String functionName,
+		Value... functionArgs
+	) throws AerospikeException {
+		ExecuteFuture future = new ExecuteFuture();
+		client.execute(eventLoop, future, policy, key, packageName, functionName, functionArgs);
+		return future;
+	}
+
+	//-------------------------------------------------------
+	// Scan/Query Operations
+	//-------------------------------------------------------
+
+	/**
+	 * Read all records in specified namespace and set. The scan is started when the
+	 * subscriber first requests records. Cancelling the subscription terminates the scan.
+	 */
+	public Publisher<KeyRecord> scanAll(ScanPolicy policy, String namespace, String setName, String... binNames) {
+		return new RecordPublisher(listener -> client.scanAll(eventLoop, listener, policy, namespace, setName, binNames));
+	}
+
+	/**
+	 * Read records in specified namespace, set and partition filter. The scan is started
+	 * when the subscriber first requests records. Cancelling the subscription terminates
+	 * the scan.
+	 */
+	public Publisher<KeyRecord> scanPartitions(
+		ScanPolicy policy,
+		PartitionFilter partitionFilter,
+		String namespace,
+		String setName,
+		String... binNames
+	) {
+		return new RecordPublisher(listener -> client.scanPartitions(eventLoop, listener, policy, partitionFilter, namespace, setName, binNames));
+	}
+
+	/**
+	 * Execute query on all server nodes. The query is started when the subscriber first
+	 * requests records. Cancelling the subscription terminates the query.
+	 */
+	public Publisher<KeyRecord> query(QueryPolicy policy, Statement statement) {
+		return new RecordPublisher(listener -> client.query(eventLoop, listener, policy, statement));
+	}
+
+	/**
+	 * Execute query for specified partitions. The query is started when the subscriber
+	 * first requests records. Cancelling the subscription terminates the query.
+	 */
+	public Publisher<KeyRecord> queryPartitions(QueryPolicy policy, Statement statement, PartitionFilter partitionFilter) {
+		return new RecordPublisher(listener -> client.queryPartitions(eventLoop, listener, policy, statement, partitionFilter));
+	}
+
+	//-------------------------------------------------------
+	// Futures
+	//-------------------------------------------------------
+
+	private static final class WriteFuture extends CompletableFuture<Void> implements WriteListener {
+		@Override
+		public void onSuccess(Key key) {
+			super.complete(null);
+		}
+
+		@Override
+		public void onFailure(AerospikeException ae) {
+			super.completeExceptionally(ae);
+		}
+	}
+
+	private static final class BooleanFuture extends CompletableFuture<Boolean> implements ExistsListener, DeleteListener {
+		@Override
+		public void onSuccess(Key key, boolean value) {
+			super.complete(value);
+		}
+
+		@Override
+		public void onFailure(AerospikeException ae) {
+			super.completeExceptionally(ae);
+		}
+	}
+
+	private static final class RecordFuture extends CompletableFuture<Record> implements RecordListener {
+		@Override
+		public void onSuccess(Key key, Record record) {
+			super.complete(record);
+		}
+
+		@Override
+		public void onFailure(AerospikeException ae) {
+			super.completeExceptionally(ae);
+		}
+	}
+
+	private static final class ExecuteFuture extends CompletableFuture<Object> implements ExecuteListener {
+		@Override
+		public void onSuccess(Key key, Object obj) {
+			super.complete(obj);
+		}
+
+		@Override
+		public void onFailure(AerospikeException ae) {
+			super.completeExceptionally(ae);
+		}
+	}
+
+	private static final class RecordArrayFuture extends CompletableFuture<Record[]> implements RecordArrayListener {
+		@Override
+		public void onSuccess(Key[] keys, Record[] records) {
+			super.complete(records);
+		}
+
+		@Override
+		public void onFailure(AerospikeException ae) {
+			super.completeExceptionally(ae);
+		}
+	}
+
+	private static final class ExistsArrayFuture extends CompletableFuture<boolean[]> implements ExistsArrayListener {
+		@Override
+		public void onSuccess(Key[] keys, boolean[] exists) {
+			super.complete(exists);
+		}
+
+		@Override
+		public void onFailure(AerospikeException ae) {
+			super.completeExceptionally(ae);
+		}
+	}
+}
@@ -62,6 +62,8 @@ import com.aerospike.client.command.Executor;
 import com.aerospike.client.command.ExistsCommand;
 import com.aerospike.client.command.OperateArgs;
 import com.aerospike.client.command.OperateCommand;
+import com.aerospike.client.command.ParallelKeys;
+import com.aerospike.client.command.ReadCoalescer;
 import com.aerospike.client.command.ReadCommand;
 import com.aerospike.client.command.ReadHeaderCommand;
 import com.aerospike.client.command.RegisterCommand;
@@ -139,6 +141,11 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 
 	protected Cluster cluster;
 
+	/**
+	 * Combines concurrent default policy reads into batch reads. Null when disabled.
+	 */
+	private final ReadCoalescer readCoalescer;
+
 	/**
 	 * Default read policy that is used when read command policy is null.
 	 */
@@ -290,10 +297,18 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 		this.batchUDFPolicyDefault = policy.batchUDFPolicyDefault;
 		this.infoPolicyDefault = policy.infoPolicyDefault;
 		this.operatePolicyReadDefault = new WritePolicy(this.readPolicyDefault);
+		this.readCoalescer = createReadCoalescer(policy);
 
 		cluster = new Cluster(policy, hosts);
 	}
 
+	private static ReadCoalescer createReadCoalescer(ClientPolicy policy) {
+		if (policy == null || policy.readCoalesceMicros <= 0) {
+			return null;
+		}
+		return new ReadCoalescer(policy.readCoalesceMicros, policy.readCoalesceMaxKeys);
+	}
+
 	//-------------------------------------------------------
 	// Protected Initialization
 	//-------------------------------------------------------
@@ -328,6 +343,7 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 			this.infoPolicyDefault = new InfoPolicy();
 			this.operatePolicyReadDefault = new WritePolicy(this.readPolicyDefault);
 		}
+		this.readCoalescer = createReadCoalescer(policy);
 	}
 
 	//-------------------------------------------------------
@@ -455,6 +471,30 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 		return cluster;
 	}
 
+	/**
+	 * Return handle for namespace. The handle caches the encoded namespace name and the
+	 * namespace partition table, so commands on keys created through its set handles avoid
+	 * repeated encoding and partition map lookups.
+	 *
+	 * @param namespace				namespace
+	 * @throws AerospikeException.InvalidNamespace	if namespace is not in the partition map
+	 */
+	public final NamespaceHandle getNamespaceHandle(String namespace) {
+		return new NamespaceHandle(cluster, namespace);
+	}
+
+	/**
+	 * Return handle for set in namespace.  Equivalent to
+	 * getNamespaceHandle(namespace).getSetHandle(setName).
+	 *
+	 * @param namespace				namespace
+	 * @param setName				optional set name, enter null when set does not exist
+	 * @throws AerospikeException.InvalidNamespace	if namespace is not in the partition map
+	 */
+	public final SetHandle getSetHandle(String namespace, String setName) {
+		return new NamespaceHandle(cluster, namespace).getSetHandle(setName);
+	}
+
 	//-------------------------------------------------------
 	// Write Record Operations
 	//-------------------------------------------------------
@@ -478,6 +518,20 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 		command.execute();
 	}
 
+	/**
+	 * Write record bin(s) for user key in set handle.
+	 *
+	 * @param policy				write configuration parameters, pass in null for defaults
+	 * @param set					set handle
+	 * @param userKey				user defined key within set
+	 * @param bins					array of bin name/value pairs
+	 * @throws AerospikeException	if write fails
+	 */
+	public final void put(WritePolicy policy, SetHandle set, Value userKey, Bin... bins)
+		throws AerospikeException {
+		put(policy, set.getKey(userKey), bins);
+	}
+
 	/**
 	 * Asynchronously write record bin(s).
 	 * This method registers the command with an event loop and returns.
@@ -749,7 +803,7 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 
 		try {
 			BatchStatus status = new BatchStatus(true);
-			List<BatchNode> batchNodes = BatchNodeList.generate(cluster, batchPolicy, keys, records, attr.hasWrite, status);
+			List<BatchNode> batchNodes = BatchNodeList.generate(cluster, batchPolicy, keys, records, attr.hasWrite, status, true);
 			BatchCommand[] commands = new BatchCommand[batchNodes.size()];
 			int count = 0;
 
@@ -1037,7 +1091,7 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 
 		try {
 			BatchStatus status = new BatchStatus(false);
-			List<BatchNode> batchNodes = BatchNodeList.generate(cluster, policy, keys, null, false, status);
+			List<BatchNode> batchNodes = BatchNodeList.generate(cluster, policy, keys, null, false, status, true);
 			BatchCommand[] commands = new BatchCommand[batchNodes.size()];
 			int count = 0;
 
@@ -1121,6 +1175,9 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 	/**
 	 * Read entire record for specified key.
 	 * The policy can be used to specify timeouts.
+	 * <p>
+	 * If {@link ClientPolicy#readCoalesceMicros} is enabled, reads that use the default read
+	 * policy may be combined with concurrent reads into one batch command.
 	 *
 	 * @param policy				generic configuration parameters, pass in null for defaults
 	 * @param key					unique record identifier
@@ -1132,11 +1189,29 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 		if (policy == null) {
 			policy = readPolicyDefault;
 		}
+
+		if (readCoalescer != null && policy == readPolicyDefault) {
+			return readCoalescer.get(cluster, policy, key);
+		}
 		ReadCommand command = new ReadCommand(cluster, policy, key);
 		command.execute();
 		return command.getRecord();
 	}
 
+	/**
+	 * Read entire record for user key in set handle.
+	 *
+	 * @param policy				generic configuration parameters, pass in null for defaults
+	 * @param set					set handle
+	 * @param userKey				user defined key within set
+	 * @return						if found, return record instance.  If not found, return null.
+	 * @throws AerospikeException	if read fails
+	 */
+	public final Record get(Policy policy, SetHandle set, Value userKey)
+		throws AerospikeException {
+		return get(policy, set.getKey(userKey));
+	}
+
 	/**
 	 * Asynchronously read entire record for specified key.
 	 * This method registers the command with an event loop and returns.
@@ -1388,7 +1463,7 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 
 		try {
 			BatchStatus status = new BatchStatus(false);
-			List<BatchNode> batchNodes = BatchNodeList.generate(cluster, policy, keys, null, false, status);
+			List<BatchNode> batchNodes = BatchNodeList.generate(cluster, policy, keys, null, false, status, true);
 			BatchCommand[] commands = new BatchCommand[batchNodes.size()];
 			int count = 0;
 
@@ -1403,6 +1478,25 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 		}
 	}
 
+	/**
+	 * Read multiple records for user keys in set handle in one batch call.
+	 * The returned records are in positional order with the original user key array order.
+	 * If a key is not found, the positional record will be null.
+	 *
+	 * @param policy	batch configuration parameters, pass in null for defaults
+	 * @param set		set handle
+	 * @param userKeys	array of user defined keys within set
+	 * @return			array of records
+	 * @throws AerospikeException.BatchRecords	which contains results for keys that did complete
+	 */
+	public final Record[] get(BatchPolicy policy, SetHandle set, Value[] userKeys)
+		throws AerospikeException {
+		if (policy == null) {
+			policy = batchPolicyDefault;
+		}
+		return get(policy, getKeys(policy, set, userKeys));
+	}
+
 	/**
 	 * Asynchronously read multiple records for specified keys in one batch call.
 	 * This method registers the command with an event loop and returns.
@@ -1492,7 +1586,7 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 
 		try {
 			BatchStatus status = new BatchStatus(false);
-			List<BatchNode> batchNodes = BatchNodeList.generate(cluster, policy, keys, null, false, status);
+			List<BatchNode> batchNodes = BatchNodeList.generate(cluster, policy, keys, null, false, status, true);
 			BatchCommand[] commands = new BatchCommand[batchNodes.size()];
 			int count = 0;
 
@@ -1598,7 +1692,7 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 
 		try {
 			BatchStatus status = new BatchStatus(false);
-			List<BatchNode> batchNodes = BatchNodeList.generate(cluster, policy, keys, null, false, status);
+			List<BatchNode> batchNodes = BatchNodeList.generate(cluster, policy, keys, null, false, status, true);
 			BatchCommand[] commands = new BatchCommand[batchNodes.size()];
 			int count = 0;
 
@@ -1703,7 +1797,7 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 
 		try {
 			BatchStatus status = new BatchStatus(false);
-			List<BatchNode> batchNodes = BatchNodeList.generate(cluster, policy, keys, null, false, status);
+			List<BatchNode> batchNodes = BatchNodeList.generate(cluster, policy, keys, null, false, status, true);
 			BatchCommand[] commands = new BatchCommand[batchNodes.size()];
 			int count = 0;
 
@@ -1809,6 +1903,21 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 		return command.getRecord();
 	}
 
+	/**
+	 * Perform multiple read/write operations on user key in set handle in one call.
+	 *
+	 * @param policy				write configuration parameters, pass in null for defaults
+	 * @param set					set handle
+	 * @param userKey				user defined key within set
+	 * @param operations			database operations to perform
+	 * @return						record if there is a read in the operations list
+	 * @throws AerospikeException	if command fails
+	 */
+	public final Record operate(WritePolicy policy, SetHandle set, Value userKey, Operation... operations)
+		throws AerospikeException {
+		return operate(policy, set.getKey(userKey), operations);
+	}
+
 	/**
 	 * Asynchronously perform multiple read/write operations on a single key in one batch call.
 	 * This method registers the command with an event loop and returns.
@@ -2005,7 +2114,7 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 
 		try {
 			BatchStatus status = new BatchStatus(true);
-			List<BatchNode> batchNodes = BatchNodeList.generate(cluster, batchPolicy, keys, records, attr.hasWrite, status);
+			List<BatchNode> batchNodes = BatchNodeList.generate(cluster, batchPolicy, keys, records, attr.hasWrite, status, true);
 			BatchCommand[] commands = new BatchCommand[batchNodes.size()];
 			int count = 0;
 
@@ -2541,7 +2650,7 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 
 		try {
 			BatchStatus status = new BatchStatus(true);
-			List<BatchNode> batchNodes = BatchNodeList.generate(cluster, batchPolicy, keys, records, attr.hasWrite, status);
+			List<BatchNode> batchNodes = BatchNodeList.generate(cluster, batchPolicy, keys, records, attr.hasWrite, status, true);
 			BatchCommand[] commands = new BatchCommand[batchNodes.size()];
 			int count = 0;
 
@@ -3623,6 +3732,23 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 	// Internal Methods
 	//-------------------------------------------------------
 
+	private Key[] getKeys(BatchPolicy policy, final SetHandle set, final Value[] userKeys) {
+		if (! ParallelKeys.isParallel(policy, userKeys.length)) {
+			return set.getKeys(userKeys);
+		}
+
+		final Key[] keys = new Key[userKeys.length];
+
+		ParallelKeys.run(cluster, userKeys.length, new ParallelKeys.Task() {
+			public void run(int begin, int end) {
+				for (int i = begin; i < end; i++) {
+					keys[i] = set.getKey(userKeys[i]);
+				}
+			}
+		});
+		return keys;
+	}
+
 	private static String buildCreateIndexInfoCommand(
 		String namespace,
 		String setName,
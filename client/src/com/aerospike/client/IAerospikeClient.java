@@ -139,6 +139,26 @@ public interface IAerospikeClient extends Closeable {
 	 */
 	public Cluster getCluster();
 
+	/**
+	 * Return handle for namespace. The handle caches the encoded namespace name and the
+	 * namespace partition table, so commands on keys created through its set handles avoid
+	 * repeated encoding and partition map lookups.
+	 *
+	 * @param namespace				namespace
+	 * @throws AerospikeException.InvalidNamespace	if namespace is not in the partition map
+	 */
+	public NamespaceHandle getNamespaceHandle(String namespace);
+
+	/**
+	 * Return handle for set in namespace.  Equivalent to
+	 * getNamespaceHandle(namespace).getSetHandle(setName).
+	 *
+	 * @param namespace				namespace
+	 * @param setName				optional set name, enter null when set does not exist
+	 * @throws AerospikeException.InvalidNamespace	if namespace is not in the partition map
+	 */
+	public SetHandle getSetHandle(String namespace, String setName);
+
 	//-------------------------------------------------------
 	// Write Record Operations
 	//-------------------------------------------------------
@@ -156,6 +176,18 @@ public interface IAerospikeClient extends Closeable {
 	public void put(WritePolicy policy, Key key, Bin... bins)
 		throws AerospikeException;
 
+	/**
+	 * Write record bin(s) for user key in set handle.
+	 *
+	 * @param policy				write configuration parameters, pass in null for defaults
+	 * @param set					set handle
+	 * @param userKey				user defined key within set
+	 * @param bins					array of bin name/value pairs
+	 * @throws AerospikeException	if write fails
+	 */
+	public void put(WritePolicy policy, SetHandle set, Value userKey, Bin... bins)
+		throws AerospikeException;
+
 	/**
 	 * Asynchronously write record bin(s).
 	 * This method registers the command with an event loop and returns.
@@ -533,6 +565,18 @@ public interface IAerospikeClient extends Closeable {
 	public Record get(Policy policy, Key key)
 		throws AerospikeException;
 
+	/**
+	 * Read entire record for user key in set handle.
+	 *
+	 * @param policy				generic configuration parameters, pass in null for defaults
+	 * @param set					set handle
+	 * @param userKey				user defined key within set
+	 * @return						if found, return record instance.  If not found, return null.
+	 * @throws AerospikeException	if read fails
+	 */
+	public Record get(Policy policy, SetHandle set, Value userKey)
+		throws AerospikeException;
+
 	/**
 	 * Asynchronously read entire record for specified key.
 	 * This method registers the command with an event loop and returns.
@@ -682,6 +726,20 @@ public interface IAerospikeClient extends Closeable {
 	public Record[] get(BatchPolicy policy, Key[] keys)
 		throws AerospikeException;
 
+	/**
+	 * Read multiple records for user keys in set handle in one batch call.
+	 * The returned records are in positional order with the original user key array order.
+	 * If a key is not found, the positional record will be null.
+	 *
+	 * @param policy	batch configuration parameters, pass in null for defaults
+	 * @param set		set handle
+	 * @param userKeys	array of user defined keys within set
+	 * @return			array of records
+	 * @throws AerospikeException.BatchRecords	which contains results for keys that did complete
+	 */
+	public Record[] get(BatchPolicy policy, SetHandle set, Value[] userKeys)
+		throws AerospikeException;
+
 	/**
 	 * Asynchronously read multiple records for specified keys in one batch call.
 	 * This method registers the command with an event loop and returns.
@@ -893,6 +951,19 @@ public interface IAerospikeClient extends Closeable {
 	public Record operate(WritePolicy policy, Key key, Operation... operations)
 		throws AerospikeException;
 
+	/**
+	 * Perform multiple read/write operations on user key in set handle in one call.
+	 *
+	 * @param policy				write configuration parameters, pass in null for defaults
+	 * @param set					set handle
+	 * @param userKey				user defined key within set
+	 * @param operations			database operations to perform
+	 * @return						record if there is a read in the operations list
+	 * @throws AerospikeException	if command fails
+	 */
+	public Record operate(WritePolicy policy, SetHandle set, Value userKey, Operation... operations)
+		throws AerospikeException;
+
 	/**
 	 * Asynchronously perform multiple read/write operations on a single key in one batch call.
 	 * This method registers the command with an event loop and returns.
@@ -55,6 +55,12 @@ public final class Key {
 	 */
 	public final Value userKey;
 
+	/**
+	 * Set handle that created this key or null if the key was created directly.
+	 * Commands use the handle's cached namespace/set encoding and partition table.
+	 */
+	public final SetHandle handle;
+
 	/**
 	 * Initialize key from namespace, optional set name and user key.
 	 * The set name and user defined key are converted to a digest before sending to the server.
@@ -89,6 +95,7 @@ public final class Key {
 		this.namespace = namespace;
 		this.setName = setName;
 		this.userKey = new Value.StringValue(key);
+		this.handle = null;
 		digest = Crypto.computeDigest(setName, this.userKey);
 	}
 
@@ -125,6 +132,7 @@ public final class Key {
 		this.namespace = namespace;
 		this.setName = setName;
 		this.userKey = new Value.BytesValue(key);
+		this.handle = null;
 		digest = Crypto.computeDigest(setName, this.userKey);
 	}
 
@@ -163,6 +171,7 @@ public final class Key {
 		this.namespace = namespace;
 		this.setName = setName;
 		this.userKey = new Value.ByteSegmentValue(key, offset, length);
+		this.handle = null;
 		digest = Crypto.computeDigest(setName, this.userKey);
 	}
 
@@ -186,6 +195,7 @@ public final class Key {
 		this.namespace = namespace;
 		this.setName = setName;
 		this.userKey = new Value.LongValue(key);
+		this.handle = null;
 		digest = Crypto.computeDigest(setName, this.userKey);
 	}
 
@@ -209,6 +219,7 @@ public final class Key {
 		this.namespace = namespace;
 		this.setName = setName;
 		this.userKey = new Value.LongValue(key);
+		this.handle = null;
 		digest = Crypto.computeDigest(setName, this.userKey);
 	}
 
@@ -232,6 +243,7 @@ public final class Key {
 		this.namespace = namespace;
 		this.setName = setName;
 		this.userKey = key;
+		this.handle = null;
 
 		// Some value types can't be used as keys (jblob, list, map, null).  Verify key type.
 		key.validateKeyType();
@@ -255,6 +267,22 @@ public final class Key {
 		digest = computeDigest(setName, Value.get(key));
 	} */
 
+	/**
+	 * Initialize key from set handle and user key. The handle's encoded set name is
+	 * used to compute the digest.
+	 */
+	Key(SetHandle handle, Value key) throws AerospikeException {
+		this.namespace = handle.namespace.namespace;
+		this.setName = handle.setName;
+		this.userKey = key;
+		this.handle = handle;
+
+		// Some value types can't be used as keys (jblob, list, map, null).  Verify key type.
+		key.validateKeyType();
+
+		digest = Crypto.computeDigest(handle.getSetBytes(), key);
+	}
+
 	/**
 	 * Initialize key from namespace, digest, optional set name and optional userKey.
 	 *
@@ -269,6 +297,7 @@ public final class Key {
 		this.setName = setName;
 		// Do not try to validate userKey type because it is most likely null.
 		this.userKey = userKey;
+		this.handle = null;
 	}
 
 	/**
@@ -313,6 +342,21 @@ public final class Key {
 		return Crypto.computeDigest(setName, key);
 	}
 
+	/**
+	 * Generate digests for user keys in the same set and write them to a caller supplied
+	 * array, 20 bytes per key in key array order.  The digests array length must be at
+	 * least keys.length * 20.  This avoids per key hash state and digest allocations when
+	 * hashing large key lists.
+	 *
+	 * @param setName				optional set name, enter null when set does not exist
+	 * @param keys					user defined unique identifiers within set
+	 * @param digests				target array for digests
+	 * @throws AerospikeException	if digest computation fails
+	 */
+	public static void computeDigests(String setName, Value[] keys, byte[] digests) throws AerospikeException {
+		Crypto.computeDigests(setName, keys, digests, 0);
+	}
+
 	@Override
 	public String toString() {
 		return this.namespace + ":" + this.setName + ":" + this.userKey + ":" + Buffer.bytesToHexString(this.digest);
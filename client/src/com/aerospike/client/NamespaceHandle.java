@@ -0,0 +1,99 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client;
+
+import java.util.HashMap;
+
+import com.aerospike.client.cluster.Cluster;
+import com.aerospike.client.cluster.Partitions;
+import com.aerospike.client.command.Buffer;
+
+/**
+ * Namespace reference that caches the UTF8 encoded namespace name and the namespace
+ * partition table. Keys created through a {@link SetHandle} of this namespace skip
+ * namespace encoding and partition map lookups on each command.
+ * <p>
+ * Obtain with {@link AerospikeClient#getNamespaceHandle(String)}. Handles are thread-safe.
+ */
+public final class NamespaceHandle {
+	/**
+	 * Namespace name.
+	 */
+	public final String namespace;
+
+	private final byte[] namespaceBytes;
+	private volatile Route route;
+
+	NamespaceHandle(Cluster cluster, String namespace) {
+		this.namespace = namespace;
+		this.namespaceBytes = Buffer.stringToUtf8(namespace);
+
+		// Validate namespace and prime partition table cache.
+		getPartitions(cluster);
+	}
+
+	/**
+	 * Return handle for set in this namespace.
+	 */
+	public SetHandle getSetHandle(String setName) {
+		return new SetHandle(this, setName);
+	}
+
+	/**
+	 * Return UTF8 encoded namespace name. Do not modify.
+	 */
+	public byte[] getNamespaceBytes() {
+		return namespaceBytes;
+	}
+
+	/**
+	 * Return namespace partition table. The cached table is reused until the tend
+	 * thread publishes a new partition map.
+	 */
+	public Partitions getPartitions(Cluster cluster) {
+		// Must copy hashmap reference for copy on write semantics to work.
+		HashMap<String,Partitions> map = cluster.partitionMap;
+		Route r = route;
+
+		if (r != null && r.map == map) {
+			return r.partitions;
+		}
+
+		Partitions partitions = map.get(namespace);
+
+		if (partitions == null) {
+			throw new AerospikeException.InvalidNamespace(namespace, map.size());
+		}
+		route = new Route(map, partitions);
+		return partitions;
+	}
+
+	@Override
+	public String toString() {
+		return namespace;
+	}
+
+	private static final class Route {
+		private final HashMap<String,Partitions> map;
+		private final Partitions partitions;
+
+		private Route(HashMap<String,Partitions> map, Partitions partitions) {
+			this.map = map;
+			this.partitions = partitions;
+		}
+	}
+}
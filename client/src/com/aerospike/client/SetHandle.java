@@ -0,0 +1,96 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client;
+
+import com.aerospike.client.command.Buffer;
+
+/**
+ * Set reference that caches the UTF8 encoded set name. Keys created by
+ * {@link #getKey(Value)} reuse the encoded set name for digest computation, and
+ * commands on those keys copy the encoded namespace/set names into the request
+ * instead of encoding the strings again.
+ * <p>
+ * Obtain with {@link NamespaceHandle#getSetHandle(String)} or
+ * {@link AerospikeClient#getSetHandle(String, String)}. Handles are thread-safe.
+ */
+public final class SetHandle {
+	/**
+	 * Namespace handle.
+	 */
+	public final NamespaceHandle namespace;
+
+	/**
+	 * Set name. May be null.
+	 */
+	public final String setName;
+
+	private final byte[] setBytes;
+
+	SetHandle(NamespaceHandle namespace, String setName) {
+		this.namespace = namespace;
+		this.setName = setName;
+		this.setBytes = Buffer.stringToUtf8(setName);
+	}
+
+	/**
+	 * Return UTF8 encoded set name. Do not modify.
+	 */
+	public byte[] getSetBytes() {
+		return setBytes;
+	}
+
+	/**
+	 * Create key in this set.
+	 *
+	 * @param userKey				user defined key
+	 * @throws AerospikeException	if key type is not supported
+	 */
+	public Key getKey(Value userKey) {
+		return new Key(this, userKey);
+	}
+
+	/**
+	 * Create key in this set.
+	 */
+	public Key getKey(String userKey) {
+		return new Key(this, new Value.StringValue(userKey));
+	}
+
+	/**
+	 * Create key in this set.
+	 */
+	public Key getKey(long userKey) {
+		return new Key(this, new Value.LongValue(userKey));
+	}
+
+	/**
+	 * Create keys in this set.
+	 */
+	public Key[] getKeys(Value[] userKeys) {
+		Key[] keys = new Key[userKeys.length];
+
+		for (int i = 0; i < userKeys.length; i++) {
+			keys[i] = new Key(this, userKeys[i]);
+		}
+		return keys;
+	}
+
+	@Override
+	public String toString() {
+		return namespace.namespace + ':' + setName;
+	}
+}
@@ -27,6 +27,7 @@ import com.aerospike.client.Operation;
 import com.aerospike.client.Record;
 import com.aerospike.client.ResultCode;
 import com.aerospike.client.cluster.Cluster;
+import com.aerospike.client.cluster.LatencyType;
 import com.aerospike.client.command.BatchAttr;
 import com.aerospike.client.command.BatchNode;
 import com.aerospike.client.command.BatchNodeList;
@@ -1408,6 +1409,11 @@ public final class AsyncBatch {
 			this.batchPolicy = batchPolicy;
 		}
 
+		@Override
+		LatencyType getLatencyType() {
+			return LatencyType.BATCH;
+		}
+
 		@Override
 		protected boolean prepareRetry(boolean timeout) {
 			if (parent.done || ! (policy.replica == Replica.SEQUENCE || policy.replica == Replica.PREFER_RACK)) {
@@ -17,15 +17,16 @@
 package com.aerospike.client.async;
 
 import java.util.ArrayDeque;
-import java.util.zip.DataFormatException;
-import java.util.zip.Inflater;
 
 import com.aerospike.client.AerospikeException;
 import com.aerospike.client.cluster.Cluster;
+import com.aerospike.client.cluster.LatencyType;
 import com.aerospike.client.cluster.Node;
 import com.aerospike.client.command.Buffer;
 import com.aerospike.client.command.Command;
+import com.aerospike.client.command.Zlib;
 import com.aerospike.client.policy.Policy;
+import com.aerospike.client.util.BufferArena;
 
 /**
  * Asynchronous command handler.
@@ -46,28 +47,40 @@ public abstract class AsyncCommand extends Command {
 	static final int COMPLETE = 12;
 
 	Policy policy;
+	final String namespace;
 	ArrayDeque<byte[]> bufferQueue;
 	int receiveSize;
 	int commandSentCounter;
 	final boolean isSingle;
 	boolean compressed;
 	boolean valid = true;
+	RecordDemand demand;
+	long latencyBegin;
 
 	/**
 	 * Default constructor.
 	 */
 	public AsyncCommand(Policy policy, boolean isSingle) {
+		this(policy, isSingle, null);
+	}
+
+	/**
+	 * Single namespace constructor. The namespace is used to group latency statistics.
+	 */
+	public AsyncCommand(Policy policy, boolean isSingle, String namespace) {
 		super(policy.socketTimeout, policy.totalTimeout, policy.maxRetries);
 		this.policy = policy;
+		this.namespace = namespace;
 		this.isSingle = isSingle;
 	}
 
 	/**
 	 * Scan/Query constructor.
 	 */
-	public AsyncCommand(Policy policy, int socketTimeout, int totalTimeout) {
+	public AsyncCommand(Policy policy, String namespace, int socketTimeout, int totalTimeout) {
 		super(socketTimeout, totalTimeout, 0);
 		this.policy = policy;
+		this.namespace = namespace;
 		this.isSingle = false;
 	}
 
@@ -106,8 +119,8 @@ public abstract class AsyncCommand extends Command {
 
 	private final byte[] getBuffer(int size) {
 		if (size > MAX_BUFFER_SIZE) {
-			// Allocate huge buffer, but do not put back in pool.
-			return new byte[size];
+			// Huge buffers are shared by all event loops.
+			return BufferArena.acquire(size);
 		}
 
 		byte[] buffer = bufferQueue.pollFirst();
@@ -123,8 +136,8 @@ public abstract class AsyncCommand extends Command {
 		if (size > MAX_BUFFER_SIZE) {
 			// Put original buffer back in pool.
 			putBuffer(buffer);
-			// Allocate huge buffer, but do not put back in pool.
-			return new byte[size];
+			// Huge buffers are shared by all event loops.
+			return BufferArena.acquire(size);
 		}
 		// Round up to nearest 8KB.
 		return new byte[(size + 8191) & ~8191];
@@ -134,6 +147,19 @@ public abstract class AsyncCommand extends Command {
 		if (buffer.length <= MAX_BUFFER_SIZE) {
 			bufferQueue.addLast(buffer);
 		}
+		else {
+			BufferArena.release(buffer);
+		}
+	}
+
+	@Override
+	protected final byte[] getCompressBuffer(int size) {
+		return getBuffer(size);
+	}
+
+	@Override
+	protected final void releaseBuffer(byte[] buffer) {
+		putBuffer(buffer);
 	}
 
 	final void validateHeaderSize() {
@@ -145,30 +171,18 @@ public abstract class AsyncCommand extends Command {
 	final boolean parseCommandResult() {
 		if (compressed) {
 			int usize = (int)Buffer.bytesToLong(dataBuffer, 0);
-			byte[] buf = new byte[usize];
-
-			Inflater inf = new Inflater();
-			try {
-				inf.setInput(dataBuffer, 8, receiveSize - 8);
-				int rsize;
-
-				try {
-					rsize = inf.inflate(buf);
-				}
-				catch (DataFormatException dfe) {
-					throw new AerospikeException.Serialize(dfe);
-				}
-
-				if (rsize != usize) {
-					throw new AerospikeException("Decompressed size " + rsize + " is not expected " + usize);
-				}
-
-				dataBuffer = buf;
-				dataOffset = 8;
-				receiveSize = usize - 8;
-			} finally {
-				inf.end();
+			byte[] buf = getBuffer(usize);
+
+			int rsize = Zlib.inflate(dataBuffer, 8, receiveSize - 8, buf, usize);
+
+			if (rsize != usize) {
+				throw new AerospikeException("Decompressed size " + rsize + " is not expected " + usize);
 			}
+
+			putBuffer(dataBuffer);
+			dataBuffer = buf;
+			dataOffset = 8;
+			receiveSize = usize - 8;
 		}
 		else {
 			dataOffset = 0;
@@ -178,6 +192,11 @@ public abstract class AsyncCommand extends Command {
 
 	final void stop() {
 		valid = false;
+
+		if (demand != null) {
+			// Wake paused commands so they can terminate.
+			demand.resume();
+		}
 	}
 
 	boolean retryBatch(Runnable command, long deadline) {
@@ -189,6 +208,30 @@ public abstract class AsyncCommand extends Command {
 		return false;
 	}
 
+	/**
+	 * Return if command is issued by the cluster tend. Tend commands are excluded from
+	 * command metrics and node error rate limiting.
+	 */
+	boolean isTend() {
+		return false;
+	}
+
+	/**
+	 * Return command type used to group latency statistics.
+	 * Return null if latency should not be recorded.
+	 */
+	LatencyType getLatencyType() {
+		return isWrite()? LatencyType.WRITE : LatencyType.READ;
+	}
+
+	final void addLatency(Node node) {
+		LatencyType type = getLatencyType();
+
+		if (type != null && node != null) {
+			node.addLatency(namespace, type, System.nanoTime() - latencyBegin);
+		}
+	}
+
 	abstract Node getNode(Cluster cluster);
 	abstract void writeBuffer();
 	abstract boolean parseResult();
@@ -33,7 +33,7 @@ public final class AsyncDelete extends AsyncCommand {
 	private boolean existed;
 
 	public AsyncDelete(Cluster cluster, DeleteListener listener, WritePolicy writePolicy, Key key) {
-		super(writePolicy, true);
+		super(writePolicy, true, key.namespace);
 		this.listener = listener;
 		this.writePolicy = writePolicy;
 		this.key = key;
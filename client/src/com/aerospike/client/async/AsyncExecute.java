@@ -22,6 +22,7 @@ import com.aerospike.client.AerospikeException;
 import com.aerospike.client.Key;
 import com.aerospike.client.Value;
 import com.aerospike.client.cluster.Cluster;
+import com.aerospike.client.cluster.LatencyType;
 import com.aerospike.client.cluster.Node;
 import com.aerospike.client.cluster.Partition;
 import com.aerospike.client.listener.ExecuteListener;
@@ -61,6 +62,11 @@ public final class AsyncExecute extends AsyncRead {
 		return partition.getNodeWrite(cluster);
 	}
 
+	@Override
+	LatencyType getLatencyType() {
+		return LatencyType.UDF;
+	}
+
 	@Override
 	protected void writeBuffer() throws AerospikeException {
 		setUdf(writePolicy, key, packageName, functionName, args);
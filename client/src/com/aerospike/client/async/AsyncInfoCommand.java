@@ -16,11 +16,13 @@
  */
 package com.aerospike.client.async;
 
+import java.util.Arrays;
 import java.util.Map;
 
 import com.aerospike.client.AerospikeException;
 import com.aerospike.client.Info;
 import com.aerospike.client.cluster.Cluster;
+import com.aerospike.client.cluster.LatencyType;
 import com.aerospike.client.cluster.Node;
 import com.aerospike.client.command.Buffer;
 import com.aerospike.client.listener.InfoListener;
@@ -29,13 +31,29 @@ import com.aerospike.client.policy.Policy;
 
 public final class AsyncInfoCommand extends AsyncCommand {
 	private final InfoListener listener;
+	private final TendListener tendListener;
 	private final Node node;
 	private final String[] commands;
 	private Map<String,String> map;
+	private Info info;
 
 	public AsyncInfoCommand(InfoListener listener, InfoPolicy policy, Node node, String... commands) {
 		super(createPolicy(policy), true);
 		this.listener = listener;
+		this.tendListener = null;
+		this.node = node;
+		this.commands = commands;
+	}
+
+	/**
+	 * Info request issued by the cluster tend. The raw response is returned so it can be
+	 * parsed on the tend thread. The request is not retried, not counted in command
+	 * metrics and does not affect the node error rate.
+	 */
+	public AsyncInfoCommand(TendListener listener, Node node, int timeout, String... commands) {
+		super(createTendPolicy(timeout), true);
+		this.listener = null;
+		this.tendListener = listener;
 		this.node = node;
 		this.commands = commands;
 	}
@@ -52,6 +70,20 @@ public final class AsyncInfoCommand extends AsyncCommand {
 		return p;
 	}
 
+	private static Policy createTendPolicy(int timeout) {
+		Policy p = new Policy();
+		p.setTimeout((timeout > 0)? timeout : 1000);
+
+		// The next tend iteration is the retry.
+		p.maxRetries = 0;
+		return p;
+	}
+
+	@Override
+	boolean isTend() {
+		return tendListener != null;
+	}
+
 	@Override
 	boolean isWrite() {
 		return true;
@@ -62,6 +94,11 @@ public final class AsyncInfoCommand extends AsyncCommand {
 		return node;
 	}
 
+	@Override
+	LatencyType getLatencyType() {
+		return null;
+	}
+
 	@Override
 	protected void writeBuffer() {
 		dataOffset = 8;
@@ -86,6 +123,12 @@ public final class AsyncInfoCommand extends AsyncCommand {
 
 	@Override
 	protected final boolean parseResult() {
+		if (tendListener != null) {
+			// Copy response because the command buffer is reused by the event loop.
+			info = new Info(Arrays.copyOf(dataBuffer, receiveSize), receiveSize);
+			return true;
+		}
+
 		Info info = new Info(dataBuffer, receiveSize);
 		map = info.parseMultiResponse();
 		return true;
@@ -98,15 +141,29 @@ public final class AsyncInfoCommand extends AsyncCommand {
 
 	@Override
 	protected void onSuccess() {
-		if (listener != null) {
+		if (tendListener != null) {
+			tendListener.onSuccess(info);
+		}
+		else if (listener != null) {
 			listener.onSuccess(map);
 		}
 	}
 
 	@Override
 	protected void onFailure(AerospikeException e) {
-		if (listener != null) {
+		if (tendListener != null) {
+			tendListener.onFailure(e);
+		}
+		else if (listener != null) {
 			listener.onFailure(e);
 		}
 	}
+
+	/**
+	 * Tend info response listener.
+	 */
+	public interface TendListener {
+		void onSuccess(Info info);
+		void onFailure(AerospikeException ae);
+	}
 }
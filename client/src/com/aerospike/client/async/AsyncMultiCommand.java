@@ -19,9 +19,12 @@ package com.aerospike.client.async;
 import com.aerospike.client.AerospikeException;
 import com.aerospike.client.Record;
 import com.aerospike.client.cluster.Cluster;
+import com.aerospike.client.cluster.LatencyType;
 import com.aerospike.client.cluster.Node;
 import com.aerospike.client.command.Buffer;
 import com.aerospike.client.command.Command;
+import com.aerospike.client.listener.RecordSequenceDemandListener;
+import com.aerospike.client.listener.RecordSequenceListener;
 import com.aerospike.client.policy.Policy;
 
 public abstract class AsyncMultiCommand extends AsyncCommand {
@@ -35,6 +38,7 @@ public abstract class AsyncMultiCommand extends AsyncCommand {
 	int fieldCount;
 	int opCount;
 	protected final boolean isOperation;
+	private final boolean lazyBins;
 
 	/**
 	 * Batch constructor.
@@ -43,15 +47,22 @@ public abstract class AsyncMultiCommand extends AsyncCommand {
 		super(policy, false);
 		this.node = node;
 		this.isOperation = isOperation;
+		this.lazyBins = policy.lazyBins;
 	}
 
 	/**
 	 * Scan/Query constructor.
 	 */
-	public AsyncMultiCommand(Node node, Policy policy, int socketTimeout, int totalTimeout) {
-		super(policy, socketTimeout, totalTimeout);
+	public AsyncMultiCommand(Node node, Policy policy, String namespace, int socketTimeout, int totalTimeout) {
+		super(policy, namespace, socketTimeout, totalTimeout);
 		this.node = node;
 		this.isOperation = false;
+		this.lazyBins = policy.lazyBins;
+	}
+
+	@Override
+	LatencyType getLatencyType() {
+		return LatencyType.QUERY;
 	}
 
 	@Override
@@ -100,11 +111,17 @@ public abstract class AsyncMultiCommand extends AsyncCommand {
 
 	protected abstract void parseRow();
 
+	final void setDemand(RecordSequenceListener listener) {
+		if (listener instanceof RecordSequenceDemandListener) {
+			demand = ((RecordSequenceDemandListener)listener).getDemand();
+		}
+	}
+
 	protected final Record parseRecord() {
 		if (opCount <= 0) {
 			return new Record(null, generation, expiration);
 		}
 
-		return parseRecord(opCount, generation, expiration, isOperation);
+		return parseRecord(opCount, generation, expiration, isOperation, lazyBins);
 	}
 }
@@ -38,9 +38,10 @@ public final class AsyncQuery extends AsyncMultiCommand {
 		Statement statement,
 		long taskId
 	) {
-		super(node, policy, policy.socketTimeout, policy.totalTimeout);
+		super(node, policy, statement.getNamespace(), policy.socketTimeout, policy.totalTimeout);
 		this.parent = parent;
 		this.listener = listener;
+		setDemand(listener);
 		this.statement = statement;
 		this.taskId = taskId;
 	}
@@ -59,6 +60,10 @@ public final class AsyncQuery extends AsyncMultiCommand {
 		}
 
 		Record record = parseRecord();
+
+		if (demand != null) {
+			demand.consume();
+		}
 		listener.onRecord(key, record);
 	}
 
@@ -44,9 +44,10 @@ public final class AsyncQueryPartition extends AsyncMultiCommand {
 		PartitionTracker tracker,
 		NodePartitions nodePartitions
 	) {
-		super(nodePartitions.node, policy, tracker.socketTimeout, tracker.totalTimeout);
+		super(nodePartitions.node, policy, statement.getNamespace(), tracker.socketTimeout, tracker.totalTimeout);
 		this.parent = parent;
 		this.listener = listener;
+		setDemand(listener);
 		this.statement = statement;
 		this.taskId = taskId;
 		this.tracker = tracker;
@@ -78,6 +79,10 @@ public final class AsyncQueryPartition extends AsyncMultiCommand {
 		}
 
 		Record record = parseRecord();
+
+		if (demand != null) {
+			demand.consume();
+		}
 		listener.onRecord(key, record);
 		tracker.setLast(nodePartitions, key, bval.val);
 	}
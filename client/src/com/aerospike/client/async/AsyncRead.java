@@ -37,7 +37,7 @@ public class AsyncRead extends AsyncCommand {
 	protected Record record;
 
 	public AsyncRead(Cluster cluster, RecordListener listener, Policy policy, Key key, String[] binNames) {
-		super(policy, true);
+		super(policy, true, key.namespace);
 		this.listener = listener;
 		this.key = key;
 		this.binNames = binNames;
@@ -46,7 +46,7 @@ public class AsyncRead extends AsyncCommand {
 	}
 
 	public AsyncRead(RecordListener listener, Policy policy, Key key, Partition partition, boolean isOperation) {
-		super(policy, true);
+		super(policy, true, key.namespace);
 		this.listener = listener;
 		this.key = key;
 		this.binNames = null;
@@ -82,7 +82,7 @@ public class AsyncRead extends AsyncCommand {
 				return true;
 			}
 			skipKey(fieldCount);
-			record = parseRecord(opCount, generation, expiration, isOperation);
+			record = parseRecord(opCount, generation, expiration, isOperation, policy.lazyBins);
 			return true;
 		}
 
@@ -100,7 +100,7 @@ public class AsyncRead extends AsyncCommand {
 
 		if (resultCode == ResultCode.UDF_BAD_RESPONSE) {
 			skipKey(fieldCount);
-			record = parseRecord(opCount, generation, expiration, isOperation);
+			record = parseRecord(opCount, generation, expiration, isOperation, policy.lazyBins);
 			handleUdfError(resultCode);
 			return true;
 		}
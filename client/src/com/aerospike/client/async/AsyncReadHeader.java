@@ -34,7 +34,7 @@ public final class AsyncReadHeader extends AsyncCommand {
 	private Record record;
 
 	public AsyncReadHeader(Cluster cluster, RecordListener listener, Policy policy, Key key) {
-		super(policy, true);
+		super(policy, true, key.namespace);
 		this.listener = listener;
 		this.key = key;
 		this.partition = Partition.read(cluster, policy, key);
@@ -19,6 +19,7 @@ package com.aerospike.client.async;
 import com.aerospike.client.AerospikeException;
 import com.aerospike.client.Key;
 import com.aerospike.client.Record;
+import com.aerospike.client.cluster.LatencyType;
 import com.aerospike.client.command.Command;
 import com.aerospike.client.listener.RecordSequenceListener;
 import com.aerospike.client.policy.ScanPolicy;
@@ -29,7 +30,6 @@ public final class AsyncScanPartition extends AsyncMultiCommand {
 	private final AsyncMultiExecutor parent;
 	private final ScanPolicy scanPolicy;
 	private final RecordSequenceListener listener;
-	private final String namespace;
 	private final String setName;
 	private final String[] binNames;
 	private final long taskId;
@@ -47,11 +47,11 @@ public final class AsyncScanPartition extends AsyncMultiCommand {
 		PartitionTracker tracker,
 		NodePartitions nodePartitions
 	) {
-		super(nodePartitions.node, scanPolicy, tracker.socketTimeout, tracker.totalTimeout);
+		super(nodePartitions.node, scanPolicy, namespace, tracker.socketTimeout, tracker.totalTimeout);
 		this.parent = parent;
 		this.scanPolicy = scanPolicy;
 		this.listener = listener;
-		this.namespace = namespace;
+		setDemand(listener);
 		this.setName = setName;
 		this.binNames = binNames;
 		this.taskId = taskId;
@@ -59,6 +59,11 @@ public final class AsyncScanPartition extends AsyncMultiCommand {
 		this.nodePartitions = nodePartitions;
 	}
 
+	@Override
+	LatencyType getLatencyType() {
+		return LatencyType.SCAN;
+	}
+
 	@Override
 	protected void writeBuffer() {
 		setScan(parent.cluster, scanPolicy, namespace, setName, binNames, taskId, nodePartitions);
@@ -83,6 +88,10 @@ public final class AsyncScanPartition extends AsyncMultiCommand {
 		}
 
 		Record record = parseRecord();
+
+		if (demand != null) {
+			demand.consume();
+		}
 		listener.onRecord(key, record);
 		tracker.setDigest(nodePartitions, key);
 	}
@@ -32,7 +32,7 @@ public final class AsyncTouch extends AsyncCommand {
 	private final Partition partition;
 
 	public AsyncTouch(Cluster cluster, WriteListener listener, WritePolicy writePolicy, Key key) {
-		super(writePolicy, true);
+		super(writePolicy, true, key.namespace);
 		this.listener = listener;
 		this.writePolicy = writePolicy;
 		this.key = key;
@@ -43,7 +43,7 @@ public final class AsyncWrite extends AsyncCommand {
 		Bin[] bins,
 		Operation.Type operation
 	) {
-		super(writePolicy, true);
+		super(writePolicy, true, key.namespace);
 		this.listener = listener;
 		this.writePolicy = writePolicy;
 		this.key = key;
@@ -76,12 +76,23 @@ public final class NettyCommand implements Runnable, TimerTask {
 	final boolean hasTotalTimeout;
 	boolean usingSocketTimeout;
 	boolean eventReceived;
+	boolean paused;
 	boolean connectInProgress;
 
 	public NettyCommand(NettyEventLoop loop, Cluster cluster, AsyncCommand command) {
 		this.eventLoop = loop;
 		this.cluster = cluster;
 		this.command = command;
+		command.latencyBegin = (cluster.latencyStats)? System.nanoTime() : 0;
+
+		if (! command.isTend()) {
+			cluster.incrCommandCount();
+
+			if (cluster.metricsListener != null) {
+				cluster.metricsListener.onCommandStart(command.getLatencyType());
+			}
+		}
+
 		this.eventState = cluster.eventState[loop.index];
 		this.timeoutTask = new HashedWheelTimeout(this);
 		command.bufferQueue = loop.bufferQueue;
@@ -105,6 +116,7 @@ public final class NettyCommand implements Runnable, TimerTask {
 		this.eventLoop = other.eventLoop;
 		this.cluster = other.cluster;
 		this.command = command;
+		command.latencyBegin = other.command.latencyBegin;
 		this.eventState = other.eventState;
 		this.timeoutTask = new HashedWheelTimeout(this);
 		this.totalDeadline = other.totalDeadline;
@@ -170,7 +182,8 @@ public final class NettyCommand implements Runnable, TimerTask {
 			}
 		}
 
-		if (eventLoop.maxCommandsInProcess > 0) {
+		// Tend requests are not throttled so cluster tending keeps up under load.
+		if (eventLoop.maxCommandsInProcess > 0 && ! command.isTend()) {
 			// Delay queue takes precedence over new commands.
 			eventLoop.executeFromDelayQueue();
 
@@ -253,9 +266,20 @@ public final class NettyCommand implements Runnable, TimerTask {
 		state = AsyncCommand.CHANNEL_INIT;
 		iteration++;
 
+		if (iteration > 1 && ! command.isTend()) {
+			cluster.incrRetryCount();
+
+			if (cluster.metricsListener != null) {
+				cluster.metricsListener.onCommandRetry(node, command.getLatencyType(), iteration);
+			}
+		}
+
 		try {
 			node = command.getNode(cluster);
-			node.validateErrorCount();
+
+			if (! command.isTend()) {
+				node.validateErrorCount();
+			}
 			conn = (NettyConnection)node.getAsyncConnection(eventState.index, null);
 
 			if (conn != null) {
@@ -701,6 +725,7 @@ public final class NettyCommand implements Runnable, TimerTask {
 			// Prepare for next group.
 			state = AsyncCommand.COMMAND_READ_HEADER;
 			command.dataOffset = 0;
+			pauseRead();
 		} while (true);
 	}
 
@@ -730,15 +755,55 @@ public final class NettyCommand implements Runnable, TimerTask {
 		// Prepare for next group.
 		state = AsyncCommand.COMMAND_READ_HEADER;
 		command.dataOffset = 0;
+		pauseRead();
 		readMultiHeader(byteBuffer);
 	}
 
+	private void pauseRead() {
+		// Stop reading from socket at record group boundary when the consumer has no demand.
+		// Bytes that have already been received are still parsed.
+		if (paused || command.demand == null || command.demand.hasDemand()) {
+			return;
+		}
+
+		paused = true;
+		conn.channel.config().setAutoRead(false);
+		command.demand.await(new Runnable() {
+			public void run() {
+				eventLoop.execute(new Runnable() {
+					public void run() {
+						resumeRead();
+					}
+				});
+			}
+		});
+	}
+
+	private void resumeRead() {
+		if (! paused) {
+			return;
+		}
+
+		paused = false;
+
+		if ((state == AsyncCommand.COMMAND_READ_HEADER || state == AsyncCommand.COMMAND_READ_BODY) && conn != null) {
+			// Restart socket timeout from the time of resume.
+			eventReceived = true;
+			conn.channel.config().setAutoRead(true);
+		}
+	}
+
 	@Override
 	public final void timeout() {
 		if (state == AsyncCommand.COMPLETE) {
 			return;
 		}
 
+		if (paused) {
+			// Socket is idle because the consumer has no demand. Only total timeout applies.
+			eventReceived = true;
+		}
+
 		long currentTime = 0;
 
 		if (hasTotalTimeout) {
@@ -786,6 +851,8 @@ public final class NettyCommand implements Runnable, TimerTask {
 			return;
 		}
 
+		notifyTimeout(true);
+
 		// Recover connection when possible.
 		recoverConnection();
 
@@ -822,6 +889,8 @@ public final class NettyCommand implements Runnable, TimerTask {
 	private void totalTimeout() {
 		AerospikeException ae = new AerospikeException.Timeout(command.policy, true);
 
+		notifyTimeout(true);
+
 		if (state == AsyncCommand.DELAY_QUEUE) {
 			// Command timed out in delay queue.
 			closeFromDelayQueue();
@@ -875,6 +944,10 @@ public final class NettyCommand implements Runnable, TimerTask {
 	private void finish() {
 		closeKeepConnection();
 
+		if (cluster.latencyStats) {
+			command.addLatency(node);
+		}
+
 		try {
 			command.onSuccess();
 		}
@@ -890,6 +963,10 @@ public final class NettyCommand implements Runnable, TimerTask {
 			return;
 		}
 
+		if (! command.isTend()) {
+			cluster.signalRoutingError();
+		}
+
 		try {
 			closeConnection();
 			retry(ae, true);
@@ -909,6 +986,7 @@ public final class NettyCommand implements Runnable, TimerTask {
 	}
 
 	private void onServerTimeout() {
+		notifyTimeout(false);
 		retryServerError(new AerospikeException.Timeout(command.policy, false));
 	}
 
@@ -919,7 +997,10 @@ public final class NettyCommand implements Runnable, TimerTask {
 
 		try {
 			putConnection();
-			node.incrErrorCount();
+
+			if (! command.isTend()) {
+				node.incrErrorCount();
+			}
 			retry(ae, false);
 		}
 		catch (Throwable e) {
@@ -1020,6 +1101,10 @@ public final class NettyCommand implements Runnable, TimerTask {
 			return;
 		}
 
+		if (ae.getResultCode() == ResultCode.PARTITION_UNAVAILABLE) {
+			cluster.signalRoutingError();
+		}
+
 		if (ae.keepConnection()) {
 			closeKeepConnection();
 		}
@@ -1043,12 +1128,28 @@ public final class NettyCommand implements Runnable, TimerTask {
 		}
 	}
 
+	private void notifyTimeout(boolean client) {
+		if (command.isTend()) {
+			return;
+		}
+
+		cluster.incrTimeoutCount();
+
+		if (cluster.metricsListener != null) {
+			cluster.metricsListener.onCommandTimeout(node, command.getLatencyType(), client);
+		}
+	}
+
 	private void notifyFailure(AerospikeException ae) {
 		try {
 			ae.setNode(node);
 			ae.setPolicy(command.policy);
 			ae.setIteration(iteration);
 			ae.setInDoubt(command.isWrite(), command.commandSentCounter);
+
+			if (cluster.latencyStats) {
+				command.addLatency(node);
+			}
 			command.onFailure(ae);
 		}
 		catch (Throwable e) {
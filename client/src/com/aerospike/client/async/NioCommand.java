@@ -48,11 +48,22 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 	final boolean hasTotalTimeout;
 	boolean usingSocketTimeout;
 	boolean eventReceived;
+	boolean paused;
 
 	public NioCommand(NioEventLoop eventLoop, Cluster cluster, AsyncCommand command) {
 		this.eventLoop = eventLoop;
 		this.cluster = cluster;
 		this.command = command;
+		command.latencyBegin = (cluster.latencyStats)? System.nanoTime() : 0;
+
+		if (! command.isTend()) {
+			cluster.incrCommandCount();
+
+			if (cluster.metricsListener != null) {
+				cluster.metricsListener.onCommandStart(command.getLatencyType());
+			}
+		}
+
 		this.eventState = cluster.eventState[eventLoop.index];
 		this.timeoutTask = new HashedWheelTimeout(this);
 		command.bufferQueue = eventLoop.bufferQueue;
@@ -77,6 +88,7 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 		this.eventLoop = other.eventLoop;
 		this.cluster = other.cluster;
 		this.command = command;
+		command.latencyBegin = other.command.latencyBegin;
 		this.eventState = other.eventState;
 		this.timeoutTask = new HashedWheelTimeout(this);
 		this.totalDeadline = other.totalDeadline;
@@ -142,7 +154,8 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 			}
 		}
 
-		if (eventLoop.maxCommandsInProcess > 0) {
+		// Tend requests are not throttled so cluster tending keeps up under load.
+		if (eventLoop.maxCommandsInProcess > 0 && ! command.isTend()) {
 			// Delay queue takes precedence over new commands.
 			eventLoop.executeFromDelayQueue();
 
@@ -219,9 +232,20 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 		state = AsyncCommand.CONNECT;
 		iteration++;
 
+		if (iteration > 1 && ! command.isTend()) {
+			cluster.incrRetryCount();
+
+			if (cluster.metricsListener != null) {
+				cluster.metricsListener.onCommandRetry(node, command.getLatencyType(), iteration);
+			}
+		}
+
 		try {
 			node = command.getNode(cluster);
-			node.validateErrorCount();
+
+			if (! command.isTend()) {
+				node.validateErrorCount();
+			}
 			byteBuffer = eventLoop.getByteBuffer();
 			conn = (NioConnection)node.getAsyncConnection(eventLoop.index, byteBuffer);
 
@@ -578,6 +602,10 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 			return;
 		}
 
+		if (pauseRead()) {
+			return;
+		}
+
 		// In the interest of fairness, only one group of records should be read at a time.
 		// There is, however, one exception.  The server returns the end code in a separate
 		// group that only has one dummy record header.  Therefore, we continue to read
@@ -596,7 +624,44 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 			if (! conn.read(byteBuffer)) {
 				return;
 			}
-			parseGroupBody();
+
+			if (parseGroupBody()) {
+				pauseRead();
+			}
+		}
+	}
+
+	private final boolean pauseRead() {
+		// Stop reading at record group boundary when the consumer has no demand.
+		if (command.demand == null || command.demand.hasDemand()) {
+			return false;
+		}
+
+		paused = true;
+		conn.unregisterRead();
+		command.demand.await(new Runnable() {
+			public void run() {
+				eventLoop.execute(new Runnable() {
+					public void run() {
+						resumeRead();
+					}
+				});
+			}
+		});
+		return true;
+	}
+
+	private final void resumeRead() {
+		if (! paused) {
+			return;
+		}
+
+		paused = false;
+
+		if (state == AsyncCommand.COMMAND_READ_HEADER && conn != null) {
+			// Restart socket timeout from the time of resume.
+			eventReceived = true;
+			conn.registerRead();
 		}
 	}
 
@@ -665,6 +730,11 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 			return;
 		}
 
+		if (paused) {
+			// Socket is idle because the consumer has no demand. Only total timeout applies.
+			eventReceived = true;
+		}
+
 		long currentTime = 0;
 
 		if (hasTotalTimeout) {
@@ -712,6 +782,8 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 			return;
 		}
 
+		notifyTimeout(true);
+
 		// Recover connection when possible.
 		recoverConnection();
 
@@ -748,6 +820,8 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 	private final void totalTimeout() {
 		AerospikeException ae = new AerospikeException.Timeout(command.policy, true);
 
+		notifyTimeout(true);
+
 		if (state == AsyncCommand.DELAY_QUEUE) {
 			// Command timed out in delay queue.
 			closeFromDelayQueue();
@@ -787,6 +861,10 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 	protected final void finish() {
 		complete();
 
+		if (cluster.latencyStats) {
+			command.addLatency(node);
+		}
+
 		try {
 			command.onSuccess();
 		}
@@ -801,6 +879,10 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 		if (state == AsyncCommand.COMPLETE) {
 			return;
 		}
+
+		if (! command.isTend()) {
+			cluster.signalRoutingError();
+		}
 		closeConnection();
 		retry(ae, queueCommand);
 	}
@@ -811,6 +893,7 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 		}
 		conn.unregister();
 		node.putAsyncConnection(conn, eventLoop.index);
+		notifyTimeout(false);
 
 		AerospikeException ae = new AerospikeException.Timeout(command.policy, false);
 		retry(ae, false);
@@ -822,7 +905,10 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 		}
 		conn.unregister();
 		node.putAsyncConnection(conn, eventLoop.index);
-		node.incrErrorCount();
+
+		if (! command.isTend()) {
+			node.incrErrorCount();
+		}
 		retry(ae, false);
 	}
 
@@ -913,6 +999,10 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 			return;
 		}
 
+		if (ae.getResultCode() == ResultCode.PARTITION_UNAVAILABLE) {
+			cluster.signalRoutingError();
+		}
+
 		if (ae.keepConnection()) {
 			// Put connection back in pool.
 			complete();
@@ -926,12 +1016,28 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 		eventLoop.tryDelayQueue();
 	}
 
+	private final void notifyTimeout(boolean client) {
+		if (command.isTend()) {
+			return;
+		}
+
+		cluster.incrTimeoutCount();
+
+		if (cluster.metricsListener != null) {
+			cluster.metricsListener.onCommandTimeout(node, command.getLatencyType(), client);
+		}
+	}
+
 	private final void notifyFailure(AerospikeException ae) {
 		try {
 			ae.setNode(node);
 			ae.setPolicy(command.policy);
 			ae.setIteration(iteration);
 			ae.setInDoubt(command.isWrite(), command.commandSentCounter);
+
+			if (cluster.latencyStats) {
+				command.addLatency(node);
+			}
 			command.onFailure(ae);
 		}
 		catch (Exception e) {
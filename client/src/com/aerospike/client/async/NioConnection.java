@@ -95,6 +95,13 @@ public final class NioConnection extends AsyncConnection implements Closeable {
 		key.interestOps(SelectionKey.OP_READ);
 	}
 
+	/**
+	 * Stop read events while keeping the command attached.
+	 */
+	public void unregisterRead() {
+		key.interestOps(0);
+	}
+
 	/**
 	 * Read till byteBuffer limit reached or received would-block.
 	 */
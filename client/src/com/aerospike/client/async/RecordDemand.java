@@ -0,0 +1,111 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.async;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Number of records a consumer is willing to receive from an asynchronous scan or query.
+ * <p>
+ * Each record sent to the listener consumes one unit of demand. When demand is exhausted,
+ * scan/query commands stop reading from their sockets at the next record group boundary
+ * until demand is added with {@link #request(long)}. Since reading stops at group boundaries,
+ * each node command may deliver up to one record group beyond the requested demand.
+ * <p>
+ * This class is thread-safe. {@link #request(long)} may be called from any thread.
+ */
+public final class RecordDemand {
+	private final AtomicLong demand;
+	private final Queue<Runnable> waiters;
+
+	/**
+	 * Construct with initial demand.
+	 */
+	public RecordDemand(long initialDemand) {
+		this.demand = new AtomicLong(initialDemand);
+		this.waiters = new ConcurrentLinkedQueue<Runnable>();
+	}
+
+	/**
+	 * Add n records to demand and resume paused commands. Use Long.MAX_VALUE for unbounded demand.
+	 */
+	public void request(long n) {
+		long current;
+		long next;
+
+		do {
+			current = demand.get();
+
+			if (current == Long.MAX_VALUE) {
+				next = current;
+				break;
+			}
+			next = current + n;
+
+			if (next < current) {
+				next = Long.MAX_VALUE;
+			}
+		} while (! demand.compareAndSet(current, next));
+
+		if (next > 0) {
+			resume();
+		}
+	}
+
+	/**
+	 * Return remaining demand. The value may be negative when more records were
+	 * received than requested.
+	 */
+	public long getDemand() {
+		return demand.get();
+	}
+
+	final boolean hasDemand() {
+		return demand.get() > 0;
+	}
+
+	final void consume() {
+		if (demand.get() != Long.MAX_VALUE) {
+			demand.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Register paused command. The resume task is run when demand becomes available.
+	 */
+	final void await(Runnable resumeTask) {
+		waiters.offer(resumeTask);
+
+		// Demand may have been added before the task was registered.
+		if (hasDemand()) {
+			resume();
+		}
+	}
+
+	/**
+	 * Run all resume tasks regardless of demand. Used when commands are stopped.
+	 */
+	final void resume() {
+		Runnable task;
+
+		while ((task = waiters.poll()) != null) {
+			task.run();
+		}
+	}
+}
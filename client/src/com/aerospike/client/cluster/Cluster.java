@@ -24,18 +24,24 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 
 import com.aerospike.client.AerospikeException;
 import com.aerospike.client.Host;
+import com.aerospike.client.Info;
 import com.aerospike.client.Log;
 import com.aerospike.client.ResultCode;
 import com.aerospike.client.admin.AdminCommand;
+import com.aerospike.client.async.AsyncInfoCommand;
 import com.aerospike.client.async.EventLoop;
 import com.aerospike.client.async.EventLoopStats;
 import com.aerospike.client.async.EventLoops;
@@ -46,8 +52,10 @@ import com.aerospike.client.async.NioEventLoops;
 import com.aerospike.client.cluster.Node.AsyncPool;
 import com.aerospike.client.command.Buffer;
 import com.aerospike.client.listener.ClusterStatsListener;
+import com.aerospike.client.listener.MetricsListener;
 import com.aerospike.client.policy.AuthMode;
 import com.aerospike.client.policy.ClientPolicy;
+import com.aerospike.client.policy.ConnPoolType;
 import com.aerospike.client.policy.TCPKeepAlive;
 import com.aerospike.client.policy.TlsPolicy;
 import com.aerospike.client.util.ThreadLocalData;
@@ -104,6 +112,14 @@ public class Cluster implements Runnable, Closeable {
 	// Count of connections in recover queue.
 	private final AtomicInteger recoverCount;
 
+	// Periodic stats file writer.
+	private final StatsWriter statsWriter;
+
+	// Command counters.
+	private final LongAdder commandCount;
+	private final LongAdder retryCount;
+	private final LongAdder timeoutCount;
+
 	// Thread-safe queue of sync connections to be recovered.
 	private final ConcurrentLinkedDeque<ConnectionRecover> recoverQueue;
 
@@ -140,6 +156,24 @@ public class Cluster implements Runnable, Closeable {
 	// Sync connection pools per node.
 	protected final int connPoolsPerNode;
 
+	// Sync connection pool implementation.
+	final ConnPoolType connPoolType;
+
+	// Pin each thread to one sync connection pool per node.
+	final boolean connPoolAffinity;
+
+	// Shared pipelined sync connections per node.
+	public final int pipelineConnsPerNode;
+
+	// Max commands outstanding per pipelined connection.
+	final int pipelineDepth;
+
+	// Record command latency histograms per node.
+	public final boolean latencyStats;
+
+	// Command, connection, node and tend event listener.
+	public final MetricsListener metricsListener;
+
 	// Max errors per node per errorRateWindow.
 	int maxErrorRate;
 
@@ -161,9 +195,44 @@ public class Cluster implements Runnable, Closeable {
 	// Interval in milliseconds between cluster tends.
 	private final int tendInterval;
 
+	// Adaptive tend interval bounds. Adaptive tending is disabled when tendIntervalMin is zero.
+	private final int tendIntervalMin;
+	private final int tendIntervalMax;
+
+	// Did the current cluster tend detect peers or partition changes? Only accessed by tend thread.
+	private boolean tendChanged;
+
+	// Has a command failed because a node was not available or a partition had no node?
+	private volatile boolean routingError;
+
+	// Minimum nanoseconds between tends started early by routing errors. Zero if disabled.
+	private final long routingErrorTendNanos;
+
+	// Earliest time the next routing error may start a tend early.
+	private final AtomicLong routingErrorTendTime;
+
+	// Wakes tend thread sleep when a tend is requested.
+	private final Object tendMonitor = new Object();
+	private boolean tendRequested;
+
 	// Cluster tend counter
 	private int tendCount;
 
+	// Duration in nanoseconds of the most recent cluster tend.
+	private volatile long tendNanos;
+
+	// Partition replicas that changed owner in the current cluster tend. Only accessed by tend thread.
+	int partitionsMoved;
+
+	// Partition replicas that changed owner in the most recent cluster tend.
+	private volatile int tendPartitionsMoved;
+
+	// Pool used to send node info requests concurrently. Null if nodes are tended serially.
+	private final ExecutorService tendPool;
+
+	// Send tend info requests as async commands on the event loops.
+	private final boolean asyncTend;
+
 	// Tend thread variables.
 	private Thread tendThread;
 	protected volatile boolean tendValid;
@@ -267,11 +336,21 @@ public class Cluster implements Runnable, Closeable {
 		}
 
 		connPoolsPerNode = policy.connPoolsPerNode;
+		connPoolType = (policy.connPoolType != null)? policy.connPoolType : ConnPoolType.LOCK;
+		connPoolAffinity = policy.connPoolAffinity;
+		pipelineConnsPerNode = policy.pipelineConnsPerNode;
+		pipelineDepth = (policy.pipelineDepth > 0)? policy.pipelineDepth : 1;
+		latencyStats = policy.latencyStats;
+		metricsListener = policy.metricsListener;
 		maxErrorRate = policy.maxErrorRate;
 		errorRateWindow = policy.errorRateWindow;
 		connectTimeout = policy.timeout;
 		loginTimeout = policy.loginTimeout;
 		tendInterval = policy.tendInterval;
+		tendIntervalMin = (policy.tendIntervalMin > 0 && policy.tendIntervalMin < tendInterval)? policy.tendIntervalMin : 0;
+		tendIntervalMax = (policy.tendIntervalMax > tendInterval)? policy.tendIntervalMax : tendInterval;
+		routingErrorTendNanos = (policy.routingErrorTendInterval > 0)? TimeUnit.MILLISECONDS.toNanos(policy.routingErrorTendInterval) : 0;
+		routingErrorTendTime = new AtomicLong(System.nanoTime());
 		ipMap = policy.ipMap;
 		keepAlive = policy.keepAlive;
 
@@ -282,6 +361,7 @@ public class Cluster implements Runnable, Closeable {
 			threadPool = policy.threadPool;
 		}
 		sharedThreadPool = policy.sharedThreadPool;
+		tendPool = (policy.tendThreads > 1)? Executors.newFixedThreadPool(policy.tendThreads, new ThreadDaemonFactory()) : null;
 		useServicesAlternate = policy.useServicesAlternate;
 		rackAware = policy.rackAware;
 
@@ -305,9 +385,14 @@ public class Cluster implements Runnable, Closeable {
 		nodeIndex = new AtomicInteger();
 		replicaIndex = new AtomicInteger();
 		recoverCount = new AtomicInteger();
+		commandCount = new LongAdder();
+		retryCount = new LongAdder();
+		timeoutCount = new LongAdder();
+		statsWriter = (policy.statsFile != null)? new StatsWriter(policy) : null;
 		recoverQueue = new ConcurrentLinkedDeque<ConnectionRecover>();
 
 		eventLoops = policy.eventLoops;
+		asyncTend = policy.asyncTend && eventLoops != null;
 
 		if (eventLoops != null) {
 			EventLoop[] loops = eventLoops.getArray();
@@ -391,6 +476,7 @@ public class Cluster implements Runnable, Closeable {
 					nodeArray.set(i, node);
 				}
 			}
+			partitions.publishRoutes();
 		}
 	}
 
@@ -479,7 +565,11 @@ public class Cluster implements Runnable, Closeable {
 	}
 
 	public final void run() {
+		int interval = tendInterval;
+
 		while (tendValid) {
+			long begin = System.nanoTime();
+
 			// Tend cluster.
 			try {
 				tend(false, false);
@@ -489,8 +579,73 @@ public class Cluster implements Runnable, Closeable {
 					Log.warn("Cluster tend failed: " + Util.getErrorMessage(e));
 				}
 			}
+
+			tendNanos = System.nanoTime() - begin;
+
+			if (metricsListener != null) {
+				metricsListener.onTendComplete(tendNanos);
+			}
+
+			if (statsWriter != null) {
+				statsWriter.tryWrite(this);
+			}
 			// Sleep between polling intervals.
-			Util.sleep(tendInterval);
+			interval = nextTendInterval(interval);
+			sleepTend(interval);
+		}
+	}
+
+	private final void sleepTend(int interval) {
+		synchronized (tendMonitor) {
+			// A zero interval means tend continuously. Do not call wait(0), which never times out.
+			if (! tendRequested && interval > 0) {
+				try {
+					tendMonitor.wait(interval);
+				}
+				catch (InterruptedException ie) {
+				}
+			}
+			tendRequested = false;
+		}
+	}
+
+	private final int nextTendInterval(int interval) {
+		if (tendIntervalMin == 0) {
+			return tendInterval;
+		}
+
+		if (tendChanged || routingError) {
+			// Poll faster until the cluster is stable.
+			routingError = false;
+			return tendIntervalMin;
+		}
+
+		// Back off while the cluster is stable.
+		int next = interval * 2;
+		return (next < tendIntervalMax)? next : tendIntervalMax;
+	}
+
+	/**
+	 * Signal that a command failed because a node was not available or a partition had
+	 * no node. Adaptive tending uses this to shorten the next tend interval. If routing
+	 * error tends are enabled, the tend thread is also woken up, at most once per
+	 * routingErrorTendInterval.
+	 */
+	public final void signalRoutingError() {
+		if (! routingError) {
+			routingError = true;
+		}
+
+		if (routingErrorTendNanos > 0) {
+			long now = System.nanoTime();
+			long next = routingErrorTendTime.get();
+
+			if (now - next >= 0 && routingErrorTendTime.compareAndSet(next, now + routingErrorTendNanos)) {
+				synchronized (tendMonitor) {
+					tendRequested = true;
+					tendMonitor.notify();
+				}
+			}
 		}
 	}
 
@@ -501,6 +656,8 @@ public class Cluster implements Runnable, Closeable {
 		// All node additions/deletions are performed in tend thread.
 		// Initialize tend iteration node statistics.
 		Peers peers = new Peers(nodes.length + 16);
+		partitionsMoved = 0;
+		tendChanged = false;
 
 		// Clear node reference counts.
 		for (Node node : nodes) {
@@ -520,9 +677,7 @@ public class Cluster implements Runnable, Closeable {
 		}
 		else {
 			// Refresh all known nodes.
-			for (Node node : nodes) {
-				node.refresh(peers);
-			}
+			refreshNodes(peers);
 
 			// Refresh peers when necessary.
 			if (peers.genChanged) {
@@ -550,18 +705,32 @@ public class Cluster implements Runnable, Closeable {
 		}
 
 		invalidNodeCount = peers.getInvalidCount();
+		tendChanged = peers.genChanged;
 
 		// Refresh partition map when necessary.
+		if (asyncTend) {
+			requestPartitionsAsync(peers);
+		}
+		else if (tendPool != null) {
+			requestPartitions(peers);
+		}
+
 		for (Node node : nodes) {
 			if (node.partitionChanged) {
 				node.refreshPartitions(peers);
+				tendChanged = true;
 			}
 
-			if (node.rebalanceChanged) {
+			if (node.rebalanceChanged && (tendPool == null || asyncTend)) {
 				node.refreshRacks();
 			}
 		}
 
+		tendPartitionsMoved = partitionsMoved;
+
+		if (partitionsMoved > 0 && Log.debugEnabled()) {
+			Log.debug("Partition replicas moved: " + partitionsMoved);
+		}
 		tendCount++;
 
 		// Balance connections every 30 tend iterations.
@@ -604,6 +773,234 @@ public class Cluster implements Runnable, Closeable {
 		processRecoverQueue();
 	}
 
+	private final void refreshNodes(Peers peers) {
+		if (asyncTend) {
+			refreshNodesAsync(peers);
+			return;
+		}
+
+		if (tendPool == null) {
+			for (Node node : nodes) {
+				node.refresh(peers);
+			}
+			return;
+		}
+
+		// Each node refresh updates its own peers instance. Merge in node order afterwards.
+		final Node[] nodeArray = nodes;
+		final Peers[] nodePeers = new Peers[nodeArray.length];
+
+		for (int i = 0; i < nodePeers.length; i++) {
+			nodePeers[i] = new Peers(0);
+		}
+
+		runTendTasks(nodeArray.length, new TendTask() {
+			public void run(int index) {
+				nodeArray[index].refresh(nodePeers[index]);
+			}
+		});
+
+		for (Peers np : nodePeers) {
+			peers.refreshCount += np.refreshCount;
+
+			if (np.genChanged) {
+				peers.genChanged = true;
+			}
+		}
+	}
+
+	private final void requestPartitions(final Peers peers) {
+		// Partition maps are only requested here. They are parsed serially in node order by the
+		// tend thread because all nodes update the same cluster partition map.
+		final Node[] nodeArray = nodes;
+
+		runTendTasks(nodeArray.length, new TendTask() {
+			public void run(int index) {
+				Node node = nodeArray[index];
+
+				if (node.partitionChanged) {
+					node.requestPartitions(peers);
+				}
+
+				if (node.rebalanceChanged) {
+					node.refreshRacks();
+				}
+			}
+		});
+	}
+
+	private final void refreshNodesAsync(Peers peers) {
+		Node[] nodeArray = nodes;
+		boolean[] requested = new boolean[nodeArray.length];
+
+		for (int i = 0; i < nodeArray.length; i++) {
+			requested[i] = nodeArray[i].prepareAsyncRefresh(peers);
+		}
+
+		String[] commands = (nodeArray.length > 0)? nodeArray[0].getRefreshCommands() : null;
+		AtomicReferenceArray<Object> results = requestAsync(nodeArray, requested, commands);
+
+		for (int i = 0; i < nodeArray.length; i++) {
+			if (requested[i]) {
+				nodeArray[i].refresh(peers, results.get(i));
+			}
+		}
+	}
+
+	private final void requestPartitionsAsync(Peers peers) {
+		Node[] nodeArray = nodes;
+		boolean[] requested = new boolean[nodeArray.length];
+
+		for (int i = 0; i < nodeArray.length; i++) {
+			Node node = nodeArray[i];
+			requested[i] = node.partitionChanged && node.shouldRefreshPartitions(peers);
+		}
+
+		AtomicReferenceArray<Object> results = requestAsync(nodeArray, requested, PartitionParser.PartitionGeneration,
+			PartitionParser.Replicas);
+
+		for (int i = 0; i < nodeArray.length; i++) {
+			if (requested[i]) {
+				nodeArray[i].setPartitionInfo(results.get(i));
+			}
+		}
+	}
+
+	/**
+	 * Send info commands to the requested nodes on the event loops and wait for the responses.
+	 * Each result is an {@link Info} response or the exception that caused the request to fail.
+	 */
+	private final AtomicReferenceArray<Object> requestAsync(Node[] nodeArray, boolean[] requested, String... commands) {
+		final AtomicReferenceArray<Object> results = new AtomicReferenceArray<Object>(nodeArray.length);
+		int count = 0;
+
+		for (boolean r : requested) {
+			if (r) {
+				count++;
+			}
+		}
+
+		if (count == 0) {
+			return results;
+		}
+
+		final CountDownLatch latch = new CountDownLatch(count);
+		int timeout = (connectTimeout > 0)? connectTimeout : 1000;
+
+		for (int i = 0; i < nodeArray.length; i++) {
+			if (! requested[i]) {
+				continue;
+			}
+
+			final int index = i;
+
+			AsyncInfoCommand.TendListener listener = new AsyncInfoCommand.TendListener() {
+				public void onSuccess(Info info) {
+					results.set(index, info);
+					latch.countDown();
+				}
+
+				public void onFailure(AerospikeException ae) {
+					results.set(index, ae);
+					latch.countDown();
+				}
+			};
+
+			try {
+				eventLoops.next().execute(this, new AsyncInfoCommand(listener, nodeArray[i], timeout, commands));
+			}
+			catch (AerospikeException ae) {
+				listener.onFailure(ae);
+			}
+		}
+
+		boolean interrupted = false;
+
+		try {
+			// Commands time out on their own. The extra wait covers event loop queue delays.
+			long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout * 2L + 1000);
+			long remaining;
+
+			while ((remaining = deadline - System.nanoTime()) > 0) {
+				try {
+					if (latch.await(remaining, TimeUnit.NANOSECONDS)) {
+						break;
+					}
+				}
+				catch (InterruptedException ie) {
+					interrupted = true;
+				}
+			}
+		}
+		finally {
+			if (interrupted) {
+				// Preserve interrupt so the following tend sleep is cut short.
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		// Treat requests that have not completed as failures.
+		for (int i = 0; i < nodeArray.length; i++) {
+			if (requested[i]) {
+				results.compareAndSet(i, null, new AerospikeException.Timeout(timeout, false));
+			}
+		}
+		return results;
+	}
+
+	private final void runTendTasks(int count, final TendTask task) {
+		final CountDownLatch latch = new CountDownLatch(count);
+
+		for (int i = 0; i < count; i++) {
+			final int index = i;
+			Runnable runnable = new Runnable() {
+				public void run() {
+					try {
+						task.run(index);
+					}
+					catch (Throwable e) {
+						if (Log.warnEnabled()) {
+							Log.warn("Cluster tend task failed: " + Util.getErrorMessage(e));
+						}
+					}
+					finally {
+						latch.countDown();
+					}
+				}
+			};
+
+			try {
+				tendPool.execute(runnable);
+			}
+			catch (RejectedExecutionException ree) {
+				// Tend pool has been shutdown by close().
+				runnable.run();
+			}
+		}
+
+		// Tasks modify node state, so always wait for them to complete.
+		boolean interrupted = false;
+
+		while (true) {
+			try {
+				latch.await();
+				break;
+			}
+			catch (InterruptedException ie) {
+				interrupted = true;
+			}
+		}
+
+		if (interrupted) {
+			// Preserve interrupt so the following tend sleep is cut short.
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private interface TendTask {
+		void run(int index);
+	}
+
 	private final boolean seedNode(Peers peers, boolean failIfNotConnected) {
 		// Must copy array reference for copy on write semantics to work.
 		Host[] seedArray = seeds;
@@ -979,6 +1376,18 @@ public class Cluster implements Runnable, Closeable {
 		return null;
 	}
 
+	public final void incrCommandCount() {
+		commandCount.increment();
+	}
+
+	public final void incrRetryCount() {
+		retryCount.increment();
+	}
+
+	public final void incrTimeoutCount() {
+		timeoutCount.increment();
+	}
+
 	public final boolean isConnCurrentTran(long lastUsed) {
 		return maxSocketIdleNanosTran == 0 || (System.nanoTime() - lastUsed) <= maxSocketIdleNanosTran;
 	}
@@ -1027,6 +1436,30 @@ public class Cluster implements Runnable, Closeable {
 		}
 	}
 
+	/**
+	 * Return cluster level statistics without node statistics. Event loop statistics are
+	 * read without blocking, so they are approximate. Latency histograms are not reset.
+	 */
+	final ClusterStats getStatsSummary() {
+		int threadsInUse = 0;
+
+		if (threadPool instanceof ThreadPoolExecutor) {
+			threadsInUse = ((ThreadPoolExecutor)threadPool).getActiveCount();
+		}
+
+		EventLoopStats[] eventLoopStats = null;
+
+		if (eventLoops != null) {
+			EventLoop[] eventLoopArray = eventLoops.getArray();
+			eventLoopStats = new EventLoopStats[eventLoopArray.length];
+
+			for (int i = 0; i < eventLoopArray.length; i++) {
+				eventLoopStats[i] = new EventLoopStats(eventLoopArray[i]);
+			}
+		}
+		return new ClusterStats(new NodeStats[0], eventLoopStats, threadsInUse, recoverCount.get(), invalidNodeCount, commandCount.sum(), retryCount.sum(), timeoutCount.sum(), tendNanos, tendPartitionsMoved);
+	}
+
 	public final ClusterStats getStats() {
 		// Get sync statistics.
 		final Node[] nodeArray = nodes;
@@ -1064,7 +1497,7 @@ public class Cluster implements Runnable, Closeable {
 					for (int i = 0; i < nodeArray.length; i++) {
 						nodeStats[i].async = nodeArray[i].getAsyncConnectionStats();
 					}
-					return new ClusterStats(nodeStats, eventLoopStats, threadsInUse, recoverCount.get(), invalidNodeCount);
+					return new ClusterStats(nodeStats, eventLoopStats, threadsInUse, recoverCount.get(), invalidNodeCount, commandCount.sum(), retryCount.sum(), timeoutCount.sum(), tendNanos, tendPartitionsMoved);
 				}
 			}
 
@@ -1111,7 +1544,7 @@ public class Cluster implements Runnable, Closeable {
 				nodeStats[i].async = new ConnectionStats(inUse, inPool, opened, closed);
 			}
 		}
-		return new ClusterStats(nodeStats, eventLoopStats, threadsInUse, recoverCount.get(), invalidNodeCount);
+		return new ClusterStats(nodeStats, eventLoopStats, threadsInUse, recoverCount.get(), invalidNodeCount, commandCount.sum(), retryCount.sum(), timeoutCount.sum(), tendNanos, tendPartitionsMoved);
 	}
 
 	public final void getStats(ClusterStatsListener listener) {
@@ -1134,7 +1567,7 @@ public class Cluster implements Runnable, Closeable {
 
 			if (eventLoops == null) {
 				try {
-					listener.onSuccess(new ClusterStats(nodeStats, null, threadsInUse, recoverCount.get(), invalidNodeCount));
+					listener.onSuccess(new ClusterStats(nodeStats, null, threadsInUse, recoverCount.get(), invalidNodeCount, commandCount.sum(), retryCount.sum(), timeoutCount.sum(), tendNanos, tendPartitionsMoved));
 				}
 				catch (Throwable e) {
 				}
@@ -1179,7 +1612,7 @@ public class Cluster implements Runnable, Closeable {
 							}
 
 							try {
-								listener.onSuccess(new ClusterStats(nodeStats, loopStats, threadCount, recoverCount.get(), invalidNodeCount));
+								listener.onSuccess(new ClusterStats(nodeStats, loopStats, threadCount, recoverCount.get(), invalidNodeCount, commandCount.sum(), retryCount.sum(), timeoutCount.sum(), tendNanos, tendPartitionsMoved));
 							}
 							catch (Throwable e) {
 							}
@@ -1305,6 +1738,10 @@ public class Cluster implements Runnable, Closeable {
 		tendValid = false;
 		tendThread.interrupt();
 
+		if (tendPool != null) {
+			tendPool.shutdown();
+		}
+
 		if (! sharedThreadPool) {
 			// Shutdown synchronous thread pool.
 			threadPool.shutdown();
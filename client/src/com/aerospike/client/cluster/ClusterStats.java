@@ -17,6 +17,10 @@
 package com.aerospike.client.cluster;
 
 import com.aerospike.client.async.EventLoopStats;
+import com.aerospike.client.command.CompressionStats;
+import com.aerospike.client.command.Compressor;
+import com.aerospike.client.util.BufferArena;
+import com.aerospike.client.util.BufferArenaStats;
 
 /**
  * Cluster statistics.
@@ -49,7 +53,43 @@ public final class ClusterStats {
 	public final int invalidNodeCount;
 
 	/**
-	 * Cluster statistics constructor.
+	 * Number of commands started since the cluster was created.
+	 */
+	public final long commandCount;
+
+	/**
+	 * Number of command retries since the cluster was created.
+	 */
+	public final long retryCount;
+
+	/**
+	 * Number of command client and server timeouts since the cluster was created.
+	 */
+	public final long timeoutCount;
+
+	/**
+	 * Duration in nanoseconds of the most recent cluster tend iteration.
+	 */
+	public final long tendNanos;
+
+	/**
+	 * Number of partition replicas that changed owner in the most recent cluster tend iteration.
+	 */
+	public final int partitionsMoved;
+
+	/**
+	 * Large buffer arena statistics. The arena is shared by all clusters in the process.
+	 */
+	public final BufferArenaStats bufferArena;
+
+	/**
+	 * Command compression statistics totals for all clusters in the process. They are not
+	 * specific to this cluster.
+	 */
+	public final CompressionStats processCompression;
+
+	/**
+	 * Cluster statistics constructor. Command and tend counters are set to zero.
 	 */
 	public ClusterStats(
 		NodeStats[] nodes,
@@ -57,12 +97,37 @@ public final class ClusterStats {
 		int threadsInUse,
 		int recoverQueueSize,
 		int invalidNodeCount
+	) {
+		this(nodes, eventLoops, threadsInUse, recoverQueueSize, invalidNodeCount, 0, 0, 0, 0, 0);
+	}
+
+	/**
+	 * Cluster statistics constructor used by {@link Cluster}.
+	 */
+	ClusterStats(
+		NodeStats[] nodes,
+		EventLoopStats[] eventLoops,
+		int threadsInUse,
+		int recoverQueueSize,
+		int invalidNodeCount,
+		long commandCount,
+		long retryCount,
+		long timeoutCount,
+		long tendNanos,
+		int partitionsMoved
 	) {
 		this.nodes = nodes;
 		this.eventLoops = eventLoops;
 		this.threadsInUse = threadsInUse;
 		this.recoverQueueSize = recoverQueueSize;
 		this.invalidNodeCount = invalidNodeCount;
+		this.commandCount = commandCount;
+		this.retryCount = retryCount;
+		this.timeoutCount = timeoutCount;
+		this.tendNanos = tendNanos;
+		this.partitionsMoved = partitionsMoved;
+		this.bufferArena = BufferArena.getStats();
+		this.processCompression = Compressor.getStats();
 	}
 
 	/**
@@ -100,6 +165,14 @@ public final class ClusterStats {
 		sb.append("recoverQueueSize: " + recoverQueueSize);
 		sb.append(System.lineSeparator());
 		sb.append("invalidNodeCount: " + invalidNodeCount);
+		sb.append(System.lineSeparator());
+		sb.append("commands(count,retries,timeouts): " + commandCount + ',' + retryCount + ',' + timeoutCount);
+		sb.append(System.lineSeparator());
+		sb.append("tend(micros,partitionsMoved): " + (tendNanos / 1000) + ',' + partitionsMoved);
+		sb.append(System.lineSeparator());
+		sb.append("bufferArena(hits,misses,drops,retainedBytes): " + bufferArena);
+		sb.append(System.lineSeparator());
+		sb.append("processCompression(compressed,rejected,skipped,bytesSaved,millis): " + processCompression);
 		return sb.toString();
 	}
 }
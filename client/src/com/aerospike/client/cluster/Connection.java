@@ -49,14 +49,14 @@ public final class Connection implements Closeable {
 	private final Socket socket;
 	private final InputStream in;
 	private final OutputStream out;
-	protected final Pool pool;
+	protected final ConnectionPool pool;
 	private volatile long lastUsed;
 
 	public Connection(InetSocketAddress address, int timeoutMillis) throws AerospikeException.Connection {
 		this(address, timeoutMillis, null, null);
 	}
 
-	public Connection(InetSocketAddress address, int timeoutMillis, Node node, Pool pool) throws AerospikeException.Connection {
+	public Connection(InetSocketAddress address, int timeoutMillis, Node node, ConnectionPool pool) throws AerospikeException.Connection {
 		this.pool = pool;
 
 		try {
@@ -100,7 +100,7 @@ public final class Connection implements Closeable {
 		this(policy, tlsName, address, timeoutMillis, null, null);
 	}
 
-	public Connection(TlsPolicy policy, String tlsName, InetSocketAddress address, int timeoutMillis, Node node, Pool pool) throws AerospikeException.Connection {
+	public Connection(TlsPolicy policy, String tlsName, InetSocketAddress address, int timeoutMillis, Node node, ConnectionPool pool) throws AerospikeException.Connection {
 		this.pool = pool;
 
 		try {
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2012-2021 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.cluster;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.aerospike.client.policy.ConnPoolType;
+
+/**
+ * Base class of sync connection pools. A pool is a concurrent bounded LIFO stack of
+ * connections.
+ * <p>
+ * The head of the stack holds the most recently used connection and the tail
+ * holds the least recently used connection, so idle connections can be trimmed
+ * from the tail.
+ */
+public abstract class ConnectionPool {
+
+	final int minSize;
+	final AtomicInteger total;  // total connections: inUse + inPool
+
+	protected ConnectionPool(int minSize) {
+		this.minSize = minSize;
+		total = new AtomicInteger();
+	}
+
+	/**
+	 * Create pool of the given type.
+	 */
+	public static ConnectionPool create(ConnPoolType type, int minSize, int maxSize) {
+		switch (type) {
+		case LOCK_FREE:
+			return new LockFreePool(minSize, maxSize);
+
+		case LOCK:
+		default:
+			return new Pool(minSize, maxSize);
+		}
+	}
+
+	/**
+	 * Return maximum number of connections stored in the pool.
+	 */
+	public abstract int capacity();
+
+	/**
+	 * Return number of connections that might be closed.
+	 */
+	public final int excess() {
+		return total.get() - minSize;
+	}
+
+	/**
+	 * Insert connection at head of stack.
+	 */
+	public abstract boolean offer(Connection conn);
+
+	/**
+	 * Pop connection from head of stack.
+	 */
+	public abstract Connection poll();
+
+	/**
+	 * Close connections that are idle for more than maxSocketIdle up to count.
+	 */
+	abstract void closeIdle(Node node, int count);
+
+	final void closeIdle(Node node, Connection conn) {
+		total.getAndDecrement();
+		node.closeIdleConnection(conn);
+	}
+
+	/**
+	 * Return item count.
+	 */
+	public abstract int size();
+}
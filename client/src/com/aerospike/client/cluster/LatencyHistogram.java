@@ -0,0 +1,79 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.cluster;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with power of two microsecond buckets.
+ * Bucket 0 counts latencies up to 1 microsecond. Bucket i counts latencies greater than
+ * 2^(i-1) and up to 2^i microseconds. The last bucket counts all larger latencies.
+ */
+public final class LatencyHistogram {
+	/**
+	 * Number of buckets. The last bounded bucket ends at 2^(BUCKETS-2) microseconds (~4.2 seconds).
+	 */
+	public static final int BUCKETS = 24;
+
+	private final AtomicLongArray buckets;
+	private final AtomicLong totalMicros;
+
+	public LatencyHistogram() {
+		this.buckets = new AtomicLongArray(BUCKETS);
+		this.totalMicros = new AtomicLong();
+	}
+
+	/**
+	 * Record command latency.
+	 */
+	public void add(long nanos) {
+		long micros = nanos / 1000;
+		buckets.incrementAndGet(getBucket(micros));
+		totalMicros.addAndGet(micros);
+	}
+
+	/**
+	 * Return counts recorded since the last snapshot and reset them.
+	 */
+	public LatencyStats snapshot(String namespace, LatencyType type) {
+		long[] counts = new long[BUCKETS];
+		long count = 0;
+
+		for (int i = 0; i < BUCKETS; i++) {
+			counts[i] = buckets.getAndSet(i, 0);
+			count += counts[i];
+		}
+
+		if (count == 0) {
+			return null;
+		}
+		return new LatencyStats(namespace, type, counts, count, totalMicros.getAndSet(0));
+	}
+
+	/**
+	 * Return bucket index for latency in microseconds.
+	 */
+	public static int getBucket(long micros) {
+		if (micros <= 1) {
+			return 0;
+		}
+
+		int index = 64 - Long.numberOfLeadingZeros(micros - 1);
+		return (index < BUCKETS)? index : BUCKETS - 1;
+	}
+}
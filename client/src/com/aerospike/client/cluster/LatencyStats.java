@@ -0,0 +1,91 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.cluster;
+
+/**
+ * Latency statistics for one node, namespace and command type since the previous snapshot.
+ */
+public final class LatencyStats {
+	/**
+	 * Command namespace. Empty string for batch commands, which may span namespaces.
+	 */
+	public final String namespace;
+
+	/**
+	 * Command type.
+	 */
+	public final LatencyType type;
+
+	/**
+	 * Command counts per bucket. See {@link LatencyHistogram} for bucket boundaries.
+	 */
+	public final long[] buckets;
+
+	/**
+	 * Total number of commands.
+	 */
+	public final long count;
+
+	/**
+	 * Sum of command latencies in microseconds.
+	 */
+	public final long totalMicros;
+
+	/**
+	 * Latency statistics constructor.
+	 */
+	public LatencyStats(String namespace, LatencyType type, long[] buckets, long count, long totalMicros) {
+		this.namespace = namespace;
+		this.type = type;
+		this.buckets = buckets;
+		this.count = count;
+		this.totalMicros = totalMicros;
+	}
+
+	/**
+	 * Return average latency in microseconds.
+	 */
+	public long getAverageMicros() {
+		return (count > 0)? totalMicros / count : 0;
+	}
+
+	/**
+	 * Return upper bound in microseconds of the bucket that contains the given percentile
+	 * (0.0 - 100.0). Return -1 if the percentile falls in the last (unbounded) bucket.
+	 */
+	public long getPercentileMicros(double percentile) {
+		long limit = (long)Math.ceil(count * percentile / 100.0);
+		long sum = 0;
+
+		for (int i = 0; i < buckets.length; i++) {
+			sum += buckets[i];
+
+			if (sum >= limit) {
+				return (i < buckets.length - 1)? 1L << i : -1;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Convert statistics to string.
+	 */
+	public String toString() {
+		return namespace + ',' + type + ',' + count + ',' + getAverageMicros() + ',' +
+			getPercentileMicros(50.0) + ',' + getPercentileMicros(99.0) + ',' + getPercentileMicros(99.9);
+	}
+}
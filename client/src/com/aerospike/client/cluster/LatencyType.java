@@ -0,0 +1,52 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.cluster;
+
+/**
+ * Command categories used to group latency statistics.
+ */
+public enum LatencyType {
+	/**
+	 * Single record read, exists and read header commands.
+	 */
+	READ,
+
+	/**
+	 * Single record write, delete, touch and operate commands that write.
+	 */
+	WRITE,
+
+	/**
+	 * Batch commands. Latency is recorded per node command.
+	 */
+	BATCH,
+
+	/**
+	 * Scan commands. Latency is recorded per node command.
+	 */
+	SCAN,
+
+	/**
+	 * Query commands. Latency is recorded per node command.
+	 */
+	QUERY,
+
+	/**
+	 * Single record user defined function commands.
+	 */
+	UDF
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.cluster;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrent bounded LIFO stack of connections that does not use locks.
+ * <p>
+ * ConcurrentLinkedDeque is not bounded and it's size() method is too expensive,
+ * so the bound and size are tracked by a separate atomic counter. A slot is
+ * reserved in the counter before the connection is pushed, so the deque never
+ * holds more than capacity connections.
+ */
+public final class LockFreePool extends ConnectionPool {
+
+	private final ConcurrentLinkedDeque<Connection> conns;
+	private final AtomicInteger size;
+	private final int capacity;
+
+	public LockFreePool(int minSize, int maxSize) {
+		super(minSize);
+		conns = new ConcurrentLinkedDeque<Connection>();
+		size = new AtomicInteger();
+		capacity = maxSize;
+	}
+
+	@Override
+	public int capacity() {
+		return capacity;
+	}
+
+	/**
+	 * Insert connection at head of stack.
+	 */
+	@Override
+	public boolean offer(Connection conn) {
+		if (conn == null) {
+			throw new NullPointerException();
+		}
+
+		if (size.getAndIncrement() >= capacity) {
+			size.getAndDecrement();
+			return false;
+		}
+		conns.offerFirst(conn);
+		return true;
+	}
+
+	/**
+	 * Pop connection from head of stack.
+	 */
+	@Override
+	public Connection poll() {
+		Connection conn = conns.pollFirst();
+
+		if (conn != null) {
+			size.getAndDecrement();
+		}
+		return conn;
+	}
+
+	/**
+	 * Close connections that are idle for more than maxSocketIdle up to count.
+	 */
+	@Override
+	void closeIdle(Node node, int count) {
+		final Cluster cluster = node.cluster;
+
+		while (count > 0) {
+			// The oldest connection is at tail.
+			Connection conn = conns.pollLast();
+
+			if (conn == null) {
+				return;
+			}
+
+			if (cluster.isConnCurrentTrim(conn.getLastUsed())) {
+				// Put connection back at tail. Its slot is still reserved in size,
+				// so the bound is not exceeded.
+				conns.offerLast(conn);
+				return;
+			}
+
+			size.getAndDecrement();
+			closeIdle(node, conn);
+			count--;
+		}
+	}
+
+	/**
+	 * Return item count.
+	 */
+	@Override
+	public int size() {
+		return size.get();
+	}
+}
@@ -22,9 +22,11 @@ import java.net.InetSocketAddress;
 import java.net.SocketTimeoutException;
 import java.nio.ByteBuffer;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import com.aerospike.client.AerospikeException;
@@ -40,6 +42,7 @@ import com.aerospike.client.async.EventLoop;
 import com.aerospike.client.async.EventState;
 import com.aerospike.client.async.Monitor;
 import com.aerospike.client.async.NettyConnection;
+import com.aerospike.client.listener.MetricsListener;
 import com.aerospike.client.util.Util;
 
 /**
@@ -64,9 +67,13 @@ public class Node implements Closeable {
 	private final Host host;
 	protected final List<Host> aliases;
 	protected final InetSocketAddress address;
-	private final Pool[] connectionPools;
+	private final ConnectionPool[] connectionPools;
 	private final AsyncPool[] asyncConnectionPools;
+	private final Pipeline[] pipelines;
+	private final ConcurrentHashMap<String,LatencyHistogram[]> latency;
 	private Connection tendConnection;
+	private Info partitionInfo;
+	byte[] partitionBitmap;
 	private byte[] sessionToken;
 	private long sessionExpiration;
 	private volatile Map<String,Integer> racks;
@@ -74,6 +81,7 @@ public class Node implements Closeable {
 	final AtomicInteger connsClosed;
 	private final AtomicInteger errorCount;
 	protected int connectionIter;
+	private int pipelineIter;
 	private int peersGeneration;
 	int partitionGeneration;
 	private int rebalanceGeneration;
@@ -114,7 +122,7 @@ public class Node implements Closeable {
 		this.active = true;
 
 		// Create sync connection pools.
-		connectionPools = new Pool[cluster.connPoolsPerNode];
+		connectionPools = new ConnectionPool[cluster.connPoolsPerNode];
 		int min = cluster.minConnsPerNode / cluster.connPoolsPerNode;
 		int remMin = cluster.minConnsPerNode - (min * cluster.connPoolsPerNode);
 		int max = cluster.maxConnsPerNode / cluster.connPoolsPerNode;
@@ -124,10 +132,23 @@ public class Node implements Closeable {
 			int minSize = i < remMin ? min + 1 : min;
 			int maxSize = i < remMax ? max + 1 : max;
 
-			Pool pool = new Pool(minSize, maxSize);
+			ConnectionPool pool = ConnectionPool.create(cluster.connPoolType, minSize, maxSize);
 			connectionPools[i] = pool;
 		}
 
+		this.latency = cluster.latencyStats ? new ConcurrentHashMap<String,LatencyHistogram[]>() : null;
+
+		if (cluster.pipelineConnsPerNode > 0) {
+			pipelines = new Pipeline[cluster.pipelineConnsPerNode];
+
+			for (int i = 0; i < pipelines.length; i++) {
+				pipelines[i] = new Pipeline(this, cluster.pipelineDepth);
+			}
+		}
+		else {
+			pipelines = null;
+		}
+
 		EventState[] eventState = cluster.eventState;
 
 		if (eventState == null) {
@@ -151,7 +172,7 @@ public class Node implements Closeable {
 
 	public final void createMinConnections() {
 		// Create sync connections.
-		for (Pool pool : connectionPools) {
+		for (ConnectionPool pool : connectionPools) {
 			if (pool.minSize > 0) {
 				createConnections(pool, pool.minSize);
 			}
@@ -207,53 +228,64 @@ public class Node implements Closeable {
 		}
 
 		try {
-			if (tendConnection.isClosed()) {
-				tendConnection = (cluster.tlsPolicy != null && !cluster.tlsPolicy.forLoginOnly) ?
-					new Connection(cluster.tlsPolicy, host.tlsName, address, cluster.connectTimeout, this, null) :
-					new Connection(address, cluster.connectTimeout, this, null);
+			prepareTendConnection();
 
-				connsOpened.getAndIncrement();
+			HashMap<String,String> infoMap = Info.request(tendConnection, getRefreshCommands());
+			verifyRefresh(infoMap, peers);
+		}
+		catch (Exception e) {
+			peers.genChanged = true;
+			refreshFailed(e);
+		}
+	}
 
-				if (cluster.authEnabled) {
-					byte[] token = sessionToken;
+	/**
+	 * Return info commands sent on every tend iteration.
+	 */
+	final String[] getRefreshCommands() {
+		return cluster.rackAware ? INFO_PERIODIC_REB : INFO_PERIODIC;
+	}
 
-					if (token == null || shouldLogin()) {
-						login();
-					}
-					else {
-						if (! AdminCommand.authenticate(cluster, tendConnection, token)) {
-							// Authentication failed. Session token probably expired.
-							// Login again to get new session token.
-							login();
-						}
-					}
-				}
+	/**
+	 * Prepare node for a refresh where the info request is sent asynchronously on an
+	 * event loop. Login with the tend connection when required. Return false if the
+	 * node should not be refreshed.
+	 */
+	final boolean prepareAsyncRefresh(Peers peers) {
+		if (! active) {
+			return false;
+		}
+
+		if (cluster.authEnabled && (sessionToken == null || shouldLogin())) {
+			try {
+				prepareTendConnection();
 			}
-			else {
-				if (cluster.authEnabled && shouldLogin()) {
-					login();
-				}
+			catch (Exception e) {
+				peers.genChanged = true;
+				refreshFailed(e);
+				return false;
 			}
+		}
+		return true;
+	}
 
-			String[] commands = cluster.rackAware ? INFO_PERIODIC_REB : INFO_PERIODIC;
-			HashMap<String,String> infoMap = Info.request(tendConnection, commands);
-
-			verifyNodeName(infoMap);
-			verifyPeersGeneration(infoMap, peers);
-			verifyPartitionGeneration(infoMap);
+	/**
+	 * Apply refresh info response that was received asynchronously.
+	 * The result is either an {@link Info} response or the exception that caused the request to fail.
+	 * A failed async request falls back to a blocking request on the tend connection.
+	 */
+	final void refresh(Peers peers, Object result) {
+		if (result instanceof Exception) {
+			refresh(peers);
+			return;
+		}
 
-			if (cluster.rackAware) {
-				verifyRebalanceGeneration(infoMap);
-			}
-			peers.refreshCount++;
+		if (! active) {
+			return;
+		}
 
-			// Reload peers, partitions and racks if there were failures on previous tend.
-			if (failures > 0) {
-				peers.genChanged = true;
-				partitionChanged = true;
-				rebalanceChanged = cluster.rackAware;
-			}
-			failures = 0;
+		try {
+			verifyRefresh(((Info)result).parseMultiResponse(), peers);
 		}
 		catch (Exception e) {
 			peers.genChanged = true;
@@ -261,6 +293,56 @@ public class Node implements Closeable {
 		}
 	}
 
+	private void prepareTendConnection() throws IOException {
+		if (tendConnection.isClosed()) {
+			tendConnection = (cluster.tlsPolicy != null && !cluster.tlsPolicy.forLoginOnly) ?
+				new Connection(cluster.tlsPolicy, host.tlsName, address, cluster.connectTimeout, this, null) :
+				new Connection(address, cluster.connectTimeout, this, null);
+
+			connsOpened.getAndIncrement();
+			notifyConnectionOpened(false);
+
+			if (cluster.authEnabled) {
+				byte[] token = sessionToken;
+
+				if (token == null || shouldLogin()) {
+					login();
+				}
+				else {
+					if (! AdminCommand.authenticate(cluster, tendConnection, token)) {
+						// Authentication failed. Session token probably expired.
+						// Login again to get new session token.
+						login();
+					}
+				}
+			}
+		}
+		else {
+			if (cluster.authEnabled && shouldLogin()) {
+				login();
+			}
+		}
+	}
+
+	private void verifyRefresh(HashMap<String,String> infoMap, Peers peers) {
+		verifyNodeName(infoMap);
+		verifyPeersGeneration(infoMap, peers);
+		verifyPartitionGeneration(infoMap);
+
+		if (cluster.rackAware) {
+			verifyRebalanceGeneration(infoMap);
+		}
+		peers.refreshCount++;
+
+		// Reload peers, partitions and racks if there were failures on previous tend.
+		if (failures > 0) {
+			peers.genChanged = true;
+			partitionChanged = true;
+			rebalanceChanged = cluster.rackAware;
+		}
+		failures = 0;
+	}
+
 	private boolean shouldLogin() {
 		return performLogin || (sessionExpiration > 0 && System.nanoTime() >= sessionExpiration);
 	}
@@ -409,6 +491,7 @@ public class Node implements Closeable {
 			if (Log.debugEnabled()) {
 				Log.debug("Update peers for node " + this);
 			}
+			prepareTendConnection();
 			PeerParser parser = new PeerParser(cluster, tendConnection, peers.peers);
 			peersCount = peers.peers.size();
 
@@ -498,12 +581,37 @@ public class Node implements Closeable {
 		return false;
 	}
 
+	/**
+	 * Request partition map from server node without parsing it. This may run concurrently
+	 * with other nodes. The response is applied by {@link #refreshPartitions(Peers)}.
+	 */
+	protected final void requestPartitions(Peers peers) {
+		if (! shouldRefreshPartitions(peers)) {
+			return;
+		}
+
+		try {
+			partitionInfo = PartitionParser.request(tendConnection);
+		}
+		catch (Exception e) {
+			refreshFailed(e);
+		}
+	}
+
+	/**
+	 * Store partition map response that was requested asynchronously. The result is either
+	 * an {@link Info} response or the exception that caused the request to fail. On failure,
+	 * {@link #refreshPartitions(Peers)} requests the map on the tend connection instead.
+	 */
+	final void setPartitionInfo(Object result) {
+		partitionInfo = (result instanceof Info) ? (Info)result : null;
+	}
+
 	protected final void refreshPartitions(Peers peers) {
-		// Do not refresh partitions when node connection has already failed during this cluster tend iteration.
-		// Also, avoid "split cluster" case where this node thinks it's a 1-node cluster.
-		// Unchecked, such a node can dominate the partition map and cause all other
-		// nodes to be dropped.
-		if (failures > 0 || ! active || (peersCount == 0 && peers.refreshCount > 1)) {
+		Info info = partitionInfo;
+		partitionInfo = null;
+
+		if (! shouldRefreshPartitions(peers)) {
 			return;
 		}
 
@@ -511,18 +619,43 @@ public class Node implements Closeable {
 			if (Log.debugEnabled()) {
 				Log.debug("Update partition map for node " + this);
 			}
-			PartitionParser parser = new PartitionParser(tendConnection, this, cluster.partitionMap, Node.PARTITIONS);
+			if (info == null) {
+				prepareTendConnection();
+				info = PartitionParser.request(tendConnection);
+			}
+
+			PartitionParser parser = new PartitionParser(info, this, cluster.partitionMap, Node.PARTITIONS);
+
+			HashMap<String,Partitions> map = parser.getPartitionMap();
+
+			// Publish routing snapshots before a copied map becomes visible to commands.
+			for (Partitions partitions : parser.getChangedPartitions()) {
+				partitions.publishRoutes();
+			}
+			cluster.partitionsMoved += parser.getMovedCount();
 
 			if (parser.isPartitionMapCopied()) {
-				cluster.partitionMap = parser.getPartitionMap();
+				cluster.partitionMap = map;
 			}
 			partitionGeneration = parser.getGeneration();
+
+			if (cluster.metricsListener != null) {
+				cluster.metricsListener.onPartitionMapUpdate(this);
+			}
 		}
 		catch (Exception e) {
 			refreshFailed(e);
 		}
 	}
 
+	final boolean shouldRefreshPartitions(Peers peers) {
+		// Do not refresh partitions when node connection has already failed during this cluster tend iteration.
+		// Also, avoid "split cluster" case where this node thinks it's a 1-node cluster.
+		// Unchecked, such a node can dominate the partition map and cause all other
+		// nodes to be dropped.
+		return failures == 0 && active && ! (peersCount == 0 && peers.refreshCount > 1);
+	}
+
 	protected final void refreshRacks() {
 		// Do not refresh racks when node connection has already failed during this cluster tend iteration.
 		if (failures > 0 || ! active) {
@@ -533,6 +666,7 @@ public class Node implements Closeable {
 			if (Log.debugEnabled()) {
 				Log.debug("Update racks for node " + this);
 			}
+			prepareTendConnection();
 			RackParser parser = new RackParser(tendConnection, this);
 
 			rebalanceGeneration = parser.getGeneration();
@@ -556,7 +690,7 @@ public class Node implements Closeable {
 		}
 	}
 
-	private void createConnections(Pool pool, int count) {
+	private void createConnections(ConnectionPool pool, int count) {
 		// Create sync connections.
 		while (count > 0) {
 			Connection conn;
@@ -584,13 +718,14 @@ public class Node implements Closeable {
 		}
 	}
 
-	private Connection createConnection(Pool pool) {
+	final Connection createConnection(ConnectionPool pool) {
 		// Create sync connection.
 		Connection conn = (cluster.tlsPolicy != null && !cluster.tlsPolicy.forLoginOnly) ?
 				new Connection(cluster.tlsPolicy, host.tlsName, address, cluster.connectTimeout, this, pool) :
 				new Connection(address, cluster.connectTimeout, this, pool);
 
 		connsOpened.getAndIncrement();
+		notifyConnectionOpened(false);
 
 		if (cluster.authEnabled) {
 			byte[] token = sessionToken;
@@ -645,10 +780,18 @@ public class Node implements Closeable {
 		int max = cluster.connPoolsPerNode;
 		int initialIndex;
 		boolean backward;
+		boolean steal;
 
 		if (max == 1) {
 			initialIndex = 0;
 			backward = false;
+			steal = false;
+		}
+		else if (cluster.connPoolAffinity) {
+			// Each thread always starts with the same pool.
+			initialIndex = (int)(Thread.currentThread().getId() % max);
+			backward = true;
+			steal = true;
 		}
 		else {
 			int iter = connectionIter++; // not atomic by design
@@ -657,15 +800,26 @@ public class Node implements Closeable {
 				initialIndex += max;
 			}
 			backward = true;
+			steal = false;
 		}
 
-		Pool pool = connectionPools[initialIndex];
+		ConnectionPool pool = connectionPools[initialIndex];
 		int queueIndex = initialIndex;
 		Connection conn;
 
 		while (true) {
 			conn = pool.poll();
 
+			if (conn == null && steal) {
+				// Own pool is empty. Reuse an idle connection from a neighbor pool
+				// before creating a new connection.
+				conn = stealConnection(initialIndex, max);
+
+				if (conn == null) {
+					steal = false;
+				}
+			}
+
 			if (conn != null) {
 				// Found socket.
 				// Verify that socket is active.
@@ -681,7 +835,7 @@ public class Node implements Closeable {
 						throw new AerospikeException.Connection(e);
 					}
 				}
-				pool.closeIdle(this, conn);
+				conn.pool.closeIdle(this, conn);
 			}
 			else if (pool.total.getAndIncrement() < pool.capacity()) {
 				// Socket not found and queue has available slot.
@@ -694,6 +848,7 @@ public class Node implements Closeable {
 						new Connection(address, timeout, this, pool);
 
 					connsOpened.getAndIncrement();
+					notifyConnectionOpened(false);
 				}
 				catch (RuntimeException re) {
 					pool.total.getAndDecrement();
@@ -783,6 +938,26 @@ public class Node implements Closeable {
 				"Node " + this + " max connections " + cluster.maxConnsPerNode + " would be exceeded.");
 	}
 
+	/**
+	 * Poll pools other than the given pool, nearest neighbor first.
+	 */
+	private Connection stealConnection(int index, int max) {
+		for (int i = 1; i < max; i++) {
+			int next = index + i;
+
+			if (next >= max) {
+				next -= max;
+			}
+
+			Connection conn = connectionPools[next].poll();
+
+			if (conn != null) {
+				return conn;
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * Put connection back into connection pool.
 	 *
@@ -794,6 +969,15 @@ public class Node implements Closeable {
 		}
 	}
 
+	/**
+	 * Get shared pipelined connection. Only valid when
+	 * {@link com.aerospike.client.policy.ClientPolicy#pipelineConnsPerNode} is enabled.
+	 */
+	public final Pipeline getPipeline() {
+		int iter = pipelineIter++; // not atomic by design
+		return pipelines[(iter & 0x7FFFFFFF) % pipelines.length];
+	}
+
 	/**
 	 * Close pooled connection on error and decrement connection count.
 	 */
@@ -809,6 +993,7 @@ public class Node implements Closeable {
 		connsClosed.getAndIncrement();
 		incrErrorCount();
 		conn.close();
+		notifyConnectionClosed(false, true);
 	}
 
 	/**
@@ -817,10 +1002,27 @@ public class Node implements Closeable {
 	public final void closeIdleConnection(Connection conn) {
 		connsClosed.getAndIncrement();
 		conn.close();
+		notifyConnectionClosed(false, false);
+	}
+
+	private final void notifyConnectionOpened(boolean async) {
+		MetricsListener listener = cluster.metricsListener;
+
+		if (listener != null) {
+			listener.onConnectionOpened(this, async);
+		}
+	}
+
+	private final void notifyConnectionClosed(boolean async, boolean error) {
+		MetricsListener listener = cluster.metricsListener;
+
+		if (listener != null) {
+			listener.onConnectionClosed(this, async, error);
+		}
 	}
 
 	final void balanceConnections() {
-		for (Pool pool : connectionPools) {
+		for (ConnectionPool pool : connectionPools) {
 			int excess = pool.excess();
 
 			if (excess > 0) {
@@ -836,7 +1038,7 @@ public class Node implements Closeable {
 		int inUse = 0;
 		int inPool = 0;
 
-		for (Pool pool : connectionPools) {
+		for (ConnectionPool pool : connectionPools) {
 			int tmp = pool.size();
 			inPool += tmp;
 			tmp = pool.total.get() - tmp;
@@ -847,9 +1049,67 @@ public class Node implements Closeable {
 			}
 			inUse += tmp;
 		}
+
+		if (pipelines != null) {
+			for (Pipeline pipeline : pipelines) {
+				inUse += pipeline.getConnectionCount();
+			}
+		}
 		return new ConnectionStats(inUse, inPool, connsOpened.get(), connsClosed.get());
 	}
 
+	/**
+	 * Record command latency. Only valid when {@link Cluster#latencyStats} is enabled.
+	 */
+	public final void addLatency(String namespace, LatencyType type, long nanos) {
+		if (namespace == null) {
+			namespace = "";
+		}
+
+		LatencyHistogram[] histograms = latency.get(namespace);
+
+		if (histograms == null) {
+			histograms = new LatencyHistogram[LatencyType.values().length];
+
+			for (int i = 0; i < histograms.length; i++) {
+				histograms[i] = new LatencyHistogram();
+			}
+
+			LatencyHistogram[] prev = latency.putIfAbsent(namespace, histograms);
+
+			if (prev != null) {
+				histograms = prev;
+			}
+		}
+		histograms[type.ordinal()].add(nanos);
+	}
+
+	/**
+	 * Return latency statistics recorded since the previous call and reset the counts.
+	 * Return null if latency statistics are not enabled.
+	 */
+	public final LatencyStats[] getLatencyStats() {
+		if (latency == null) {
+			return null;
+		}
+
+		ArrayList<LatencyStats> list = new ArrayList<LatencyStats>();
+		LatencyType[] types = LatencyType.values();
+
+		for (Map.Entry<String,LatencyHistogram[]> entry : latency.entrySet()) {
+			LatencyHistogram[] histograms = entry.getValue();
+
+			for (int i = 0; i < histograms.length; i++) {
+				LatencyStats stats = histograms[i].snapshot(entry.getKey(), types[i]);
+
+				if (stats != null) {
+					list.add(stats);
+				}
+			}
+		}
+		return list.toArray(new LatencyStats[list.size()]);
+	}
+
 	public final AsyncConnection getAsyncConnection(int index, ByteBuffer byteBuffer) {
 		AsyncPool pool = asyncConnectionPools[index];
 		ArrayDeque<AsyncConnection> queue = pool.queue;
@@ -883,6 +1143,7 @@ public class Node implements Closeable {
 
 	public final void connectionOpened(int index) {
 		asyncConnectionPools[index].opened++;
+		notifyConnectionOpened(true);
 	}
 
 	public final boolean putAsyncConnection(AsyncConnection conn, int index) {
@@ -921,6 +1182,7 @@ public class Node implements Closeable {
 		incrErrorCount();
 		asyncConnectionPools[index].connectionClosed();
 		conn.close();
+		notifyConnectionClosed(true, true);
 	}
 
 	/**
@@ -929,6 +1191,7 @@ public class Node implements Closeable {
 	public final void closeAsyncIdleConnection(AsyncConnection conn, int index) {
 		asyncConnectionPools[index].connectionClosed();
 		conn.close();
+		notifyConnectionClosed(true, false);
 	}
 
 	public final void decrAsyncConnection(int index) {
@@ -971,6 +1234,7 @@ public class Node implements Closeable {
 			queue.pollLast();
 			pool.connectionClosed();
 			conn.close();
+			notifyConnectionClosed(true, false);
 			count--;
 		}
 	}
@@ -1003,9 +1267,21 @@ public class Node implements Closeable {
 		return new ConnectionStats(inUse, inPool, opened, closed);
 	}
 
+	/**
+	 * Return error count in the current error rate window.
+	 */
+	public final int getErrorCount() {
+		return errorCount.get();
+	}
+
 	public final void incrErrorCount() {
 		if (cluster.maxErrorRate > 0) {
-			errorCount.getAndIncrement();
+			int count = errorCount.incrementAndGet();
+
+			if (count == cluster.maxErrorRate + 1 && cluster.metricsListener != null) {
+				// Error count has just exceeded the limit.
+				cluster.metricsListener.onNodeBackoff(this);
+			}
 		}
 	}
 
@@ -1193,11 +1469,17 @@ public class Node implements Closeable {
 		conn.close();
 
 		// Close synchronous connections.
-		for (Pool pool : connectionPools) {
+		for (ConnectionPool pool : connectionPools) {
 			while ((conn = pool.poll()) != null) {
 				conn.close();
 			}
 		}
+
+		if (pipelines != null) {
+			for (Pipeline pipeline : pipelines) {
+				pipeline.close();
+			}
+		}
 	}
 
 	public static final class AsyncPool {
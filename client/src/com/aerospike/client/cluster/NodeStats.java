@@ -35,18 +35,38 @@ public final class NodeStats {
 	 */
 	public ConnectionStats async;
 
+	/**
+	 * Command latency statistics recorded since the previous stats call.
+	 * This value will be null if {@link com.aerospike.client.policy.ClientPolicy#latencyStats}
+	 * is not enabled.
+	 */
+	public final LatencyStats[] latency;
+
 	/**
 	 * Node statistics constructor.
 	 */
 	public NodeStats(Node node) {
 		this.node = node;
 		this.sync = node.getConnectionStats();
+		this.latency = node.getLatencyStats();
 	}
 
 	/**
 	 * Convert statistics to string.
 	 */
 	public String toString() {
-		return node + " sync(" + sync + ") async(" + async + ')';
+		if (latency == null || latency.length == 0) {
+			return node + " sync(" + sync + ") async(" + async + ')';
+		}
+
+		StringBuilder sb = new StringBuilder(256);
+		sb.append(node + " sync(" + sync + ") async(" + async + ')');
+
+		for (LatencyStats stats : latency) {
+			sb.append(System.lineSeparator());
+			sb.append("  latency(ns,type,count,avg,p50,p99,p99.9): ");
+			sb.append(stats);
+		}
+		return sb.toString();
 	}
 }
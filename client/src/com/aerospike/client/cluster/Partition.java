@@ -17,7 +17,6 @@
 package com.aerospike.client.cluster;
 
 import java.util.HashMap;
-import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import com.aerospike.client.AerospikeException;
 import com.aerospike.client.Key;
@@ -27,7 +26,11 @@ import com.aerospike.client.policy.Replica;
 
 public final class Partition {
 
-	public static Partition write(Cluster cluster, Policy policy, Key key) {
+	private static Partitions getPartitions(Cluster cluster, Key key) {
+		if (key.handle != null) {
+			return key.handle.namespace.getPartitions(cluster);
+		}
+
 		// Must copy hashmap reference for copy on write semantics to work.
 		HashMap<String,Partitions> map = cluster.partitionMap;
 		Partitions partitions = map.get(key.namespace);
@@ -35,18 +38,17 @@ public final class Partition {
 		if (partitions == null) {
 			throw new AerospikeException.InvalidNamespace(key.namespace, map.size());
 		}
+		return partitions;
+	}
+
+	public static Partition write(Cluster cluster, Policy policy, Key key) {
+		Partitions partitions = getPartitions(cluster, key);
 
 		return new Partition(partitions, key, policy.replica, null, false);
 	}
 
 	public static Partition read(Cluster cluster, Policy policy, Key key) {
-		// Must copy hashmap reference for copy on write semantics to work.
-		HashMap<String,Partitions> map = cluster.partitionMap;
-		Partitions partitions = map.get(key.namespace);
-
-		if (partitions == null) {
-			throw new AerospikeException.InvalidNamespace(key.namespace, map.size());
-		}
+		Partitions partitions = getPartitions(cluster, key);
 
 		Replica replica;
 		boolean linearize;
@@ -96,12 +98,7 @@ public final class Partition {
 		Node prevNode,
 		int sequence
 	) {
-		HashMap<String,Partitions> map = cluster.partitionMap;
-		Partitions partitions = map.get(key.namespace);
-
-		if (partitions == null) {
-			throw new AerospikeException.InvalidNamespace(key.namespace, map.size());
-		}
+		Partitions partitions = getPartitions(cluster, key);
 
 		Partition p = new Partition(partitions, key, replica, prevNode, false);
 		p.sequence = sequence;
@@ -117,13 +114,7 @@ public final class Partition {
 		int sequence,
 		int sequenceSC
 	) {
-		// Must copy hashmap reference for copy on write semantics to work.
-		HashMap<String,Partitions> map = cluster.partitionMap;
-		Partitions partitions = map.get(key.namespace);
-
-		if (partitions == null) {
-			throw new AerospikeException.InvalidNamespace(key.namespace, map.size());
-		}
+		Partitions partitions = getPartitions(cluster, key);
 
 		if (partitions.scMode) {
 			replica = replicaSC;
@@ -205,25 +196,24 @@ public final class Partition {
 	}
 
 	private Node getSequenceNode(Cluster cluster) {
-		AtomicReferenceArray<Node>[] replicas = partitions.replicas;
-		int max = replicas.length;
+		Node[][] routes = partitions.routes;
+		int max = routes.length;
 
 		for (int i = 0; i < max; i++) {
 			int index = sequence % max;
-			Node node = replicas[index].get(partitionId);
+			Node node = routes[index][partitionId];
 
 			if (node != null && node.isActive()) {
 				return node;
 			}
 			sequence++;
 		}
-		Node[] nodeArray = cluster.getNodes();
-		throw new AerospikeException.InvalidNode(nodeArray.length, this);
+		throw invalidNode(cluster);
 	}
 
 	private Node getRackNode(Cluster cluster) {
-		AtomicReferenceArray<Node>[] replicas = partitions.replicas;
-		int max = replicas.length;
+		Node[][] routes = partitions.routes;
+		int max = routes.length;
 		int seq1 = 0;
 		int seq2 = 0;
 		Node fallback1 = null;
@@ -234,7 +224,7 @@ public final class Partition {
 
 			for (int i = 0; i < max; i++) {
 				int index = seq % max;
-				Node node = replicas[index].get(partitionId);
+				Node node = routes[index][partitionId];
 				// Log.info("Try " + rackId + ',' + index + ',' + prevNode + ',' + node + ',' + node.hasRack(namespace, rackId));
 
 				if (node != null) {
@@ -282,33 +272,37 @@ public final class Partition {
 		}
 
 		// Failed to find suitable node.
-		Node[] nodeArray = cluster.getNodes();
-		throw new AerospikeException.InvalidNode(nodeArray.length, this);
+		throw invalidNode(cluster);
 	}
 
 	private Node getMasterNode(Cluster cluster) {
-		Node node = partitions.replicas[0].get(partitionId);
+		Node node = partitions.routes[0][partitionId];
 
 		if (node != null && node.isActive()) {
 			return node;
 		}
-		Node[] nodeArray = cluster.getNodes();
-		throw new AerospikeException.InvalidNode(nodeArray.length, this);
+		throw invalidNode(cluster);
 	}
 
 	private Node getMasterProlesNode(Cluster cluster) {
-		AtomicReferenceArray<Node>[] replicas = partitions.replicas;
+		Node[][] routes = partitions.routes;
 
-		for (int i = 0; i < replicas.length; i++) {
-			int index = Math.abs(cluster.replicaIndex.getAndIncrement() % replicas.length);
-			Node node = replicas[index].get(partitionId);
+		for (int i = 0; i < routes.length; i++) {
+			int index = Math.abs(cluster.replicaIndex.getAndIncrement() % routes.length);
+			Node node = routes[index][partitionId];
 
 			if (node != null && node.isActive()) {
 				return node;
 			}
 		}
+		throw invalidNode(cluster);
+	}
+
+	private AerospikeException invalidNode(Cluster cluster) {
+		cluster.signalRoutingError();
+
 		Node[] nodeArray = cluster.getNodes();
-		throw new AerospikeException.InvalidNode(nodeArray.length, this);
+		return new AerospikeException.InvalidNode(nodeArray.length, this);
 	}
 
 	@Override
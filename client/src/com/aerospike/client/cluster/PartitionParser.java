@@ -16,14 +16,15 @@
  */
 package com.aerospike.client.cluster;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import com.aerospike.client.AerospikeException;
 import com.aerospike.client.Info;
 import com.aerospike.client.Log;
 import com.aerospike.client.command.Buffer;
-import com.aerospike.client.util.Crypto;
 
 /**
  * Parse node's master (and optionally prole) partitions.
@@ -31,6 +32,19 @@ import com.aerospike.client.util.Crypto;
 public final class PartitionParser {
 	static final String PartitionGeneration = "partition-generation";
 	static final String Replicas = "replicas";
+	private static final byte[] Base64Decode = new byte[128];
+
+	static {
+		String chars = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+
+		for (int i = 0; i < Base64Decode.length; i++) {
+			Base64Decode[i] = -1;
+		}
+
+		for (int i = 0; i < chars.length(); i++) {
+			Base64Decode[chars.charAt(i)] = (byte)i;
+		}
+	}
 
 	private HashMap<String,Partitions> map;
 	private final StringBuilder sb;
@@ -41,16 +55,22 @@ public final class PartitionParser {
 	private int offset;
 	private boolean copied;
 	private boolean regimeError;
+	private final List<Partitions> changed;
+	private int moved;
 
 	public PartitionParser(Connection conn, Node node, HashMap<String,Partitions> map, int partitionCount) {
-		// Send format 1:  partition-generation\nreplicas\n
-		// Send format 2:  partition-generation\nreplicas-all\n
-		// Send format 3:  partition-generation\nreplicas-master\n
+		this(request(conn), node, map, partitionCount);
+	}
+
+	/**
+	 * Parse partition info that was previously requested with {@link #request(Connection)}.
+	 */
+	public PartitionParser(Info info, Node node, HashMap<String,Partitions> map, int partitionCount) {
 		this.partitionCount = partitionCount;
 		this.map = map;
+		this.changed = new ArrayList<Partitions>();
 
 		String command = Replicas;
-		Info info = new Info(conn, PartitionGeneration, command);
 		this.length = info.length;
 
 		if (length == 0) {
@@ -66,6 +86,16 @@ public final class PartitionParser {
 		parseReplicasAll(node, command);
 	}
 
+	/**
+	 * Request partition generation and replicas from node.
+	 */
+	public static Info request(Connection conn) {
+		// Send format 1:  partition-generation\nreplicas\n
+		// Send format 2:  partition-generation\nreplicas-all\n
+		// Send format 3:  partition-generation\nreplicas-master\n
+		return new Info(conn, PartitionGeneration, Replicas);
+	}
+
 	public int getGeneration() {
 		return generation;
 	}
@@ -78,6 +108,20 @@ public final class PartitionParser {
 		return map;
 	}
 
+	/**
+	 * Return namespace partition maps where at least one partition changed owner.
+	 */
+	public List<Partitions> getChangedPartitions() {
+		return changed;
+	}
+
+	/**
+	 * Return number of partition replicas that changed owner to this node.
+	 */
+	public int getMovedCount() {
+		return moved;
+	}
+
 	private int parseGeneration() {
 		expectName(PartitionGeneration);
 
@@ -143,12 +187,15 @@ public final class PartitionParser {
 
 				// Ensure replicaCount is uniform.
 				Partitions partitions = map.get(namespace);
+				int movedBegin = moved;
+				boolean created = false;
 
 				if (partitions == null) {
 					// Create new replica array.
 					partitions = new Partitions(partitionCount, replicaCount, regime != 0);
 					copyPartitionMap();
 					map.put(namespace, partitions);
+					created = true;
 				}
 				else if (partitions.replicas.length != replicaCount) {
 					if (Log.infoEnabled()) {
@@ -161,6 +208,7 @@ public final class PartitionParser {
 					copyPartitionMap();
 					partitions = tmp;
 					map.put(namespace, partitions);
+					created = true;
 				}
 
 				// Parse partition bitmaps.
@@ -186,6 +234,10 @@ public final class PartitionParser {
 					// Log.info("Map: " + namespace + '[' + i + "] " + node);
 					decodeBitmap(node, partitions, i, regime, begin);
 				}
+
+				if (created || moved > movedBegin) {
+					changed.add(partitions);
+				}
 				begin = ++offset;
 			}
 			else {
@@ -197,12 +249,34 @@ public final class PartitionParser {
 	private void decodeBitmap(Node node, Partitions partitions, int index, int regime, int begin) {
 		AtomicReferenceArray<Node> nodeArray = partitions.replicas[index];
 		int[] regimes = partitions.regimes;
-		byte[] restoreBuffer = Crypto.decodeBase64(buffer, begin, offset - begin);
+		int bitmapSize = (partitionCount + 7) >> 3;
+		byte[] bitmap = node.partitionBitmap;
 
-		for (int i = 0; i < partitionCount; i++) {
-			Node nodeOld = nodeArray.get(i);
+		if (bitmap == null || bitmap.length < bitmapSize) {
+			bitmap = new byte[bitmapSize];
+			node.partitionBitmap = bitmap;
+		}
+
+		if (decodeBase64(begin, offset, bitmap) < bitmapSize) {
+			String response = getTruncatedResponse();
+			throw new AerospikeException.Parse("Partition bitmap too short for namespace replica " +
+				index + ". Response=" + response);
+		}
+
+		// Only visit partitions owned by this node. Skip 8 partitions at a time when none are owned.
+		for (int b = 0; b < bitmapSize; b++) {
+			int bits = bitmap[b] & 0xFF;
+
+			while (bits != 0) {
+				int bit = Integer.numberOfLeadingZeros(bits) - 24;
+				int i = (b << 3) + bit;
+
+				bits &= ~(0x80 >> bit);
+
+				if (i >= partitionCount) {
+					break;
+				}
 
-			if ((restoreBuffer[i >> 3] & (0x80 >> (i & 7))) != 0) {
 				// Node owns this partition.
 				int regimeOld = regimes[i];
 
@@ -212,16 +286,21 @@ public final class PartitionParser {
 						regimes[i] = regime;
 					}
 
-					if (nodeOld != null && nodeOld != node) {
-						// Force previously mapped node to refresh it's partition map on next cluster tend.
-						nodeOld.partitionGeneration = -1;
-					}
+					Node nodeOld = nodeArray.get(i);
 
-					// Use lazy set because there is only one producer thread. In addition,
-					// there is a one second delay due to the cluster tend polling interval.
-					// An extra millisecond for a node change will not make a difference and
-					// overall performance is improved.
-					nodeArray.lazySet(i, node);
+					if (nodeOld != node) {
+						if (nodeOld != null) {
+							// Force previously mapped node to refresh it's partition map on next cluster tend.
+							nodeOld.partitionGeneration = -1;
+						}
+
+						// Use lazy set because there is only one producer thread. In addition,
+						// there is a one second delay due to the cluster tend polling interval.
+						// An extra millisecond for a node change will not make a difference and
+						// overall performance is improved.
+						nodeArray.lazySet(i, node);
+						moved++;
+					}
 				}
 				else {
 					if (!regimeError) {
@@ -235,6 +314,43 @@ public final class PartitionParser {
 		}
 	}
 
+	/**
+	 * Decode base64 text between begin and end into out. Return number of decoded bytes.
+	 */
+	private int decodeBase64(int begin, int end, byte[] out) {
+		int count = 0;
+		int bits = 0;
+		int n = 0;
+
+		for (int i = begin; i < end; i++) {
+			int c = buffer[i];
+
+			if (c == '=') {
+				break;
+			}
+
+			int v = (c >= 0)? Base64Decode[c] : -1;
+
+			if (v < 0) {
+				String response = getTruncatedResponse();
+				throw new AerospikeException.Parse("Invalid partition bitmap character. Response=" + response);
+			}
+
+			bits = (bits << 6) | v;
+			n += 6;
+
+			if (n >= 8) {
+				n -= 8;
+
+				if (count < out.length) {
+					out[count] = (byte)(bits >> n);
+				}
+				count++;
+			}
+		}
+		return count;
+	}
+
 	private void copyPartitionMap() {
 		if (! copied) {
 			// Make shallow copy of map.
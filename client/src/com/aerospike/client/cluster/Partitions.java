@@ -23,6 +23,13 @@ public final class Partitions {
 	final int[] regimes;
 	public final boolean scMode;
 
+	/**
+	 * Immutable snapshot of {@link #replicas} indexed by [replica][partitionId].
+	 * Commands route keys against this snapshot, which is rebuilt and republished
+	 * by the tend thread after each partition map update.
+	 */
+	volatile Node[][] routes;
+
 	@SuppressWarnings("unchecked")
 	public Partitions(int partitionCount, int replicaCount, boolean scMode) {
 		this.replicas = new AtomicReferenceArray[replicaCount];
@@ -32,6 +39,7 @@ public final class Partitions {
 		}
 		this.regimes = new int[partitionCount];
 		this.scMode = scMode;
+		this.routes = new Node[replicaCount][partitionCount];
 	}
 
 	/**
@@ -62,5 +70,32 @@ public final class Partitions {
 		}
 		this.regimes = other.regimes;
 		this.scMode = other.scMode;
+		this.routes = new Node[replicaCount][other.regimes.length];
+	}
+
+	/**
+	 * Rebuild routing snapshot from current replica arrays and publish it.
+	 */
+	public void publishRoutes() {
+		Node[][] snapshot = new Node[replicas.length][];
+
+		for (int i = 0; i < replicas.length; i++) {
+			AtomicReferenceArray<Node> nodeArray = replicas[i];
+			int max = nodeArray.length();
+			Node[] nodes = new Node[max];
+
+			for (int j = 0; j < max; j++) {
+				nodes[j] = nodeArray.get(j);
+			}
+			snapshot[i] = nodes;
+		}
+		routes = snapshot;
+	}
+
+	/**
+	 * Return immutable routing snapshot indexed by [replica][partitionId].
+	 */
+	public Node[][] getRoutes() {
+		return routes;
 	}
 }
@@ -0,0 +1,340 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.cluster;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.aerospike.client.command.Buffer;
+
+/**
+ * Sync connection shared by multiple single record commands.
+ * <p>
+ * Commands are written back-to-back on the connection without waiting for the previous
+ * response. The server answers commands on a connection in the order they were received,
+ * so responses are matched to commands in write order. Each command waits until all
+ * earlier responses have been read and then reads its own response directly from the
+ * socket.
+ * <p>
+ * A command that times out while waiting for its turn is abandoned. Its response is
+ * discarded by the next waiting command before that command reads its own response, so
+ * a completed command never reads another command's response. If no command is waiting
+ * behind an abandoned command, the connection is closed instead.
+ * <p>
+ * If a response can not be read completely, the byte stream position is unknown. The
+ * connection is closed and all commands waiting on it fail with a connection error, which
+ * makes them eligible for retry.
+ */
+public final class Pipeline {
+	private static final int WAIT = 0;
+	private static final int READ = 1;
+	private static final int ABANDONED = 2;
+	private static final int FAILED = 3;
+
+	private final Node node;
+	private final int maxCommands;
+	private final ReentrantLock lock;
+	private final Condition notFull;
+	private final ArrayDeque<Ticket> queue;
+	private Connection conn;
+	private byte[] discardBuffer;  // Reused while conn is current. Only the reading command discards.
+
+	Pipeline(Node node, int maxCommands) {
+		this.node = node;
+		this.maxCommands = maxCommands;
+		this.lock = new ReentrantLock();
+		this.notFull = lock.newCondition();
+		this.queue = new ArrayDeque<Ticket>(maxCommands);
+	}
+
+	/**
+	 * Write command to the shared connection and return ticket used to read the response.
+	 * Write order is response order.
+	 */
+	public Ticket write(byte[] buffer, int length, int socketTimeout) throws IOException {
+		lock.lock();
+
+		try {
+			if (queue.size() >= maxCommands) {
+				long nanos = (socketTimeout > 0)? TimeUnit.MILLISECONDS.toNanos(socketTimeout) : Long.MAX_VALUE;
+
+				while (queue.size() >= maxCommands) {
+					if (nanos <= 0) {
+						throw new SocketTimeoutException("Pipeline full");
+					}
+
+					try {
+						nanos = notFull.awaitNanos(nanos);
+					}
+					catch (InterruptedException ie) {
+						throw new SocketTimeoutException("Pipeline wait interrupted");
+					}
+				}
+			}
+
+			if (conn != null && queue.isEmpty() && ! node.cluster.isConnCurrentTran(conn.getLastUsed())) {
+				// Server may have closed idle connection.
+				node.closeIdleConnection(conn);
+				conn = null;
+			}
+
+			if (conn == null) {
+				conn = node.createConnection(null);
+				conn.updateLastUsed();
+
+				// A command still reading from a failed connection may use the old buffer.
+				discardBuffer = null;
+			}
+
+			Ticket ticket = new Ticket(conn, queue.isEmpty()? READ : WAIT);
+
+			try {
+				conn.write(buffer, length);
+			}
+			catch (IOException ioe) {
+				// Part of the command may have been written.
+				Connection c = conn;
+				fail(c);
+				node.closeConnectionOnError(c);
+				throw ioe;
+			}
+			queue.addLast(ticket);
+			return ticket;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Close connection. Waiting commands fail with a connection error.
+	 */
+	void close() {
+		lock.lock();
+
+		try {
+			if (conn != null) {
+				Connection c = conn;
+				fail(c);
+				node.closeIdleConnection(c);
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	final int getConnectionCount() {
+		return (conn != null)? 1 : 0;
+	}
+
+	private void next(Ticket current) {
+		Connection closed = null;
+
+		lock.lock();
+
+		try {
+			if (conn != current.conn || ! queue.contains(current)) {
+				// Pipeline has already failed.
+				return;
+			}
+
+			// Remove the current command and the abandoned commands it discarded.
+			Ticket ticket;
+
+			do {
+				ticket = queue.pollFirst();
+			} while (ticket != current);
+
+			notFull.signalAll();
+
+			// Pass the connection to the next waiting command. It discards the responses of
+			// abandoned commands in front of it.
+			int skip = 0;
+
+			for (Ticket next : queue) {
+				if (next.state == WAIT) {
+					if (skip > 0) {
+						if (discardBuffer == null) {
+							discardBuffer = new byte[8192];
+						}
+						next.discardBuffer = discardBuffer;
+					}
+					next.skip = skip;
+					next.state = READ;
+					LockSupport.unpark(next.thread);
+					return;
+				}
+				skip++;
+			}
+
+			if (skip > 0) {
+				// Only abandoned commands remain and there is no command to discard their
+				// responses.
+				closed = conn;
+				fail(closed);
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+
+		if (closed != null) {
+			node.closeConnectionOnError(closed);
+		}
+	}
+
+	private static void discard(Connection conn, byte[] buf, int count) throws IOException {
+		for (int i = 0; i < count; i++) {
+			conn.readFully(buf, 8);
+
+			long size = Buffer.bytesToLong(buf, 0) & 0xFFFFFFFFFFFFL;
+
+			while (size > 0) {
+				int len = (size > buf.length)? buf.length : (int)size;
+				conn.readFully(buf, len);
+				size -= len;
+			}
+		}
+	}
+
+	private void fail(Connection failed) {
+		// Must hold lock.
+		if (conn != failed) {
+			return;
+		}
+
+		conn = null;
+
+		Ticket ticket;
+
+		while ((ticket = queue.pollFirst()) != null) {
+			if (ticket.state == WAIT) {
+				ticket.state = FAILED;
+				LockSupport.unpark(ticket.thread);
+			}
+		}
+		notFull.signalAll();
+	}
+
+	/**
+	 * Position of a command in the pipeline.
+	 */
+	public final class Ticket {
+		private final Connection conn;
+		private final Thread thread;
+		private volatile int state;
+		private int skip;
+		private byte[] discardBuffer;
+
+		private Ticket(Connection conn, int state) {
+			this.conn = conn;
+			this.thread = Thread.currentThread();
+			this.state = state;
+		}
+
+		/**
+		 * Wait until all earlier responses have been read and return the connection
+		 * positioned at this command's response. Responses of abandoned commands in front
+		 * of this command are discarded first.
+		 */
+		public Connection awaitRead(int socketTimeout) throws IOException {
+			if (state != READ) {
+				long deadline = (socketTimeout > 0)? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(socketTimeout) : 0;
+
+				while (state == WAIT) {
+					if (deadline > 0) {
+						long nanos = deadline - System.nanoTime();
+
+						if (nanos <= 0) {
+							if (abandon()) {
+								throw new SocketTimeoutException("Pipeline read timeout");
+							}
+							break;
+						}
+						LockSupport.parkNanos(this, nanos);
+					}
+					else {
+						LockSupport.park(this);
+					}
+				}
+
+				if (state == FAILED) {
+					throw new IOException("Pipeline connection closed");
+				}
+			}
+			conn.setTimeout(socketTimeout);
+
+			if (skip > 0) {
+				discard(conn, discardBuffer, skip);
+			}
+			return conn;
+		}
+
+		/**
+		 * Response has been completely read. Pass the connection to the next command.
+		 */
+		public void complete() {
+			conn.updateLastUsed();
+			next(this);
+		}
+
+		/**
+		 * Response was not completely read. Close connection and fail waiting commands.
+		 */
+		public void close() {
+			if (state == ABANDONED) {
+				// Response will be discarded by a later command.
+				return;
+			}
+
+			lock.lock();
+
+			try {
+				if (Pipeline.this.conn != conn) {
+					// Connection has already been closed.
+					return;
+				}
+				fail(conn);
+			}
+			finally {
+				lock.unlock();
+			}
+			node.closeConnectionOnError(conn);
+		}
+
+		private boolean abandon() {
+			lock.lock();
+
+			try {
+				if (state == WAIT) {
+					state = ABANDONED;
+					return true;
+				}
+				return false;
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+	}
+}
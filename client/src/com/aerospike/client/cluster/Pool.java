@@ -16,7 +16,6 @@
  */
 package com.aerospike.client.cluster;
 
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
@@ -25,37 +24,29 @@ import java.util.concurrent.locks.ReentrantLock;
  * The standard library concurrent stack, ConcurrentLinkedDequeue, will not suffice
  * because it's not bounded and it's size() method is too expensive.
  */
-public final class Pool {
+public final class Pool extends ConnectionPool {
 
 	private final Connection[] conns;
 	private int head;
 	private int tail;
 	private int size;
-	final int minSize;
 	private final ReentrantLock lock;
-	final AtomicInteger total;  // total connections: inUse + inPool
 
 	public Pool(int minSize, int maxSize) {
-		this.minSize = minSize;
+		super(minSize);
 		conns = new Connection[maxSize];
 		lock = new ReentrantLock(false);
-		total = new AtomicInteger();
 	}
 
+	@Override
 	public int capacity() {
 		return conns.length;
 	}
 
-	/**
-	 * Return number of connections that might be closed.
-	 */
-	public int excess() {
-		return total.get() - minSize;
-	}
-
 	/**
 	 * Insert connection at head of stack.
 	 */
+	@Override
 	public boolean offer(Connection conn) {
 		if (conn == null) {
 			throw new NullPointerException();
@@ -86,6 +77,7 @@ public final class Pool {
 	/**
 	 * Pop connection from head of stack.
 	 */
+	@Override
 	public Connection poll() {
 		final ReentrantLock lock = this.lock;
 		lock.lock();
@@ -116,6 +108,7 @@ public final class Pool {
 	/**
 	 * Close connections that are idle for more than maxSocketIdle up to count.
 	 */
+	@Override
 	void closeIdle(Node node, int count) {
 		final Cluster cluster = node.cluster;
 
@@ -156,14 +149,10 @@ public final class Pool {
 		}
 	}
 
-	void closeIdle(Node node, Connection conn) {
-		total.getAndDecrement();
-		node.closeIdleConnection(conn);
-	}
-
 	/**
 	 * Return item count.
 	 */
+	@Override
 	public int size() {
 		final ReentrantLock lock = this.lock;
 		lock.lock();
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.cluster;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import com.aerospike.client.Host;
+import com.aerospike.client.Log;
+import com.aerospike.client.policy.ClientPolicy;
+import com.aerospike.client.util.Util;
+
+/**
+ * Append periodic one line cluster statistics snapshots to a rolling local file.
+ * Must be called from the cluster tend thread.
+ * <p>
+ * Line format (fields separated by spaces):
+ * <pre>
+ * time cmds=count,retries,timeouts threads=n recover=n invalid=n
+ *   loops=[processSize,queueSize;...]
+ *   node=name,address:port,errors,sync(inUse,inPool,opened,closed),async(inUse,inPool,opened,closed) ...
+ * </pre>
+ * The values are read without blocking event loops, so async values are approximate.
+ */
+final class StatsWriter {
+	private final File file;
+	private final long intervalNanos;
+	private final long maxSize;
+	private final int maxFiles;
+	private final SimpleDateFormat dateFormat;
+	private long nextWrite;
+
+	StatsWriter(ClientPolicy policy) {
+		this.file = new File(policy.statsFile);
+		this.intervalNanos = TimeUnit.SECONDS.toNanos((policy.statsInterval > 0)? policy.statsInterval : 60);
+		this.maxSize = policy.statsFileMaxSize;
+		this.maxFiles = policy.statsFileCount;
+		this.dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+		this.nextWrite = System.nanoTime() + intervalNanos;
+	}
+
+	/**
+	 * Write snapshot if the interval has elapsed.
+	 */
+	void tryWrite(Cluster cluster) {
+		long now = System.nanoTime();
+
+		if (now - nextWrite < 0) {
+			return;
+		}
+		nextWrite = now + intervalNanos;
+
+		try {
+			write(format(cluster));
+		}
+		catch (Exception e) {
+			if (Log.warnEnabled()) {
+				Log.warn("Failed to write stats file " + file + ": " + Util.getErrorMessage(e));
+			}
+		}
+	}
+
+	private String format(Cluster cluster) {
+		StringBuilder sb = new StringBuilder(512);
+		ClusterStats stats = cluster.getStatsSummary();
+
+		sb.append(dateFormat.format(new Date()));
+		sb.append(" cmds=");
+		sb.append(stats.commandCount);
+		sb.append(',');
+		sb.append(stats.retryCount);
+		sb.append(',');
+		sb.append(stats.timeoutCount);
+		sb.append(" threads=");
+		sb.append(stats.threadsInUse);
+		sb.append(" recover=");
+		sb.append(stats.recoverQueueSize);
+		sb.append(" invalid=");
+		sb.append(stats.invalidNodeCount);
+
+		if (stats.eventLoops != null) {
+			sb.append(" loops=[");
+
+			for (int i = 0; i < stats.eventLoops.length; i++) {
+				if (i > 0) {
+					sb.append(';');
+				}
+				sb.append(stats.eventLoops[i]);
+			}
+			sb.append(']');
+		}
+
+		for (Node node : cluster.getNodes()) {
+			sb.append(" node=");
+			sb.append(node.getName());
+			sb.append(',');
+			Host host = node.getHost();
+			sb.append(host.name);
+			sb.append(':');
+			sb.append(host.port);
+			sb.append(',');
+			sb.append(node.getErrorCount());
+			sb.append(",sync(");
+			sb.append(node.getConnectionStats());
+			sb.append(')');
+
+			if (stats.eventLoops != null) {
+				sb.append(",async(");
+				sb.append(node.getAsyncConnectionStats());
+				sb.append(')');
+			}
+		}
+		sb.append(System.lineSeparator());
+		return sb.toString();
+	}
+
+	private void write(String line) throws IOException {
+		if (maxSize > 0 && file.length() >= maxSize) {
+			roll();
+		}
+
+		OutputStream os = new FileOutputStream(file, true);
+
+		try {
+			os.write(line.getBytes(StandardCharsets.UTF_8));
+		}
+		finally {
+			os.close();
+		}
+	}
+
+	private void roll() {
+		String path = file.getPath();
+
+		if (maxFiles <= 0) {
+			file.delete();
+			return;
+		}
+
+		new File(path + '.' + maxFiles).delete();
+
+		for (int i = maxFiles - 1; i >= 1; i--) {
+			File src = new File(path + '.' + i);
+
+			if (src.exists()) {
+				src.renameTo(new File(path + '.' + (i + 1)));
+			}
+		}
+		file.renameTo(new File(path + ".1"));
+	}
+}
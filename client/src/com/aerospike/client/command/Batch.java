@@ -26,6 +26,7 @@ import com.aerospike.client.Operation;
 import com.aerospike.client.Record;
 import com.aerospike.client.ResultCode;
 import com.aerospike.client.cluster.Cluster;
+import com.aerospike.client.cluster.LatencyType;
 import com.aerospike.client.policy.BatchPolicy;
 import com.aerospike.client.policy.ReadModeSC;
 import com.aerospike.client.policy.Replica;
@@ -488,6 +489,11 @@ public final class Batch {
 			this.status = status;
 		}
 
+		@Override
+		protected LatencyType getLatencyType() {
+			return LatencyType.BATCH;
+		}
+
 		@Override
 		public void run() {
 			try {
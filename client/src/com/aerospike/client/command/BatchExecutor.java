@@ -19,6 +19,8 @@ package com.aerospike.client.command;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import com.aerospike.client.AerospikeException;
 import com.aerospike.client.cluster.Cluster;
@@ -74,6 +76,8 @@ public final class BatchExecutor {
 	private final AtomicInteger completedCount;
 	private final BatchCommand[] commands;
 	private final int maxConcurrentThreads;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition completeCondition = lock.newCondition();
 	private boolean completed;
 
 	private BatchExecutor(Cluster cluster, BatchPolicy policy, BatchCommand[] commands, BatchStatus status) {
@@ -95,7 +99,7 @@ public final class BatchExecutor {
 		}
 
 		// Multiple threads write to the batch record array/list, so one might think that memory barriers
-		// are needed. That should not be necessary because of this synchronized waitTillComplete().
+		// are needed. That should not be necessary because of the lock in waitTillComplete().
 		waitTillComplete();
 
 		// Throw an exception if an error occurred.
@@ -128,18 +132,30 @@ public final class BatchExecutor {
 		return done.get();
 	}
 
-	private synchronized void waitTillComplete() {
-		while (! completed) {
-			try {
-				super.wait();
-			}
-			catch (InterruptedException ie) {
+	private void waitTillComplete() {
+		lock.lock();
+		try {
+			while (! completed) {
+				try {
+					completeCondition.await();
+				}
+				catch (InterruptedException ie) {
+				}
 			}
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
-	private synchronized void notifyCompleted() {
-		completed = true;
-		super.notify();
+	private void notifyCompleted() {
+		lock.lock();
+		try {
+			completed = true;
+			completeCondition.signal();
+		}
+		finally {
+			lock.unlock();
+		}
 	}
 }
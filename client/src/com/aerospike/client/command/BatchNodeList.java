@@ -46,6 +46,24 @@ public final class BatchNodeList {
 		BatchRecord[] records,
 		boolean hasWrite,
 		IBatchStatus status
+	) {
+		return generate(cluster, policy, keys, records, hasWrite, status, false);
+	}
+
+	/**
+	 * Assign keys to nodes in initial batch attempt. If parallel is true and the key count
+	 * reaches {@link BatchPolicy#parallelKeyThreshold}, keys are assigned across the cluster
+	 * thread pool while the calling thread waits. Only sync commands should set parallel
+	 * because an event loop thread must not block.
+	 */
+	public static List<BatchNode> generate(
+		Cluster cluster,
+		BatchPolicy policy,
+		Key[] keys,
+		BatchRecord[] records,
+		boolean hasWrite,
+		IBatchStatus status,
+		boolean parallel
 	) {
 		Node[] nodes = cluster.validateNodes();
 
@@ -61,6 +79,10 @@ public final class BatchNodeList {
 		final Replica replica = policy.replica;
 		final Replica replicaSC = Partition.getReplicaSC(policy);
 
+		// Resolve key nodes in parallel for large batches.
+		Node[] keyNodes = (parallel && ParallelKeys.isParallel(policy, keys.length)) ?
+			getNodes(cluster, keys, replica, replicaSC, hasWrite) : null;
+
 		// Split keys by server node.
 		List<BatchNode> batchNodes = new ArrayList<BatchNode>(nodes.length);
 		AerospikeException except = null;
@@ -69,9 +91,13 @@ public final class BatchNodeList {
 			Key key = keys[i];
 
 			try {
-				Node node = hasWrite ?
-					Partition.getNodeBatchWrite(cluster, key, replica, null, 0) :
-					Partition.getNodeBatchRead(cluster, key, replica, replicaSC, null, 0, 0);
+				Node node = (keyNodes != null) ? keyNodes[i] : null;
+
+				if (node == null) {
+					node = hasWrite ?
+						Partition.getNodeBatchWrite(cluster, key, replica, null, 0) :
+						Partition.getNodeBatchRead(cluster, key, replica, replicaSC, null, 0, 0);
+				}
 
 				BatchNode batchNode = findBatchNode(batchNodes, node);
 
@@ -109,6 +135,36 @@ public final class BatchNodeList {
 		return batchNodes;
 	}
 
+	/**
+	 * Resolve key nodes across the cluster thread pool. Keys that fail to resolve are
+	 * left null and resolved again in the caller's thread for error handling.
+	 */
+	private static Node[] getNodes(
+		final Cluster cluster,
+		final Key[] keys,
+		final Replica replica,
+		final Replica replicaSC,
+		final boolean hasWrite
+	) {
+		final Node[] keyNodes = new Node[keys.length];
+
+		ParallelKeys.run(cluster, keys.length, new ParallelKeys.Task() {
+			public void run(int begin, int end) {
+				for (int i = begin; i < end; i++) {
+					try {
+						keyNodes[i] = hasWrite ?
+							Partition.getNodeBatchWrite(cluster, keys[i], replica, null, 0) :
+							Partition.getNodeBatchRead(cluster, keys[i], replica, replicaSC, null, 0, 0);
+					}
+					catch (AerospikeException.InvalidNode ain) {
+						// Leave null.
+					}
+				}
+			}
+		});
+		return keyNodes;
+	}
+
 	/**
 	 * Assign keys to nodes in batch node retry.
 	 */
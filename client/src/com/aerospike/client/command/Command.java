@@ -20,7 +20,6 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.zip.Deflater;
 
 import com.aerospike.client.AerospikeException;
 import com.aerospike.client.BatchDelete;
@@ -108,6 +107,11 @@ public abstract class Command {
 	public static final int OPERATION_HEADER_SIZE = 8;
 	public static final int MSG_REMAINING_HEADER_SIZE = 22;
 	public static final int DIGEST_SIZE = 20;
+	/**
+	 * @deprecated Use {@link com.aerospike.client.policy.Policy#compressThreshold}.
+	 * This constant is no longer used.
+	 */
+	@Deprecated
 	public static final int COMPRESS_THRESHOLD = 128;
 	public static final long CL_MSG_VERSION = 2L;
 	public static final long AS_MSG_TYPE = 3L;
@@ -162,7 +166,7 @@ public abstract class Command {
 			writeOperation(bin, operation);
 		}
 		end();
-		compress(policy);
+		compress(policy, key);
 	}
 
 	public void setDelete(WritePolicy policy, Key key) {
@@ -319,7 +323,7 @@ public abstract class Command {
 			writeOperation(operation);
 		}
 		end();
-		compress(policy);
+		compress(policy, key);
 	}
 
 	//--------------------------------------------------
@@ -350,7 +354,7 @@ public abstract class Command {
 		writeField(functionName, FieldType.UDF_FUNCTION);
 		writeField(argBytes, FieldType.UDF_ARGLIST);
 		end();
-		compress(policy);
+		compress(policy, key);
 	}
 
 	//--------------------------------------------------
@@ -393,8 +397,8 @@ public abstract class Command {
 			}
 			else {
 				// Estimate full header, namespace and bin names.
-				dataOffset += Buffer.estimateSizeUtf8(key.namespace) + FIELD_HEADER_SIZE + 6;
-				dataOffset += Buffer.estimateSizeUtf8(key.setName) + FIELD_HEADER_SIZE;
+				dataOffset += sizeNamespace(key) + FIELD_HEADER_SIZE + 6;
+				dataOffset += sizeSetName(key) + FIELD_HEADER_SIZE;
 
 				if (binNames != null) {
 					for (String binName : binNames) {
@@ -482,7 +486,7 @@ public abstract class Command {
 		// Write real field size.
 		Buffer.intToBytes(dataOffset - MSG_TOTAL_HEADER_SIZE - 4, dataBuffer, fieldSizeOffset);
 		end();
-		compress(policy);
+		compress(policy, records.get(offsets[0]).key);
 	}
 
 	public final void setBatchRead(
@@ -522,8 +526,8 @@ public abstract class Command {
 			}
 			else {
 				// Must write full header and namespace/set/bin names.
-				dataOffset += Buffer.estimateSizeUtf8(key.namespace) + FIELD_HEADER_SIZE + 6;
-				dataOffset += Buffer.estimateSizeUtf8(key.setName) + FIELD_HEADER_SIZE;
+				dataOffset += sizeNamespace(key) + FIELD_HEADER_SIZE + 6;
+				dataOffset += sizeSetName(key) + FIELD_HEADER_SIZE;
 
 				if (binNames != null) {
 					for (String binName : binNames) {
@@ -603,7 +607,7 @@ public abstract class Command {
 		// Write real field size.
 		Buffer.intToBytes(dataOffset - MSG_TOTAL_HEADER_SIZE - 4, dataBuffer, fieldSizeOffset);
 		end();
-		compress(policy);
+		compress(policy, keys[offsets[0]]);
 	}
 
 	//--------------------------------------------------
@@ -644,8 +648,8 @@ public abstract class Command {
 			else {
 				// Estimate full header, namespace and bin names.
 				dataOffset += 8;
-				dataOffset += Buffer.estimateSizeUtf8(key.namespace) + FIELD_HEADER_SIZE;
-				dataOffset += Buffer.estimateSizeUtf8(key.setName) + FIELD_HEADER_SIZE;
+				dataOffset += sizeNamespace(key) + FIELD_HEADER_SIZE;
+				dataOffset += sizeSetName(key) + FIELD_HEADER_SIZE;
 				dataOffset += record.size();
 				prev = record;
 			}
@@ -765,7 +769,7 @@ public abstract class Command {
 		// Write real field size.
 		Buffer.intToBytes(dataOffset - MSG_TOTAL_HEADER_SIZE - 4, dataBuffer, fieldSizeOffset);
 		end();
-		compress(policy);
+		compress(policy, records.get(offsets[0]).key);
 	}
 
 	public final void setBatchOperate(
@@ -807,8 +811,8 @@ public abstract class Command {
 			else {
 				// Write full header and namespace/set/bin names.
 				dataOffset += 8; // header(4) + fielCount(2) + opCount(2) = 8
-				dataOffset += Buffer.estimateSizeUtf8(key.namespace) + FIELD_HEADER_SIZE;
-				dataOffset += Buffer.estimateSizeUtf8(key.setName) + FIELD_HEADER_SIZE;
+				dataOffset += sizeNamespace(key) + FIELD_HEADER_SIZE;
+				dataOffset += sizeSetName(key) + FIELD_HEADER_SIZE;
 
 				if (attr.sendKey) {
 					dataOffset += key.userKey.estimateSize() + FIELD_HEADER_SIZE + 1;
@@ -889,7 +893,7 @@ public abstract class Command {
 		// Write real field size.
 		Buffer.intToBytes(dataOffset - MSG_TOTAL_HEADER_SIZE - 4, dataBuffer, fieldSizeOffset);
 		end();
-		compress(policy);
+		compress(policy, keys[offsets[0]]);
 	}
 
 	public final void setBatchUDF(
@@ -932,8 +936,8 @@ public abstract class Command {
 			else {
 				// Write full header and namespace/set/bin names.
 				dataOffset += 8; // header(4) + fielCount(2) + opCount(2) = 8
-				dataOffset += Buffer.estimateSizeUtf8(key.namespace) + FIELD_HEADER_SIZE;
-				dataOffset += Buffer.estimateSizeUtf8(key.setName) + FIELD_HEADER_SIZE;
+				dataOffset += sizeNamespace(key) + FIELD_HEADER_SIZE;
+				dataOffset += sizeSetName(key) + FIELD_HEADER_SIZE;
 
 				if (attr.sendKey) {
 					dataOffset += key.userKey.estimateSize() + FIELD_HEADER_SIZE + 1;
@@ -988,7 +992,7 @@ public abstract class Command {
 		// Write real field size.
 		Buffer.intToBytes(dataOffset - MSG_TOTAL_HEADER_SIZE - 4, dataBuffer, fieldSizeOffset);
 		end();
-		compress(policy);
+		compress(policy, keys[offsets[0]]);
 	}
 
 	private static final Expression getBatchExpression(Policy policy, BatchAttr attr) {
@@ -1100,8 +1104,8 @@ public abstract class Command {
 		dataOffset += 2;
 		Buffer.shortToBytes(opCount, dataBuffer, dataOffset);
 		dataOffset += 2;
-		writeField(key.namespace, FieldType.NAMESPACE);
-		writeField(key.setName, FieldType.TABLE);
+		writeNamespace(key);
+		writeSetName(key);
 	}
 
 	//--------------------------------------------------
@@ -1525,16 +1529,24 @@ public abstract class Command {
 	// Command Sizing
 	//--------------------------------------------------
 
+	private static int sizeNamespace(Key key) {
+		return (key.handle != null)? key.handle.namespace.getNamespaceBytes().length : Buffer.estimateSizeUtf8(key.namespace);
+	}
+
+	private static int sizeSetName(Key key) {
+		return (key.handle != null)? key.handle.getSetBytes().length : Buffer.estimateSizeUtf8(key.setName);
+	}
+
 	private final int estimateKeySize(Policy policy, Key key) {
 		int fieldCount = 0;
 
 		if (key.namespace != null) {
-			dataOffset += Buffer.estimateSizeUtf8(key.namespace) + FIELD_HEADER_SIZE;
+			dataOffset += sizeNamespace(key) + FIELD_HEADER_SIZE;
 			fieldCount++;
 		}
 
 		if (key.setName != null) {
-			dataOffset += Buffer.estimateSizeUtf8(key.setName) + FIELD_HEADER_SIZE;
+			dataOffset += sizeSetName(key) + FIELD_HEADER_SIZE;
 			fieldCount++;
 		}
 
@@ -1834,11 +1846,11 @@ public abstract class Command {
 	private final void writeKey(Policy policy, Key key) {
 		// Write key into buffer.
 		if (key.namespace != null) {
-			writeField(key.namespace, FieldType.NAMESPACE);
+			writeNamespace(key);
 		}
 
 		if (key.setName != null) {
-			writeField(key.setName, FieldType.TABLE);
+			writeSetName(key);
 		}
 
 		writeField(key.digest, FieldType.DIGEST_RIPE);
@@ -1925,6 +1937,24 @@ public abstract class Command {
 		dataBuffer[dataOffset++] = 0;
 	}
 
+	private final void writeNamespace(Key key) {
+		if (key.handle != null) {
+			writeField(key.handle.namespace.getNamespaceBytes(), FieldType.NAMESPACE);
+		}
+		else {
+			writeField(key.namespace, FieldType.NAMESPACE);
+		}
+	}
+
+	private final void writeSetName(Key key) {
+		if (key.handle != null) {
+			writeField(key.handle.getSetBytes(), FieldType.TABLE);
+		}
+		else {
+			writeField(key.setName, FieldType.TABLE);
+		}
+	}
+
 	private final void writeField(Value value, int type) {
 		int offset = dataOffset + FIELD_HEADER_SIZE;
 		dataBuffer[offset++] = (byte)value.getType();
@@ -1977,33 +2007,51 @@ public abstract class Command {
 		Buffer.longToBytes(proto, dataBuffer, 0);
 	}
 
-	private final void compress(Policy policy) {
-		if (policy.compress && dataOffset > COMPRESS_THRESHOLD) {
-			Deflater def = new Deflater();
-			try {
-				def.setLevel(Deflater.BEST_SPEED);
-				def.setInput(dataBuffer, 0, dataOffset);
-				def.finish();
-
-				byte[] cbuf = new byte[dataOffset];
-				int csize = def.deflate(cbuf, 16, dataOffset - 16);
-
-				// Use compressed buffer if compression completed within original buffer size.
-				if (def.finished()) {
-					long proto = (csize + 8) | (CL_MSG_VERSION << 56) | (MSG_TYPE_COMPRESSED << 48);
-					Buffer.longToBytes(proto, cbuf, 0);
-					Buffer.longToBytes(dataOffset, cbuf, 8);
-					dataBuffer = cbuf;
-					dataOffset = csize + 16;
+	private final void compress(Policy policy, Key key) {
+		if (policy.compress && dataOffset > policy.compressThreshold) {
+			Compressor.Sample sample = null;
+
+			if (policy.compressAdaptive) {
+				sample = Compressor.getSample(key.namespace, key.setName);
+
+				if (sample != null && ! sample.shouldCompress(policy.compressMinSavings)) {
+					return;
 				}
-			} finally {
-				def.end();
+			}
+
+			byte[] cbuf = getCompressBuffer(dataOffset);
+			int csize = Compressor.deflate(sample, dataBuffer, dataOffset, cbuf, 16, dataOffset - 16);
+
+			// Use compressed buffer if compression completed within original buffer size.
+			if (csize >= 0) {
+				long proto = (csize + 8) | (CL_MSG_VERSION << 56) | (MSG_TYPE_COMPRESSED << 48);
+				Buffer.longToBytes(proto, cbuf, 0);
+				Buffer.longToBytes(dataOffset, cbuf, 8);
+				releaseBuffer(dataBuffer);
+				dataBuffer = cbuf;
+				dataOffset = csize + 16;
+			}
+			else {
+				releaseBuffer(cbuf);
 			}
 		}
 	}
 
 	protected abstract void sizeBuffer();
 
+	/**
+	 * Return buffer used to hold compressed command. Length must be &gt;= size.
+	 */
+	protected byte[] getCompressBuffer(int size) {
+		return new byte[size];
+	}
+
+	/**
+	 * Release buffer that is no longer referenced by the command.
+	 */
+	protected void releaseBuffer(byte[] buffer) {
+	}
+
 	//--------------------------------------------------
 	// Response Parsing
 	//--------------------------------------------------
@@ -2063,8 +2111,20 @@ public abstract class Command {
 		int opCount,
 		int generation,
 		int expiration,
-		boolean isOperation
+		boolean isOperation,
+		boolean lazyBins
 	)  {
+		if (lazyBins && ! isOperation) {
+			int[] offsets = new int[opCount];
+			int begin = dataOffset;
+
+			for (int i = 0 ; i < opCount; i++) {
+				offsets[i] = dataOffset - begin;
+				dataOffset += 4 + Buffer.bytesToInt(dataBuffer, dataOffset);
+			}
+			return new Record(new LazyBinMap(dataBuffer, begin, dataOffset - begin, offsets), generation, expiration);
+		}
+
 		Map<String,Object> bins = new LinkedHashMap<>();
 
 		for (int i = 0 ; i < opCount; i++) {
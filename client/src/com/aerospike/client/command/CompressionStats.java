@@ -0,0 +1,80 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.command;
+
+/**
+ * Command compression statistics. Counts are process totals for all clusters.
+ */
+public final class CompressionStats {
+	/**
+	 * Number of commands sent compressed.
+	 */
+	public final long compressed;
+
+	/**
+	 * Number of commands where compression was attempted, but the compressed command
+	 * was not smaller than the original command.
+	 */
+	public final long rejected;
+
+	/**
+	 * Number of commands where adaptive compression skipped compression because
+	 * recent commands for the same namespace/set did not compress well.
+	 */
+	public final long skipped;
+
+	/**
+	 * Command bytes passed to the compressor.
+	 */
+	public final long bytesIn;
+
+	/**
+	 * Command bytes sent after compression was attempted.
+	 */
+	public final long bytesOut;
+
+	/**
+	 * Nanoseconds spent compressing commands.
+	 */
+	public final long nanos;
+
+	/**
+	 * Compression statistics constructor.
+	 */
+	public CompressionStats(long compressed, long rejected, long skipped, long bytesIn, long bytesOut, long nanos) {
+		this.compressed = compressed;
+		this.rejected = rejected;
+		this.skipped = skipped;
+		this.bytesIn = bytesIn;
+		this.bytesOut = bytesOut;
+		this.nanos = nanos;
+	}
+
+	/**
+	 * Return command bytes saved by compression.
+	 */
+	public long getBytesSaved() {
+		return bytesIn - bytesOut;
+	}
+
+	/**
+	 * Convert statistics to string.
+	 */
+	public String toString() {
+		return "" + compressed + ',' + rejected + ',' + skipped + ',' + getBytesSaved() + ',' + (nanos / 1000000);
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.command;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Command compression decisions and statistics. Adaptive compression samples and
+ * statistics are process totals that are shared by all clusters in the process.
+ * At most {@link #MAX_SAMPLES} namespace/set samples are kept. Commands for other
+ * namespace/sets are always compressed.
+ */
+public final class Compressor {
+	// Compression ratio is stored as compressed size per 1024 uncompressed bytes.
+	private static final int RATIO_SCALE = 1024;
+	private static final int RATIO_UNKNOWN = -1;
+
+	// Compress every Nth command for a namespace/set that is being skipped.
+	private static final int PROBE_INTERVAL = 64;
+
+	/**
+	 * Maximum number of namespace/set adaptive compression samples.
+	 */
+	public static final int MAX_SAMPLES = 1024;
+
+	private static final ConcurrentHashMap<String,ConcurrentHashMap<String,Sample>> samples =
+		new ConcurrentHashMap<String,ConcurrentHashMap<String,Sample>>();
+	private static final AtomicInteger sampleCount = new AtomicInteger();
+
+	private static final LongAdder compressed = new LongAdder();
+	private static final LongAdder rejected = new LongAdder();
+	private static final LongAdder skipped = new LongAdder();
+	private static final LongAdder bytesIn = new LongAdder();
+	private static final LongAdder bytesOut = new LongAdder();
+	private static final LongAdder nanos = new LongAdder();
+
+	/**
+	 * Return adaptive compression sample for namespace/set or null if the maximum
+	 * number of samples has been reached.
+	 */
+	static Sample getSample(String namespace, String setName) {
+		ConcurrentHashMap<String,Sample> sets = samples.get(namespace);
+
+		if (sets == null) {
+			sets = new ConcurrentHashMap<String,Sample>();
+
+			ConcurrentHashMap<String,Sample> prev = samples.putIfAbsent(namespace, sets);
+
+			if (prev != null) {
+				sets = prev;
+			}
+		}
+
+		String name = (setName != null)? setName : "";
+		Sample sample = sets.get(name);
+
+		if (sample == null) {
+			if (sampleCount.incrementAndGet() > MAX_SAMPLES) {
+				sampleCount.decrementAndGet();
+				return null;
+			}
+
+			sample = new Sample();
+
+			Sample prev = sets.putIfAbsent(name, sample);
+
+			if (prev != null) {
+				sampleCount.decrementAndGet();
+				sample = prev;
+			}
+		}
+		return sample;
+	}
+
+	/**
+	 * Compress command buffer into dst starting at dstOff. Return compressed size or -1 if
+	 * the compressed data did not fit in dstLen bytes. Record result in statistics and in
+	 * the adaptive sample if defined.
+	 */
+	static int deflate(Sample sample, byte[] src, int srcLen, byte[] dst, int dstOff, int dstLen) {
+		long begin = System.nanoTime();
+		int csize = Zlib.deflate(src, srcLen, dst, dstOff, dstLen);
+		long elapsed = System.nanoTime() - begin;
+
+		nanos.add(elapsed);
+		bytesIn.add(srcLen);
+
+		if (csize >= 0) {
+			compressed.increment();
+			bytesOut.add(csize + dstOff);
+		}
+		else {
+			rejected.increment();
+			bytesOut.add(srcLen);
+		}
+
+		if (sample != null) {
+			sample.update((csize >= 0)? (int)((long)(csize + dstOff) * RATIO_SCALE / srcLen) : RATIO_SCALE);
+		}
+		return csize;
+	}
+
+	/**
+	 * Return compression statistics totals for all clusters in the process.
+	 */
+	public static CompressionStats getStats() {
+		return new CompressionStats(compressed.sum(), rejected.sum(), skipped.sum(), bytesIn.sum(),
+			bytesOut.sum(), nanos.sum());
+	}
+
+	/**
+	 * Sampled compression ratio for a namespace/set.
+	 */
+	static final class Sample {
+		// Updates are not synchronized. A lost update only delays the moving average.
+		private volatile int ratio = RATIO_UNKNOWN;
+		private final AtomicInteger skips = new AtomicInteger();
+
+		/**
+		 * Return if compression should be attempted given the minimum savings percent.
+		 */
+		boolean shouldCompress(int minSavings) {
+			int r = ratio;
+
+			if (r == RATIO_UNKNOWN || r * 100 <= (100 - minSavings) * RATIO_SCALE) {
+				return true;
+			}
+
+			if (skips.incrementAndGet() % PROBE_INTERVAL == 0) {
+				return true;
+			}
+			skipped.increment();
+			return false;
+		}
+
+		private void update(int r) {
+			int prev = ratio;
+
+			// Exponential moving average with 1/8 weight for the latest sample.
+			ratio = (prev == RATIO_UNKNOWN)? r : prev + ((r - prev) >> 3);
+		}
+	}
+}
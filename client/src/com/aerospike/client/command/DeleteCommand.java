@@ -34,7 +34,7 @@ public final class DeleteCommand extends SyncCommand {
 	private boolean existed;
 
 	public DeleteCommand(Cluster cluster, WritePolicy writePolicy, Key key) {
-		super(cluster, writePolicy);
+		super(cluster, writePolicy, key.namespace);
 		this.writePolicy = writePolicy;
 		this.key = key;
 		this.partition = Partition.write(cluster, writePolicy, key);
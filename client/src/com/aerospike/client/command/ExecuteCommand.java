@@ -20,6 +20,7 @@ import com.aerospike.client.AerospikeException;
 import com.aerospike.client.Key;
 import com.aerospike.client.Value;
 import com.aerospike.client.cluster.Cluster;
+import com.aerospike.client.cluster.LatencyType;
 import com.aerospike.client.cluster.Node;
 import com.aerospike.client.cluster.Partition;
 import com.aerospike.client.policy.WritePolicy;
@@ -55,6 +56,11 @@ public final class ExecuteCommand extends ReadCommand {
 		return partition.getNodeWrite(cluster);
 	}
 
+	@Override
+	protected LatencyType getLatencyType() {
+		return LatencyType.UDF;
+	}
+
 	@Override
 	protected void writeBuffer() throws AerospikeException {
 		setUdf(writePolicy, key, packageName, functionName, args);
@@ -21,6 +21,8 @@ import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import com.aerospike.client.AerospikeException;
 import com.aerospike.client.cluster.Cluster;
@@ -32,6 +34,8 @@ public final class Executor {
 	private final AtomicBoolean done;
 	private final AtomicInteger completedCount;
 	private int maxConcurrentThreads;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition completeCondition = lock.newCondition();
 	private boolean completed;
 
 	public Executor(Cluster cluster, int capacity) {
@@ -103,19 +107,33 @@ public final class Executor {
 		return done.get();
 	}
 
-	private synchronized void waitTillComplete() {
-		while (! completed) {
-			try {
-				super.wait();
-			}
-			catch (InterruptedException ie) {
+	private void waitTillComplete() {
+		// Use lock/condition instead of synchronized/wait() to avoid pinning
+		// the carrier thread when the caller is a virtual thread.
+		lock.lock();
+		try {
+			while (! completed) {
+				try {
+					completeCondition.await();
+				}
+				catch (InterruptedException ie) {
+				}
 			}
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
-	private synchronized void notifyCompleted() {
-		completed = true;
-		super.notify();
+	private void notifyCompleted() {
+		lock.lock();
+		try {
+			completed = true;
+			completeCondition.signal();
+		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	private final class ExecutorThread implements Runnable {
@@ -33,7 +33,7 @@ public final class ExistsCommand extends SyncCommand {
 	private boolean exists;
 
 	public ExistsCommand(Cluster cluster, Policy policy, Key key) {
-		super(cluster, policy);
+		super(cluster, policy, key.namespace);
 		this.key = key;
 		this.partition = Partition.read(cluster, policy, key);
 	}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.command;
+
+import java.util.AbstractMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Record bins map that retains a copy of the bin section of the server response and
+ * decodes bin values on first access. Iteration builds the full map. Modification
+ * ({@code put}, {@code remove}, {@code clear}) also builds the full map and then changes
+ * it, so later reads see the modified map.
+ * <p>
+ * Reads are not side effect free because they fill the decoded name/value caches and
+ * may build the full map. All access is synchronized so a record can be shared by
+ * threads that only read it, as with an eagerly decoded record.
+ */
+final class LazyBinMap extends AbstractMap<String,Object> {
+	private static final Object NULL_VALUE = new Object();
+
+	private final byte[] buffer;
+	private final int[] offsets;
+	private final String[] names;
+	private final Object[] values;
+	private Map<String,Object> map;
+
+	/**
+	 * Copy bin section of length bytes starting at offset. Bin offsets are relative to
+	 * the start of the bin section.
+	 */
+	LazyBinMap(byte[] buf, int offset, int length, int[] offsets) {
+		this.buffer = new byte[length];
+		System.arraycopy(buf, offset, buffer, 0, length);
+		this.offsets = offsets;
+		this.names = new String[offsets.length];
+		this.values = new Object[offsets.length];
+	}
+
+	@Override
+	public synchronized Object get(Object key) {
+		if (map != null) {
+			return map.get(key);
+		}
+
+		int index = find(key);
+		return (index >= 0)? getValue(index) : null;
+	}
+
+	@Override
+	public synchronized boolean containsKey(Object key) {
+		if (map != null) {
+			return map.containsKey(key);
+		}
+		return find(key) >= 0;
+	}
+
+	@Override
+	public synchronized int size() {
+		return (map != null)? map.size() : materialize().size();
+	}
+
+	@Override
+	public synchronized boolean isEmpty() {
+		return (map != null)? map.isEmpty() : offsets.length == 0;
+	}
+
+	@Override
+	public synchronized Object put(String key, Object value) {
+		return materialize().put(key, value);
+	}
+
+	@Override
+	public synchronized Object remove(Object key) {
+		return materialize().remove(key);
+	}
+
+	@Override
+	public synchronized void clear() {
+		materialize().clear();
+	}
+
+	@Override
+	public synchronized Set<Map.Entry<String,Object>> entrySet() {
+		return materialize().entrySet();
+	}
+
+	private Map<String,Object> materialize() {
+		if (map == null) {
+			Map<String,Object> m = new LinkedHashMap<>();
+
+			for (int i = 0; i < offsets.length; i++) {
+				m.put(getName(i), getValue(i));
+			}
+			map = m;
+		}
+		return map;
+	}
+
+	private int find(Object key) {
+		if (! (key instanceof String)) {
+			return -1;
+		}
+
+		String name = (String)key;
+
+		// Later duplicate bins replace earlier bins in an eager map, so search backwards.
+		for (int i = offsets.length - 1; i >= 0; i--) {
+			if (nameEquals(i, name)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private boolean nameEquals(int index, String name) {
+		if (names[index] != null) {
+			return names[index].equals(name);
+		}
+
+		int off = offsets[index];
+		int len = buffer[off + 7];
+
+		// UTF-8 encoded length is never less than the string length.
+		if (name.length() > len) {
+			return false;
+		}
+
+		off += 8;
+
+		for (int i = 0; i < len; i++) {
+			byte b = buffer[off + i];
+
+			if (b < 0) {
+				// Compare non-ascii names as strings.
+				return getName(index).equals(name);
+			}
+
+			if (i >= name.length() || b != name.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private String getName(int index) {
+		String name = names[index];
+
+		if (name == null) {
+			int off = offsets[index];
+			name = Buffer.utf8ToString(buffer, off + 8, buffer[off + 7]);
+			names[index] = name;
+		}
+		return name;
+	}
+
+	private Object getValue(int index) {
+		Object value = values[index];
+
+		if (value == null) {
+			int off = offsets[index];
+			int opSize = Buffer.bytesToInt(buffer, off);
+			byte particleType = buffer[off + 5];
+			byte nameSize = buffer[off + 7];
+			int particleOffset = off + 8 + nameSize;
+			int particleSize = opSize - (4 + nameSize);
+
+			value = Buffer.bytesToParticle(particleType, buffer, particleOffset, particleSize);
+			values[index] = (value != null)? value : NULL_VALUE;
+			return value;
+		}
+		return (value != NULL_VALUE)? value : null;
+	}
+}
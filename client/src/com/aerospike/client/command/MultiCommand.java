@@ -17,14 +17,13 @@
 package com.aerospike.client.command;
 
 import java.io.IOException;
-import java.util.zip.DataFormatException;
-import java.util.zip.Inflater;
 
 import com.aerospike.client.AerospikeException;
 import com.aerospike.client.Record;
 import com.aerospike.client.cluster.Cluster;
 import com.aerospike.client.cluster.Connection;
 import com.aerospike.client.cluster.Connection.ReadTimeout;
+import com.aerospike.client.cluster.LatencyType;
 import com.aerospike.client.cluster.Node;
 import com.aerospike.client.policy.Policy;
 import com.aerospike.client.query.QueryValidate;
@@ -33,7 +32,6 @@ public abstract class MultiCommand extends SyncCommand {
 	private static final int MAX_BUFFER_SIZE = 1024 * 1024 * 128;  // 128 MB
 
 	private final Node node;
-	protected final String namespace;
 	private final long clusterKey;
 	protected int info3;
 	protected int resultCode;
@@ -43,6 +41,7 @@ public abstract class MultiCommand extends SyncCommand {
 	protected int fieldCount;
 	protected int opCount;
 	protected final boolean isOperation;
+	private final boolean lazyBins;
 	private final boolean first;
 	protected volatile boolean valid = true;
 
@@ -53,7 +52,7 @@ public abstract class MultiCommand extends SyncCommand {
 		super(cluster, policy);
 		this.node = node;
 		this.isOperation = isOperation;
-		this.namespace = null;
+		this.lazyBins = policy.lazyBins;
 		this.clusterKey = 0;
 		this.first = false;
 	}
@@ -62,10 +61,10 @@ public abstract class MultiCommand extends SyncCommand {
 	 * Partition scan/query constructor.
 	 */
 	protected MultiCommand(Cluster cluster, Policy policy, Node node, String namespace, int socketTimeout, int totalTimeout) {
-		super(cluster, policy, socketTimeout, totalTimeout);
+		super(cluster, policy, namespace, socketTimeout, totalTimeout);
 		this.node = node;
 		this.isOperation = false;
-		this.namespace = namespace;
+		this.lazyBins = policy.lazyBins;
 		this.clusterKey = 0;
 		this.first = false;
 	}
@@ -74,10 +73,10 @@ public abstract class MultiCommand extends SyncCommand {
 	 * Legacy scan/query constructor.
 	 */
 	protected MultiCommand(Cluster cluster, Policy policy, Node node, String namespace, long clusterKey, boolean first) {
-		super(cluster, policy, policy.socketTimeout, policy.totalTimeout);
+		super(cluster, policy, namespace, policy.socketTimeout, policy.totalTimeout);
 		this.node = node;
 		this.isOperation = false;
-		this.namespace = namespace;
+		this.lazyBins = policy.lazyBins;
 		this.clusterKey = clusterKey;
 		this.first = first;
 	}
@@ -100,6 +99,11 @@ public abstract class MultiCommand extends SyncCommand {
 		return false;
 	}
 
+	@Override
+	protected LatencyType getLatencyType() {
+		return LatencyType.QUERY;
+	}
+
 	@Override
 	protected Node getNode() {
 		return node;
@@ -190,27 +194,14 @@ public abstract class MultiCommand extends SyncCommand {
 					ubuf = new byte[capacity];
 				}
 
-				Inflater inf = new Inflater();
-				try {
-					inf.setInput(buf, 8, size - 8);
-					int rsize;
+				int rsize = Zlib.inflate(buf, 8, size - 8, ubuf, ubuf.length);
 
-					try {
-						rsize = inf.inflate(ubuf);
-					}
-					catch (DataFormatException dfe) {
-						throw new AerospikeException.Serialize(dfe);
-					}
-
-					if (rsize != usize) {
-						throw new AerospikeException("Decompressed size " + rsize + " is not expected " + usize);
-					}
-					dataBuffer = ubuf;
-					dataOffset = 8;
-					receiveSize = usize - 8;
-				} finally {
-					inf.end();
+				if (rsize != usize) {
+					throw new AerospikeException("Decompressed size " + rsize + " is not expected " + usize);
 				}
+				dataBuffer = ubuf;
+				dataOffset = 8;
+				receiveSize = usize - 8;
 			}
 			else {
 				throw new AerospikeException("Invalid proto type: " + type + " Expected: " + Command.AS_MSG_TYPE);
@@ -262,7 +253,7 @@ public abstract class MultiCommand extends SyncCommand {
 			return new Record(null, generation, expiration);
 		}
 
-		return parseRecord(opCount, generation, expiration, isOperation);
+		return parseRecord(opCount, generation, expiration, isOperation, lazyBins);
 	}
 
 	public void stop() {
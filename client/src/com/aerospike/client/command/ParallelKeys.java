@@ -0,0 +1,115 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.command;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.cluster.Cluster;
+import com.aerospike.client.policy.BatchPolicy;
+
+/**
+ * Split per key work for large batch key arrays across the cluster thread pool.
+ */
+public final class ParallelKeys {
+	/**
+	 * Work on key index range [begin, end).
+	 */
+	public interface Task {
+		public void run(int begin, int end);
+	}
+
+	// Minimum number of keys handed to one thread.
+	private static final int MIN_CHUNK_SIZE = 1024;
+
+	/**
+	 * Return if key count reaches the policy's parallel key threshold.
+	 */
+	public static boolean isParallel(BatchPolicy policy, int keyCount) {
+		return policy.parallelKeyThreshold > 0 && keyCount >= policy.parallelKeyThreshold;
+	}
+
+	/**
+	 * Run task over key indexes [0, size). The range is split into at most one chunk
+	 * per available processor. The first chunk runs in the calling thread and the others
+	 * run in the cluster thread pool. Return after all chunks complete.
+	 */
+	public static void run(Cluster cluster, int size, final Task task) {
+		int chunks = Math.min(Runtime.getRuntime().availableProcessors(), size / MIN_CHUNK_SIZE);
+
+		if (chunks <= 1) {
+			task.run(0, size);
+			return;
+		}
+
+		int chunkSize = (size + chunks - 1) / chunks;
+		final CountDownLatch latch = new CountDownLatch(chunks - 1);
+		final AtomicReference<Throwable> error = new AtomicReference<Throwable>();
+		ExecutorService threadPool = cluster.getThreadPool();
+
+		for (int i = 1; i < chunks; i++) {
+			final int begin = i * chunkSize;
+			final int end = Math.min(begin + chunkSize, size);
+			Runnable runnable = new Runnable() {
+				public void run() {
+					try {
+						task.run(begin, end);
+					}
+					catch (Throwable t) {
+						error.compareAndSet(null, t);
+					}
+					finally {
+						latch.countDown();
+					}
+				}
+			};
+
+			try {
+				threadPool.execute(runnable);
+			}
+			catch (RejectedExecutionException ree) {
+				runnable.run();
+			}
+		}
+
+		try {
+			task.run(0, chunkSize);
+		}
+		catch (Throwable t) {
+			error.compareAndSet(null, t);
+		}
+
+		try {
+			latch.await();
+		}
+		catch (InterruptedException ie) {
+			throw new AerospikeException(ie);
+		}
+
+		Throwable t = error.get();
+
+		if (t != null) {
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			throw new AerospikeException(t);
+		}
+	}
+}
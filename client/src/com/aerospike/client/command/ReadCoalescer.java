@@ -0,0 +1,274 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.command;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.BatchRead;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.cluster.Cluster;
+import com.aerospike.client.cluster.Node;
+import com.aerospike.client.cluster.Partition;
+import com.aerospike.client.command.Batch.BatchCommand;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.Policy;
+
+/**
+ * Combine concurrent single record reads destined for the same node into one batch read.
+ * <p>
+ * The first thread to read from a node becomes the group leader. The leader waits for the
+ * coalesce window (or until the group is full), then sends the group's keys in one batch
+ * command while the other threads in the group wait for their record. If the batch fails
+ * or returns a key specific error other than not found, the thread for that key falls back
+ * to a single record read so errors and retries are reported exactly as they are without
+ * coalescing.
+ * <p>
+ * Each caller's policy totalTimeout is measured from entry to the coalescer. The coalesce
+ * window, batch and fallback read only receive the time remaining.
+ */
+public final class ReadCoalescer {
+	private final ConcurrentHashMap<Node,Group> groups;
+	private final long windowNanos;
+	private final int maxKeys;
+
+	public ReadCoalescer(int windowMicros, int maxKeys) {
+		this.groups = new ConcurrentHashMap<Node,Group>();
+		this.windowNanos = TimeUnit.MICROSECONDS.toNanos(windowMicros);
+		this.maxKeys = (maxKeys > 1)? maxKeys : 2;
+	}
+
+	/**
+	 * Read entire record for specified key. The read may be combined with concurrent reads.
+	 * All callers must use the same policy.
+	 */
+	public Record get(Cluster cluster, Policy policy, Key key) {
+		long deadline = (policy.totalTimeout > 0)?
+			System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(policy.totalTimeout) : 0;
+
+		Partition partition = Partition.read(cluster, policy, key);
+		Node node;
+
+		try {
+			node = partition.getNodeRead(cluster);
+		}
+		catch (AerospikeException ae) {
+			// Let the single record command handle node retries.
+			return read(cluster, policy, key, partition, deadline);
+		}
+
+		while (true) {
+			Group group = groups.get(node);
+
+			if (group == null) {
+				group = new Group(policy, maxKeys);
+				group.add(key);
+
+				Group prev = groups.putIfAbsent(node, group);
+
+				if (prev == null) {
+					return lead(cluster, node, group, partition, deadline);
+				}
+				group = prev;
+			}
+
+			int index = group.add(key);
+
+			if (index >= 0) {
+				return follow(cluster, group, index, key, deadline);
+			}
+
+			// Group is closed or full.
+			groups.remove(node, group);
+		}
+	}
+
+	private Record lead(Cluster cluster, Node node, Group group, Partition partition, long deadline) {
+		long windowEnd = System.nanoTime() + windowNanos;
+
+		if (deadline > 0 && deadline - windowEnd < 0) {
+			windowEnd = deadline;
+		}
+
+		long nanos = windowEnd - System.nanoTime();
+
+		while (nanos > 0 && ! group.isFull()) {
+			LockSupport.parkNanos(this, nanos);
+			nanos = windowEnd - System.nanoTime();
+		}
+
+		groups.remove(node, group);
+
+		List<BatchRead> reads = group.close();
+
+		if (reads.size() == 1) {
+			group.complete(null);
+			return read(cluster, group.policy, reads.get(0).key, partition, deadline);
+		}
+
+		Throwable error = null;
+
+		try {
+			BatchPolicy batchPolicy = new BatchPolicy(group.policy);
+
+			if (deadline > 0) {
+				batchPolicy.totalTimeout = remainingMillis(group.policy, deadline);
+			}
+
+			BatchStatus status = new BatchStatus(true);
+			List<BatchNode> batchNodes = BatchNodeList.generate(cluster, batchPolicy, reads, status);
+			BatchCommand[] commands = new BatchCommand[batchNodes.size()];
+			int count = 0;
+
+			for (BatchNode batchNode : batchNodes) {
+				commands[count++] = new Batch.ReadListCommand(cluster, batchNode, batchPolicy, reads, status);
+			}
+			BatchExecutor.execute(cluster, batchPolicy, commands, status);
+		}
+		catch (Throwable e) {
+			error = e;
+		}
+		finally {
+			group.complete(error);
+		}
+		return result(cluster, group, 0, partition, deadline);
+	}
+
+	private Record follow(Cluster cluster, Group group, int index, Key key, long deadline) {
+		if (group.isFull()) {
+			LockSupport.unpark(group.leader);
+		}
+
+		try {
+			if (deadline > 0) {
+				long nanos = deadline - System.nanoTime();
+
+				if (nanos <= 0 || ! group.done.await(nanos, TimeUnit.NANOSECONDS)) {
+					throw new AerospikeException.Timeout(group.policy, true);
+				}
+			}
+			else {
+				group.done.await();
+			}
+		}
+		catch (InterruptedException ie) {
+			throw new AerospikeException(ie);
+		}
+		return result(cluster, group, index, null, deadline);
+	}
+
+	private static Record result(Cluster cluster, Group group, int index, Partition partition, long deadline) {
+		BatchRead read = group.reads.get(index);
+
+		if (group.error == null) {
+			if (read.resultCode == ResultCode.OK) {
+				return read.record;
+			}
+
+			if (read.resultCode == ResultCode.KEY_NOT_FOUND_ERROR) {
+				return null;
+			}
+		}
+
+		// Batch failed or returned a key specific error. Read the key by itself
+		// so the caller receives the same exception as an uncoalesced read.
+		if (partition == null) {
+			partition = Partition.read(cluster, group.policy, read.key);
+		}
+		return read(cluster, group.policy, read.key, partition, deadline);
+	}
+
+	private static Record read(Cluster cluster, Policy policy, Key key, Partition partition, long deadline) {
+		if (deadline > 0) {
+			int remaining = remainingMillis(policy, deadline);
+
+			if (remaining != policy.totalTimeout) {
+				policy = new Policy(policy);
+				policy.totalTimeout = remaining;
+			}
+		}
+
+		ReadCommand command = new ReadCommand(cluster, policy, key, partition, false);
+		command.execute();
+		return command.getRecord();
+	}
+
+	private static int remainingMillis(Policy policy, long deadline) {
+		long nanos = deadline - System.nanoTime();
+
+		if (nanos <= 0) {
+			throw new AerospikeException.Timeout(policy, true);
+		}
+
+		// A zero totalTimeout means no timeout, so keep a sub-millisecond remainder at 1 ms.
+		return (int)Math.max(1, TimeUnit.NANOSECONDS.toMillis(nanos));
+	}
+
+	private static final class Group {
+		private final Policy policy;
+		private final Thread leader;
+		private final Key[] keys;
+		private final CountDownLatch done;
+		private List<BatchRead> reads;
+		private int size;
+		private boolean closed;
+		private volatile Throwable error;
+
+		private Group(Policy policy, int maxKeys) {
+			this.policy = policy;
+			this.leader = Thread.currentThread();
+			this.keys = new Key[maxKeys];
+			this.done = new CountDownLatch(1);
+		}
+
+		private synchronized int add(Key key) {
+			if (closed || size >= keys.length) {
+				return -1;
+			}
+			keys[size] = key;
+			return size++;
+		}
+
+		private synchronized boolean isFull() {
+			return size >= keys.length;
+		}
+
+		private synchronized List<BatchRead> close() {
+			closed = true;
+
+			List<BatchRead> list = new ArrayList<BatchRead>(size);
+
+			for (int i = 0; i < size; i++) {
+				list.add(new BatchRead(keys[i], true));
+			}
+			reads = list;
+			return list;
+		}
+
+		private void complete(Throwable error) {
+			this.error = error;
+			done.countDown();
+		}
+	}
+}
@@ -17,8 +17,6 @@
 package com.aerospike.client.command;
 
 import java.io.IOException;
-import java.util.zip.DataFormatException;
-import java.util.zip.Inflater;
 
 import com.aerospike.client.AerospikeException;
 import com.aerospike.client.Key;
@@ -38,7 +36,7 @@ public class ReadCommand extends SyncCommand {
 	private Record record;
 
 	public ReadCommand(Cluster cluster, Policy policy, Key key) {
-		super(cluster, policy);
+		super(cluster, policy, key.namespace);
 		this.key = key;
 		this.binNames = null;
 		this.partition = Partition.read(cluster, policy, key);
@@ -46,7 +44,7 @@ public class ReadCommand extends SyncCommand {
 	}
 
 	public ReadCommand(Cluster cluster, Policy policy, Key key, String[] binNames) {
-		super(cluster, policy);
+		super(cluster, policy, key.namespace);
 		this.key = key;
 		this.binNames = binNames;
 		this.partition = Partition.read(cluster, policy, key);
@@ -54,7 +52,7 @@ public class ReadCommand extends SyncCommand {
 	}
 
 	public ReadCommand(Cluster cluster, Policy policy, Key key, Partition partition, boolean isOperation) {
-		super(cluster, policy);
+		super(cluster, policy, key.namespace);
 		this.key = key;
 		this.binNames = null;
 		this.partition = partition;
@@ -115,29 +113,15 @@ public class ReadCommand extends SyncCommand {
 		}
 		else if (type == Command.MSG_TYPE_COMPRESSED) {
 			int usize = (int)Buffer.bytesToLong(dataBuffer, 0);
-			byte[] buf = new byte[usize];
-
-			Inflater inf = new Inflater();
-			try {
-				inf.setInput(dataBuffer, 8, receiveSize - 8);
-				int rsize;
-
-				try {
-					rsize = inf.inflate(buf);
-				}
-				catch (DataFormatException dfe) {
-					throw new AerospikeException.Serialize(dfe);
-				}
-
-				if (rsize != usize) {
-					throw new AerospikeException("Decompressed size " + rsize + " is not expected " + usize);
-				}
-
-				dataBuffer = buf;
-				dataOffset = 13;
-			} finally {
-				inf.end();
+			byte[] buf = getCompressBuffer(usize);
+			int rsize = Zlib.inflate(dataBuffer, 8, receiveSize - 8, buf, usize);
+
+			if (rsize != usize) {
+				throw new AerospikeException("Decompressed size " + rsize + " is not expected " + usize);
 			}
+
+			dataBuffer = buf;
+			dataOffset = 13;
 		}
 		else {
 			throw new AerospikeException("Invalid proto type: " + type + " Expected: " + Command.AS_MSG_TYPE);
@@ -161,7 +145,7 @@ public class ReadCommand extends SyncCommand {
 				return;
 			}
 			skipKey(fieldCount);
-			record = parseRecord(opCount, generation, expiration, isOperation);
+			record = parseRecord(opCount, generation, expiration, isOperation, policy.lazyBins);
 			return;
 		}
 
@@ -179,7 +163,7 @@ public class ReadCommand extends SyncCommand {
 
 		if (resultCode == ResultCode.UDF_BAD_RESPONSE) {
 			skipKey(fieldCount);
-			record = parseRecord(opCount, generation, expiration, isOperation);
+			record = parseRecord(opCount, generation, expiration, isOperation, policy.lazyBins);
 			handleUdfError(resultCode);
 			return;
 		}
@@ -34,7 +34,7 @@ public class ReadHeaderCommand extends SyncCommand {
 	private Record record;
 
 	public ReadHeaderCommand(Cluster cluster, Policy policy, Key key) {
-		super(cluster, policy);
+		super(cluster, policy, key.namespace);
 		this.key = key;
 		this.partition = Partition.read(cluster, policy, key);
 	}
@@ -21,6 +21,7 @@ import com.aerospike.client.Key;
 import com.aerospike.client.Record;
 import com.aerospike.client.ScanCallback;
 import com.aerospike.client.cluster.Cluster;
+import com.aerospike.client.cluster.LatencyType;
 import com.aerospike.client.policy.ScanPolicy;
 import com.aerospike.client.query.PartitionTracker;
 import com.aerospike.client.query.PartitionTracker.NodePartitions;
@@ -67,6 +68,11 @@ public final class ScanPartitionCommand extends MultiCommand {
 		}
 	}
 
+	@Override
+	protected LatencyType getLatencyType() {
+		return LatencyType.SCAN;
+	}
+
 	@Override
 	protected void writeBuffer() {
 		setScan(cluster, scanPolicy, namespace, setName, binNames, taskId, nodePartitions);
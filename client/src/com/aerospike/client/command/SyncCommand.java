@@ -18,6 +18,7 @@ package com.aerospike.client.command;
 
 import java.io.IOException;
 import java.net.SocketTimeoutException;
+import java.util.ArrayList;
 import java.util.concurrent.TimeUnit;
 
 import com.aerospike.client.AerospikeException;
@@ -25,8 +26,12 @@ import com.aerospike.client.ResultCode;
 import com.aerospike.client.cluster.Cluster;
 import com.aerospike.client.cluster.Connection;
 import com.aerospike.client.cluster.ConnectionRecover;
+import com.aerospike.client.cluster.LatencyType;
 import com.aerospike.client.cluster.Node;
+import com.aerospike.client.cluster.Pipeline;
+import com.aerospike.client.listener.MetricsListener;
 import com.aerospike.client.policy.Policy;
+import com.aerospike.client.util.BufferArena;
 import com.aerospike.client.util.ThreadLocalData;
 import com.aerospike.client.util.Util;
 
@@ -34,26 +39,46 @@ public abstract class SyncCommand extends Command {
 	// private static final AtomicLong TranCounter = new AtomicLong();
 	protected final Cluster cluster;
 	protected final Policy policy;
+	protected final String namespace;
 	int iteration = 1;
 	int commandSentCounter;
 	long deadline;
+	private ArrayList<byte[]> arenaBuffers;
+	private Pipeline.Ticket ticket;
+	private Node commandNode;
 
 	/**
 	 * Default constructor.
 	 */
 	public SyncCommand(Cluster cluster, Policy policy) {
+		this(cluster, policy, (String)null);
+	}
+
+	/**
+	 * Single namespace constructor. The namespace is used to group latency statistics.
+	 */
+	public SyncCommand(Cluster cluster, Policy policy, String namespace) {
 		super(policy.socketTimeout, policy.totalTimeout, policy.maxRetries);
 		this.cluster = cluster;
 		this.policy = policy;
+		this.namespace = namespace;
 	}
 
 	/**
 	 * Scan/Query constructor.
 	 */
 	public SyncCommand(Cluster cluster, Policy policy, int socketTimeout, int totalTimeout) {
+		this(cluster, policy, null, socketTimeout, totalTimeout);
+	}
+
+	/**
+	 * Scan/Query constructor with namespace used to group latency statistics.
+	 */
+	public SyncCommand(Cluster cluster, Policy policy, String namespace, int socketTimeout, int totalTimeout) {
 		super(socketTimeout, totalTimeout, 0);
 		this.cluster = cluster;
 		this.policy = policy;
+		this.namespace = namespace;
 	}
 
 	public void execute() {
@@ -64,15 +89,42 @@ public abstract class SyncCommand extends Command {
 	}
 
 	public final void executeCommand() {
+		long begin = cluster.latencyStats ? System.nanoTime() : 0;
+		MetricsListener metrics = cluster.metricsListener;
+
+		cluster.incrCommandCount();
+
+		if (metrics != null) {
+			metrics.onCommandStart(getLatencyType());
+		}
+
+		commandNode = null;
+
+		try {
+			executeCommandLoop();
+		}
+		finally {
+			releaseBuffers();
+
+			if (cluster.latencyStats && commandNode != null) {
+				commandNode.addLatency(namespace, getLatencyType(), System.nanoTime() - begin);
+			}
+		}
+	}
+
+	private final void executeCommandLoop() {
 		//final long tranId = TranCounter.getAndIncrement();
 		Node node;
+		MetricsListener metrics = cluster.metricsListener;
 		AerospikeException exception = null;
 		boolean isClientTimeout;
+		boolean pipelined = cluster.pipelineConnsPerNode > 0 && isSingle();
 
 		// Execute command until successful, timed out or maximum iterations have been reached.
 		while (true) {
 			try {
 				node = getNode();
+				commandNode = node;
 			}
 			catch (AerospikeException ae) {
 				if (cluster.isActive()) {
@@ -89,21 +141,28 @@ public abstract class SyncCommand extends Command {
 
 			try {
 				node.validateErrorCount();
-				Connection conn = node.getConnection(policy.connectTimeout, socketTimeout, policy.timeoutDelay);
+				Connection conn = pipelined? null : node.getConnection(policy.connectTimeout, socketTimeout, policy.timeoutDelay);
 
 				try {
 					// Set command buffer.
 					writeBuffer();
 
 					// Send command.
-					conn.write(dataBuffer, dataOffset);
-					commandSentCounter++;
+					if (pipelined) {
+						ticket = node.getPipeline().write(dataBuffer, dataOffset, socketTimeout);
+						commandSentCounter++;
+						conn = ticket.awaitRead(socketTimeout);
+					}
+					else {
+						conn.write(dataBuffer, dataOffset);
+						commandSentCounter++;
+					}
 
 					// Parse results.
 					parseResult(conn);
 
 					// Put connection back in pool.
-					node.putConnection(conn);
+					putConnection(node, conn);
 
 					// Command has completed successfully.  Exit method.
 					return;
@@ -111,11 +170,11 @@ public abstract class SyncCommand extends Command {
 				catch (AerospikeException ae) {
 					if (ae.keepConnection()) {
 						// Put connection back in pool.
-						node.putConnection(conn);
+						putConnection(node, conn);
 					}
 					else {
 						// Close socket to flush out possible garbage.  Do not put back in pool.
-						node.closeConnection(conn);
+						closeConnection(node, conn);
 					}
 
 					if (ae.getResultCode() == ResultCode.TIMEOUT) {
@@ -132,15 +191,18 @@ public abstract class SyncCommand extends Command {
 						node.incrErrorCount();
 					}
 					else {
+						if (ae.getResultCode() == ResultCode.PARTITION_UNAVAILABLE) {
+							cluster.signalRoutingError();
+						}
 						throw ae;
 					}
 				}
 				catch (Connection.ReadTimeout crt) {
-					if (policy.timeoutDelay > 0) {
+					if (policy.timeoutDelay > 0 && ! pipelined) {
 						cluster.recoverConnection(new ConnectionRecover(conn, node, policy.timeoutDelay, crt, isSingle()));
 					}
 					else {
-						node.closeConnection(conn);
+						closeConnection(node, conn);
 					}
 					isClientTimeout = true;
 				}
@@ -148,19 +210,20 @@ public abstract class SyncCommand extends Command {
 					// All runtime exceptions are considered fatal.  Do not retry.
 					// Close socket to flush out possible garbage.  Do not put back in pool.
 					// Log.info("Throw RuntimeException: " + tranId + ',' + node + ',' + sequence + ',' + iteration);
-					node.closeConnection(conn);
+					closeConnection(node, conn);
 					throw re;
 				}
 				catch (SocketTimeoutException ste) {
 					// Full timeout has been reached.
 					// Log.info("Socket timeout: " + tranId + ',' + node + ',' + sequence + ',' + iteration);
-					node.closeConnection(conn);
+					closeConnection(node, conn);
 					isClientTimeout = true;
 				}
 				catch (IOException ioe) {
 					// IO errors are considered temporary anomalies.  Retry.
 					// Log.info("IOException: " + tranId + ',' + node + ',' + sequence + ',' + iteration);
-					node.closeConnection(conn);
+					closeConnection(node, conn);
+					cluster.signalRoutingError();
 					exception = new AerospikeException.Connection(ioe);
 					isClientTimeout = false;
 				}
@@ -172,6 +235,7 @@ public abstract class SyncCommand extends Command {
 			catch (AerospikeException.Connection ce) {
 				// Socket connection error has occurred. Retry.
 				// Log.info("Connection error: " + tranId + ',' + node + ',' + sequence + ',' + iteration);
+				cluster.signalRoutingError();
 				exception = ce;
 				isClientTimeout = false;
 			}
@@ -190,6 +254,14 @@ public abstract class SyncCommand extends Command {
 				throw ae;
 			}
 
+			if (isClientTimeout || exception.getResultCode() == ResultCode.TIMEOUT) {
+				cluster.incrTimeoutCount();
+
+				if (metrics != null) {
+					metrics.onCommandTimeout(node, getLatencyType(), isClientTimeout);
+				}
+			}
+
 			// Check maxRetries.
 			if (iteration > maxRetries) {
 				break;
@@ -203,8 +275,9 @@ public abstract class SyncCommand extends Command {
 					break;
 				}
 
-				// Convert back to milliseconds for remaining check.
-				remaining = TimeUnit.NANOSECONDS.toMillis(remaining);
+				// Convert back to milliseconds for remaining check. Keep at least 1 ms
+				// because a zero timeout would disable the socket timeout.
+				remaining = Math.max(1, TimeUnit.NANOSECONDS.toMillis(remaining));
 
 				if (remaining < totalTimeout) {
 					totalTimeout = (int)remaining;
@@ -221,6 +294,11 @@ public abstract class SyncCommand extends Command {
 			}
 
 			iteration++;
+			cluster.incrRetryCount();
+
+			if (metrics != null) {
+				metrics.onCommandRetry(node, getLatencyType(), iteration);
+			}
 
 			if (! prepareRetry(isClientTimeout || exception.getResultCode() != ResultCode.SERVER_NOT_AVAILABLE)) {
 				// Batch may be retried in separate commands.
@@ -247,16 +325,77 @@ public abstract class SyncCommand extends Command {
 
 	@Override
 	protected final void sizeBuffer() {
+		// The previous command buffer is no longer referenced when a new command is written.
+		releaseBuffers();
+
+		if (Util.isVirtualThread()) {
+			// Virtual threads do not keep thread local buffers.
+			dataBuffer = acquireBuffer(dataOffset);
+			return;
+		}
+
 		dataBuffer = ThreadLocalData.getBuffer();
 
 		if (dataOffset > dataBuffer.length) {
-			dataBuffer = ThreadLocalData.resizeBuffer(dataOffset);
+			dataBuffer = resizeBuffer(dataOffset);
 		}
 	}
 
 	protected final void sizeBuffer(int size) {
 		if (size > dataBuffer.length) {
-			dataBuffer = ThreadLocalData.resizeBuffer(size);
+			dataBuffer = resizeBuffer(size);
+		}
+	}
+
+	@Override
+	protected final byte[] getCompressBuffer(int size) {
+		return (size > BufferArena.MIN_SIZE || Util.isVirtualThread())? acquireBuffer(size) : new byte[size];
+	}
+
+	private final byte[] resizeBuffer(int size) {
+		return (size > BufferArena.MIN_SIZE || Util.isVirtualThread())? acquireBuffer(size) : ThreadLocalData.resizeBuffer(size);
+	}
+
+	private final byte[] acquireBuffer(int size) {
+		byte[] buffer = BufferArena.acquire(size);
+
+		if (arenaBuffers == null) {
+			arenaBuffers = new ArrayList<byte[]>(2);
+		}
+		arenaBuffers.add(buffer);
+		return buffer;
+	}
+
+	private final void releaseBuffers() {
+		if (arenaBuffers != null && arenaBuffers.size() > 0) {
+			for (byte[] buffer : arenaBuffers) {
+				BufferArena.release(buffer);
+			}
+			arenaBuffers.clear();
+		}
+	}
+
+	private final void putConnection(Node node, Connection conn) {
+		if (ticket != null) {
+			// Pass shared connection to the next pipelined command.
+			Pipeline.Ticket t = ticket;
+			ticket = null;
+			t.complete();
+		}
+		else {
+			node.putConnection(conn);
+		}
+	}
+
+	private final void closeConnection(Node node, Connection conn) {
+		if (ticket != null) {
+			Pipeline.Ticket t = ticket;
+			ticket = null;
+			t.close();
+		}
+		else if (conn != null) {
+			// Pipelined connection is closed by the pipeline when the write fails.
+			node.closeConnection(conn);
 		}
 	}
 
@@ -279,6 +418,13 @@ public abstract class SyncCommand extends Command {
 		return false;
 	}
 
+	/**
+	 * Return command type used to group latency statistics.
+	 */
+	protected LatencyType getLatencyType() {
+		return isWrite()? LatencyType.WRITE : LatencyType.READ;
+	}
+
 	protected abstract Node getNode();
 	protected abstract void writeBuffer();
 	protected abstract void parseResult(Connection conn) throws AerospikeException, IOException;
@@ -33,7 +33,7 @@ public final class TouchCommand extends SyncCommand {
 	private final Partition partition;
 
 	public TouchCommand(Cluster cluster, WritePolicy writePolicy, Key key) {
-		super(cluster, writePolicy);
+		super(cluster, writePolicy, key.namespace);
 		this.writePolicy = writePolicy;
 		this.key = key;
 		this.partition = Partition.write(cluster, writePolicy, key);
@@ -37,7 +37,7 @@ public final class WriteCommand extends SyncCommand {
 	private final Operation.Type operation;
 
 	public WriteCommand(Cluster cluster, WritePolicy writePolicy, Key key, Bin[] bins, Operation.Type operation) {
-		super(cluster, writePolicy);
+		super(cluster, writePolicy, key.namespace);
 		this.writePolicy = writePolicy;
 		this.key = key;
 		this.partition = Partition.write(cluster, writePolicy, key);
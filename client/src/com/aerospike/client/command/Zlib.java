@@ -0,0 +1,111 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.command;
+
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.util.Util;
+
+/**
+ * Zlib compression with reusable per thread Deflater/Inflater instances.
+ * <p>
+ * Deflater and Inflater hold native zlib memory that is only freed by end() or
+ * finalization, so creating one per command churns native memory. Instead, each
+ * platform thread keeps one of each and resets it after use. An event loop runs on
+ * a single thread, so async commands share one instance per event loop. Virtual
+ * threads receive temporary instances that are ended after each call.
+ */
+public final class Zlib {
+	private static final ThreadLocal<Zlib> ZlibThreadLocal = new ThreadLocal<Zlib>() {
+		@Override protected Zlib initialValue() {
+			return new Zlib();
+		}
+	};
+
+	/**
+	 * Compress src[0, srcLength) into dst[dstOffset, dstOffset + dstLength) using
+	 * BEST_SPEED. Return compressed size or -1 if the compressed data did not fit.
+	 */
+	public static int deflate(byte[] src, int srcLength, byte[] dst, int dstOffset, int dstLength) {
+		boolean virtual = Util.isVirtualThread();
+		Zlib zlib = virtual? new Zlib() : ZlibThreadLocal.get();
+		Deflater def = zlib.getDeflater();
+
+		try {
+			def.setInput(src, 0, srcLength);
+			def.finish();
+
+			int csize = def.deflate(dst, dstOffset, dstLength);
+			return def.finished()? csize : -1;
+		}
+		finally {
+			if (virtual) {
+				def.end();
+			}
+			else {
+				// Reset also releases the reference to src.
+				def.reset();
+			}
+		}
+	}
+
+	/**
+	 * Decompress src[srcOffset, srcOffset + srcLength) into dst[0, dstLength).
+	 * Return uncompressed size.
+	 */
+	public static int inflate(byte[] src, int srcOffset, int srcLength, byte[] dst, int dstLength) {
+		boolean virtual = Util.isVirtualThread();
+		Zlib zlib = virtual? new Zlib() : ZlibThreadLocal.get();
+		Inflater inf = zlib.getInflater();
+
+		try {
+			inf.setInput(src, srcOffset, srcLength);
+			return inf.inflate(dst, 0, dstLength);
+		}
+		catch (DataFormatException dfe) {
+			throw new AerospikeException.Serialize(dfe);
+		}
+		finally {
+			if (virtual) {
+				inf.end();
+			}
+			else {
+				inf.reset();
+			}
+		}
+	}
+
+	private Deflater deflater;
+	private Inflater inflater;
+
+	private Deflater getDeflater() {
+		if (deflater == null) {
+			deflater = new Deflater(Deflater.BEST_SPEED);
+		}
+		return deflater;
+	}
+
+	private Inflater getInflater() {
+		if (inflater == null) {
+			inflater = new Inflater();
+		}
+		return inflater;
+	}
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.flow;
+
+/**
+ * Producer of items that are sent to a {@link Subscriber} on demand.
+ * <p>
+ * This interface has the same shape as java.util.concurrent.Flow.Publisher, which is not
+ * available on Java 8. Java 9+ applications can adapt between the two with a one line
+ * lambda per method.
+ *
+ * @param <T> item type
+ */
+public interface Publisher<T> {
+	/**
+	 * Add subscriber. {@link Subscriber#onSubscribe(Subscription)} is called before any
+	 * other subscriber method.
+	 */
+	public void subscribe(Subscriber<? super T> subscriber);
+}
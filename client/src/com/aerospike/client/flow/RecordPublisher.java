@@ -0,0 +1,242 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.flow;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.async.RecordDemand;
+import com.aerospike.client.listener.RecordSequenceDemandListener;
+import com.aerospike.client.listener.RecordSequenceListener;
+import com.aerospike.client.query.KeyRecord;
+
+/**
+ * Publisher of records from an asynchronous batch, scan or query command.
+ * <p>
+ * The command is started when the subscriber first requests records. Records are sent
+ * to the subscriber only when requested. Scan and query commands stop reading from their
+ * sockets when the subscriber's demand has been received, so at most one record group per
+ * node is queued beyond demand. Cancelling the subscription terminates the command.
+ * <p>
+ * Each publisher runs one command, so only one subscriber is allowed.
+ */
+public final class RecordPublisher implements Publisher<KeyRecord> {
+	private final Consumer<RecordSequenceListener> command;
+	private final AtomicBoolean subscribed;
+
+	/**
+	 * Construct publisher.
+	 *
+	 * @param command	starts the asynchronous command with the given listener
+	 */
+	public RecordPublisher(Consumer<RecordSequenceListener> command) {
+		this.command = command;
+		this.subscribed = new AtomicBoolean();
+	}
+
+	@Override
+	public void subscribe(Subscriber<? super KeyRecord> subscriber) {
+		if (! subscribed.compareAndSet(false, true)) {
+			subscriber.onSubscribe(new Subscription() {
+				public void request(long n) {
+				}
+				public void cancel() {
+				}
+			});
+			subscriber.onError(new IllegalStateException("RecordPublisher allows only one subscriber"));
+			return;
+		}
+		subscriber.onSubscribe(new RecordSubscription(command, subscriber));
+	}
+
+	private static final class RecordSubscription implements Subscription, RecordSequenceDemandListener {
+		private final Consumer<RecordSequenceListener> command;
+		private final Subscriber<? super KeyRecord> subscriber;
+		private final Queue<KeyRecord> queue;
+		private final AtomicLong requested;
+		private final RecordDemand demand;
+		private final AtomicInteger wip;
+		private final AtomicBoolean started;
+		private volatile Throwable error;
+		private volatile boolean done;
+		private volatile boolean cancelled;
+
+		private RecordSubscription(Consumer<RecordSequenceListener> command, Subscriber<? super KeyRecord> subscriber) {
+			this.command = command;
+			this.subscriber = subscriber;
+			this.queue = new ConcurrentLinkedQueue<KeyRecord>();
+			this.requested = new AtomicLong();
+			this.demand = new RecordDemand(0);
+			this.wip = new AtomicInteger();
+			this.started = new AtomicBoolean();
+		}
+
+		@Override
+		public void request(long n) {
+			if (n <= 0) {
+				onFailure(new IllegalArgumentException("Subscription request must be > 0: " + n));
+				return;
+			}
+
+			long current;
+			long next;
+
+			do {
+				current = requested.get();
+
+				if (current == Long.MAX_VALUE) {
+					break;
+				}
+				next = current + n;
+
+				if (next < 0) {
+					next = Long.MAX_VALUE;
+				}
+			} while (! requested.compareAndSet(current, next));
+
+			demand.request(n);
+
+			if (started.compareAndSet(false, true)) {
+				try {
+					command.accept(this);
+				}
+				catch (Throwable e) {
+					onFailure(e);
+				}
+			}
+			drain();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+			// Resume paused commands so they can terminate.
+			demand.request(Long.MAX_VALUE);
+			drain();
+		}
+
+		@Override
+		public RecordDemand getDemand() {
+			return demand;
+		}
+
+		@Override
+		public void onRecord(Key key, Record record) throws AerospikeException {
+			if (cancelled) {
+				// Terminate command.
+				throw new AerospikeException.QueryTerminated();
+			}
+			queue.offer(new KeyRecord(key, record));
+			drain();
+		}
+
+		@Override
+		public void onSuccess() {
+			done = true;
+			drain();
+		}
+
+		@Override
+		public void onFailure(AerospikeException ae) {
+			onFailure((Throwable)ae);
+		}
+
+		private void onFailure(Throwable e) {
+			if (done) {
+				return;
+			}
+			error = e;
+			done = true;
+			drain();
+		}
+
+		private void drain() {
+			// Only one thread sends signals to the subscriber at a time.
+			if (wip.getAndIncrement() != 0) {
+				return;
+			}
+
+			int missed = 1;
+
+			while (true) {
+				long limit = requested.get();
+				long count = 0;
+
+				while (count != limit) {
+					if (cancelled) {
+						queue.clear();
+						return;
+					}
+
+					boolean isDone = done;
+					KeyRecord keyRecord = queue.poll();
+
+					if (keyRecord == null) {
+						if (isDone) {
+							terminate();
+							return;
+						}
+						break;
+					}
+					subscriber.onNext(keyRecord);
+					count++;
+				}
+
+				if (cancelled) {
+					queue.clear();
+					return;
+				}
+
+				if (done && queue.isEmpty()) {
+					terminate();
+					return;
+				}
+
+				if (count != 0 && limit != Long.MAX_VALUE) {
+					requested.addAndGet(-count);
+				}
+
+				missed = wip.addAndGet(-missed);
+
+				if (missed == 0) {
+					return;
+				}
+			}
+		}
+
+		private void terminate() {
+			cancelled = true;
+			demand.request(Long.MAX_VALUE);
+
+			Throwable e = error;
+
+			if (e != null) {
+				subscriber.onError(e);
+			}
+			else {
+				subscriber.onComplete();
+			}
+		}
+	}
+}
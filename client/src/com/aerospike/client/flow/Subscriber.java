@@ -0,0 +1,48 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.flow;
+
+/**
+ * Receiver of items from a {@link Publisher}. Items are only sent after they have been
+ * requested with {@link Subscription#request(long)}.
+ * <p>
+ * This interface has the same shape as java.util.concurrent.Flow.Subscriber.
+ *
+ * @param <T> item type
+ */
+public interface Subscriber<T> {
+	/**
+	 * Called once before any other method. Items are not sent until requested on the
+	 * given subscription.
+	 */
+	public void onSubscribe(Subscription subscription);
+
+	/**
+	 * Called for each requested item.
+	 */
+	public void onNext(T item);
+
+	/**
+	 * Called once when the publisher fails. No other methods are called afterwards.
+	 */
+	public void onError(Throwable throwable);
+
+	/**
+	 * Called once when all items have been sent. No other methods are called afterwards.
+	 */
+	public void onComplete();
+}
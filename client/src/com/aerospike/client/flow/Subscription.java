@@ -0,0 +1,35 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.flow;
+
+/**
+ * Link between a {@link Publisher} and a {@link Subscriber}.
+ * <p>
+ * This interface has the same shape as java.util.concurrent.Flow.Subscription.
+ */
+public interface Subscription {
+	/**
+	 * Add n items to the number of items the subscriber is willing to receive.
+	 * n must be &gt; 0. Use Long.MAX_VALUE for unbounded demand.
+	 */
+	public void request(long n);
+
+	/**
+	 * Stop sending items. Items that have already been received are discarded.
+	 */
+	public void cancel();
+}
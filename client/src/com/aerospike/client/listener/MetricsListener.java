@@ -0,0 +1,86 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.listener;
+
+import com.aerospike.client.cluster.LatencyType;
+import com.aerospike.client.cluster.Node;
+
+/**
+ * Client lifecycle event notifications used to bridge client activity to an external
+ * metrics system. Register with {@link com.aerospike.client.policy.ClientPolicy#metricsListener}.
+ * <p>
+ * Methods are called inline from command threads, event loop threads and the cluster tend
+ * thread, so implementations must be thread-safe, fast and must not block. Arguments are
+ * existing objects or primitives, so no objects are allocated to deliver an event.
+ */
+public interface MetricsListener {
+	/**
+	 * A command has started. Called once per command, not per retry.
+	 * The type is null for internal info commands.
+	 */
+	public void onCommandStart(LatencyType type);
+
+	/**
+	 * A command is about to be retried.
+	 *
+	 * @param node			node used by the failed attempt, may be null
+	 * @param type			command type
+	 * @param iteration		attempt number of the retry (2 for the first retry)
+	 */
+	public void onCommandRetry(Node node, LatencyType type, int iteration);
+
+	/**
+	 * A command attempt timed out.
+	 *
+	 * @param node			node used by the attempt, may be null
+	 * @param type			command type
+	 * @param client		true if the client timed out (socket or total timeout),
+	 * 						false if the server reported a timeout
+	 */
+	public void onCommandTimeout(Node node, LatencyType type, boolean client);
+
+	/**
+	 * A connection to a node has been opened.
+	 */
+	public void onConnectionOpened(Node node, boolean async);
+
+	/**
+	 * A connection to a node has been closed.
+	 *
+	 * @param node			node
+	 * @param async			true for async connections
+	 * @param error			true if the connection was closed because of an error
+	 */
+	public void onConnectionClosed(Node node, boolean async, boolean error);
+
+	/**
+	 * Node error count has exceeded {@link com.aerospike.client.policy.ClientPolicy#maxErrorRate}.
+	 * Commands to the node are rejected with a backoff error until the error count is reset
+	 * at the end of the current error rate window.
+	 */
+	public void onNodeBackoff(Node node);
+
+	/**
+	 * Cluster tend iteration has completed.
+	 */
+	public void onTendComplete(long durationNanos);
+
+	/**
+	 * Partition map has been updated from the given node.
+	 */
+	public void onPartitionMapUpdate(Node node);
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.listener;
+
+import com.aerospike.client.async.RecordDemand;
+
+/**
+ * Record sequence listener for scans and queries that limits how fast records are received.
+ * Scan/query commands stop reading from the socket when the listener's demand is exhausted
+ * and resume when demand is added. This bounds client memory when the consumer is slower
+ * than the servers.
+ */
+public interface RecordSequenceDemandListener extends RecordSequenceListener {
+	/**
+	 * Return record demand shared by all node commands of the scan/query.
+	 */
+	public RecordDemand getDemand();
+}
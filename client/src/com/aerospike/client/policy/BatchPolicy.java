@@ -101,6 +101,23 @@ public final class BatchPolicy extends Policy {
 	 */
 	public boolean respondAllKeys = true;
 
+	/**
+	 * Minimum number of keys in a batch at which key node assignment is split across the
+	 * cluster thread pool (one range of keys per available processor). Key digests are also
+	 * computed in parallel when batch keys are supplied as user keys of a
+	 * {@link com.aerospike.client.SetHandle}. Smaller batches and single processor hosts
+	 * always run on the calling thread.
+	 * <p>
+	 * Only sync batch commands that take a key array are split. Async batch commands and
+	 * batch commands that take a list of {@link com.aerospike.client.BatchRead} or
+	 * {@link com.aerospike.client.BatchRecord} always run on the calling thread.
+	 * <p>
+	 * If zero, key hashing and node assignment always run on the calling thread.
+	 * <p>
+	 * Default: 0
+	 */
+	public int parallelKeyThreshold;
+
 	/**
 	 * This method is deprecated and will eventually be removed.
 	 * The set name is now always sent for every distinct namespace/set in the batch.
@@ -123,6 +140,7 @@ public final class BatchPolicy extends Policy {
 		this.allowInline = other.allowInline;
 		this.allowInlineSSD = other.allowInlineSSD;
 		this.respondAllKeys = other.respondAllKeys;
+		this.parallelKeyThreshold = other.parallelKeyThreshold;
 		this.sendSetName = other.sendSetName;
 	}
 
@@ -22,6 +22,7 @@ import java.util.Map;
 import java.util.concurrent.ExecutorService;
 
 import com.aerospike.client.async.EventLoops;
+import com.aerospike.client.listener.MetricsListener;
 
 /**
  * Container object for client policy Command.
@@ -146,6 +147,120 @@ public class ClientPolicy {
 	 */
 	public int connPoolsPerNode = 1;
 
+	/**
+	 * Synchronous connection pool implementation. {@link ConnPoolType#LOCK_FREE} avoids
+	 * lock contention when hundreds of threads share a few connection pools.
+	 * <p>
+	 * Default: {@link ConnPoolType#LOCK}
+	 */
+	public ConnPoolType connPoolType = ConnPoolType.LOCK;
+
+	/**
+	 * Pin each thread to one of the {@link #connPoolsPerNode} pools instead of choosing pools
+	 * round-robin. The pool is chosen by hashing the thread id. When the thread's own pool is
+	 * empty, idle connections are taken from neighbor pools before a new connection is created.
+	 * This reduces pool contention and keeps a thread's connections in the same pool, which
+	 * helps services with hundreds of sync threads and a few nodes.
+	 * <p>
+	 * Only applies when connPoolsPerNode is greater than one.
+	 * <p>
+	 * Default: false
+	 */
+	public boolean connPoolAffinity;
+
+	/**
+	 * Number of shared pipelined connections per node used by synchronous single record
+	 * commands. When enabled, single record commands are written back-to-back on a shared
+	 * connection without waiting for the previous response, and responses are matched to
+	 * commands in write order. This reduces the number of sockets and round trip stalls when
+	 * many threads issue small reads and writes. Multi-record commands (batch, scan, query)
+	 * still use the connection pools.
+	 * <p>
+	 * The server must answer commands on a connection in the order they were sent.
+	 * <p>
+	 * Default: 0 (pipelining disabled)
+	 */
+	public int pipelineConnsPerNode;
+
+	/**
+	 * Maximum number of commands outstanding on each pipelined connection. Writers wait up
+	 * to the command's socketTimeout for a slot when the pipeline is full.
+	 * Only applies when {@link #pipelineConnsPerNode} is greater than zero.
+	 * <p>
+	 * Default: 32
+	 */
+	public int pipelineDepth = 32;
+
+	/**
+	 * Time window in microseconds used to combine concurrent synchronous single record reads
+	 * into batch reads. Reads issued with the default read policy that are destined for the
+	 * same node within the window are sent as one batch command. Each caller still receives
+	 * its own record. This trades a small amount of latency for fewer server messages when
+	 * many threads issue independent reads. The read policy totalTimeout still bounds each
+	 * read, including the time spent waiting for the window.
+	 * <p>
+	 * Default: 0 (reads are not combined)
+	 */
+	public int readCoalesceMicros;
+
+	/**
+	 * Maximum number of reads combined into one batch. A full batch is sent without waiting
+	 * for the rest of the {@link #readCoalesceMicros} window.
+	 * <p>
+	 * Default: 128
+	 */
+	public int readCoalesceMaxKeys = 128;
+
+	/**
+	 * Record command latency histograms per node, namespace and command type. The histograms
+	 * are returned in {@link com.aerospike.client.cluster.NodeStats#latency} by
+	 * {@link com.aerospike.client.IAerospikeClient#getClusterStats()}. Each stats call returns
+	 * latencies recorded since the previous call and resets the counts.
+	 * <p>
+	 * Default: false
+	 */
+	public boolean latencyStats;
+
+	/**
+	 * Listener that receives command, connection, node and tend events. The listener is
+	 * called inline and must not block. See {@link MetricsListener}.
+	 * <p>
+	 * Default: null (no events)
+	 */
+	public MetricsListener metricsListener;
+
+	/**
+	 * Path of a local file that receives a one line cluster statistics snapshot every
+	 * {@link #statsInterval} seconds. The snapshot is written by the cluster tend thread and
+	 * includes connection counts, event loop queue sizes, threads in use, recover queue size,
+	 * node error counts and command counters. When the file exceeds {@link #statsFileMaxSize},
+	 * it is renamed to path.1 (path.1 to path.2, etc) and a new file is started.
+	 * <p>
+	 * Default: null (do not write statistics)
+	 */
+	public String statsFile;
+
+	/**
+	 * Interval in seconds between statistics snapshots written to {@link #statsFile}.
+	 * <p>
+	 * Default: 60
+	 */
+	public int statsInterval = 60;
+
+	/**
+	 * Maximum size in bytes of {@link #statsFile} before it is rolled.
+	 * <p>
+	 * Default: 10485760 (10 MB)
+	 */
+	public int statsFileMaxSize = 10 * 1024 * 1024;
+
+	/**
+	 * Number of rolled {@link #statsFile} files to keep.
+	 * <p>
+	 * Default: 5
+	 */
+	public int statsFileCount = 5;
+
 	/**
 	 * Maximum socket idle in seconds.  Socket connection pools will discard sockets
 	 * that have been idle longer than the maximum.
@@ -198,6 +313,71 @@ public class ClientPolicy {
 	 */
 	public int tendInterval = 1000;
 
+	/**
+	 * Minimum interval in milliseconds between cluster tends when adaptive tending is enabled.
+	 * Adaptive tending is enabled when this value is greater than zero and less than
+	 * {@link #tendInterval}.
+	 * <p>
+	 * After a tend that detects peers or partition generation changes, or after commands fail
+	 * because a node is not available or a partition has no node, the next tend runs after this
+	 * interval. While the cluster is stable, the interval doubles after each tend until it
+	 * reaches {@link #tendIntervalMax}.
+	 * <p>
+	 * Settings counted in tend iterations, like {@link #errorRateWindow}, elapse faster while
+	 * the tend interval is shortened.
+	 * <p>
+	 * Default: 0 (tend every {@link #tendInterval} milliseconds)
+	 */
+	public int tendIntervalMin;
+
+	/**
+	 * Maximum interval in milliseconds between cluster tends when adaptive tending is enabled.
+	 * If zero or less than {@link #tendInterval}, {@link #tendInterval} is the maximum.
+	 * <p>
+	 * Default: 0
+	 */
+	public int tendIntervalMax;
+
+	/**
+	 * Minimum interval in milliseconds between cluster tends that are started early because
+	 * commands failed with routing errors. Routing errors are network errors on the
+	 * command's node (failure to connect or a socket error while sending or receiving,
+	 * but not a timeout), partitions without a node and
+	 * {@link com.aerospike.client.ResultCode#PARTITION_UNAVAILABLE}. Sync and async
+	 * commands signal the same errors. Cluster tend requests do not. When such an error
+	 * occurs, the tend thread wakes up and refreshes node status and partition maps without
+	 * waiting for the rest of the tend interval.
+	 * <p>
+	 * Default: 0 (routing errors do not start a tend early)
+	 */
+	public int routingErrorTendInterval;
+
+	/**
+	 * Number of threads used to send cluster tend info requests to nodes concurrently.
+	 * If greater than one, node status, partition map and rack requests are sent in parallel
+	 * on a dedicated daemon thread pool of this size and responses are applied to the cluster
+	 * in node order on the tend thread. Peer discovery is still performed serially.
+	 * <p>
+	 * Default: 1 (tend nodes serially on the tend thread)
+	 */
+	public int tendThreads = 1;
+
+	/**
+	 * Send the node status and partition map info requests of each cluster tend as async
+	 * commands on {@link #eventLoops}. All nodes are polled in parallel and responses are
+	 * applied in node order on the tend thread. The blocking tend connection is then only
+	 * used for login, peer discovery and rack refreshes. Takes precedence over {@link #tendThreads}
+	 * for the requests it covers.
+	 * <p>
+	 * Tend requests are not limited by {@link com.aerospike.client.async.EventPolicy#maxCommandsInProcess}.
+	 * A node whose async request fails is refreshed on its blocking tend connection instead.
+	 * <p>
+	 * This field is ignored if {@link #eventLoops} is null.
+	 * <p>
+	 * Default: false
+	 */
+	public boolean asyncTend;
+
 	/**
 	 * Should cluster instantiation fail if the client fails to connect to a seed or
 	 * all the seed's peers.
@@ -309,6 +489,9 @@ public class ClientPolicy {
 	 * </pre>
 	 * Daemon threads automatically terminate when the program terminates.
 	 * <p>
+	 * On Java 21+, Executors.newVirtualThreadPerTaskExecutor() may be used to run
+	 * these commands on virtual threads.
+	 * <p>
 	 * Default: null (use Executors.newCachedThreadPool)
 	 */
 	public ExecutorService threadPool;
@@ -396,10 +579,27 @@ public class ClientPolicy {
 		this.asyncMinConnsPerNode = other.asyncMinConnsPerNode;
 		this.asyncMaxConnsPerNode = other.asyncMaxConnsPerNode;
 		this.connPoolsPerNode = other.connPoolsPerNode;
+		this.connPoolType = other.connPoolType;
+		this.connPoolAffinity = other.connPoolAffinity;
+		this.pipelineConnsPerNode = other.pipelineConnsPerNode;
+		this.pipelineDepth = other.pipelineDepth;
+		this.readCoalesceMicros = other.readCoalesceMicros;
+		this.readCoalesceMaxKeys = other.readCoalesceMaxKeys;
+		this.latencyStats = other.latencyStats;
+		this.metricsListener = other.metricsListener;
+		this.statsFile = other.statsFile;
+		this.statsInterval = other.statsInterval;
+		this.statsFileMaxSize = other.statsFileMaxSize;
+		this.statsFileCount = other.statsFileCount;
 		this.maxSocketIdle = other.maxSocketIdle;
 		this.maxErrorRate = other.maxErrorRate;
 		this.errorRateWindow = other.errorRateWindow;
 		this.tendInterval = other.tendInterval;
+		this.tendIntervalMin = other.tendIntervalMin;
+		this.tendIntervalMax = other.tendIntervalMax;
+		this.routingErrorTendInterval = other.routingErrorTendInterval;
+		this.tendThreads = other.tendThreads;
+		this.asyncTend = other.asyncTend;
 		this.failIfNotConnected = other.failIfNotConnected;
 		this.readPolicyDefault = new Policy(other.readPolicyDefault);
 		this.writePolicyDefault = new WritePolicy(other.writePolicyDefault);
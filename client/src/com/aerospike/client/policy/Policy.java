@@ -196,7 +196,7 @@ public class Policy {
 
 	/**
 	 * Use zlib compression on command buffers sent to the server and responses received
-	 * from the server when the buffer size is greater than 128 bytes.
+	 * from the server when the buffer size is greater than {@link #compressThreshold} bytes.
 	 * <p>
 	 * This option will increase cpu and memory usage (for extra compressed buffers),but
 	 * decrease the size of data sent over the network.
@@ -205,6 +205,35 @@ public class Policy {
 	 */
 	public boolean compress;
 
+	/**
+	 * Minimum command buffer size in bytes before compression is attempted.
+	 * Only applicable when {@link #compress} is true.
+	 * <p>
+	 * Default: 128
+	 */
+	public int compressThreshold = 128;
+
+	/**
+	 * Sample the achieved compression ratio per namespace/set and stop compressing commands
+	 * for a namespace/set when compression saves less than {@link #compressMinSavings} percent.
+	 * Commands for a namespace/set that is not being compressed are still compressed
+	 * periodically to detect payload changes. Only applicable when {@link #compress} is true.
+	 * <p>
+	 * Compression statistics are available in {@link com.aerospike.client.cluster.ClusterStats}.
+	 * <p>
+	 * Default: false
+	 */
+	public boolean compressAdaptive;
+
+	/**
+	 * Minimum percentage of command bytes that compression must save for adaptive compression
+	 * to continue compressing commands for a namespace/set. Only applicable when
+	 * {@link #compressAdaptive} is true.
+	 * <p>
+	 * Default: 10
+	 */
+	public int compressMinSavings = 10;
+
 	/**
 	 * Throw exception if {@link #filterExp} is defined and that filter evaluates
 	 * to false (transaction ignored).  The {@link com.aerospike.client.AerospikeException}
@@ -216,6 +245,16 @@ public class Policy {
 	 */
 	public boolean failOnFilteredOut;
 
+	/**
+	 * Retain the bin section of each record returned by the server and decode bin values
+	 * on first access by name. This reduces allocations when only a few bins of wide records
+	 * are accessed. Iterating or modifying {@link com.aerospike.client.Record#bins} decodes
+	 * all bins. This field is ignored for commands that return operation results.
+	 * <p>
+	 * Default: false
+	 */
+	public boolean lazyBins;
+
 	/**
 	 * Copy policy from another policy.
 	 */
@@ -232,7 +271,11 @@ public class Policy {
 		this.sleepBetweenRetries = other.sleepBetweenRetries;
 		this.sendKey = other.sendKey;
 		this.compress = other.compress;
+		this.compressThreshold = other.compressThreshold;
+		this.compressAdaptive = other.compressAdaptive;
+		this.compressMinSavings = other.compressMinSavings;
 		this.failOnFilteredOut = other.failOnFilteredOut;
+		this.lazyBins = other.lazyBins;
 	}
 
 	/**
@@ -269,9 +312,13 @@ public class Policy {
 		final int prime = 31;
 		int result = 1;
 		result = prime * result + (compress ? 1231 : 1237);
+		result = prime * result + (compressAdaptive ? 1231 : 1237);
+		result = prime * result + compressMinSavings;
+		result = prime * result + compressThreshold;
 		result = prime * result + connectTimeout;
 		result = prime * result + (failOnFilteredOut ? 1231 : 1237);
 		result = prime * result + ((filterExp == null) ? 0 : filterExp.hashCode());
+		result = prime * result + (lazyBins ? 1231 : 1237);
 		result = prime * result + maxRetries;
 		result = prime * result + ((readModeAP == null) ? 0 : readModeAP.hashCode());
 		result = prime * result + ((readModeSC == null) ? 0 : readModeSC.hashCode());
@@ -295,6 +342,12 @@ public class Policy {
 		Policy other = (Policy) obj;
 		if (compress != other.compress)
 			return false;
+		if (compressAdaptive != other.compressAdaptive)
+			return false;
+		if (compressMinSavings != other.compressMinSavings)
+			return false;
+		if (compressThreshold != other.compressThreshold)
+			return false;
 		if (connectTimeout != other.connectTimeout)
 			return false;
 		if (failOnFilteredOut != other.failOnFilteredOut)
@@ -304,6 +357,8 @@ public class Policy {
 				return false;
 		} else if (!filterExp.equals(other.filterExp))
 			return false;
+		if (lazyBins != other.lazyBins)
+			return false;
 		if (maxRetries != other.maxRetries)
 			return false;
 		if (readModeAP != other.readModeAP)
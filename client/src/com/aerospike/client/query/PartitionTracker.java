@@ -20,7 +20,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import com.aerospike.client.AerospikeException;
 import com.aerospike.client.Key;
@@ -194,12 +193,12 @@ public final class PartitionTracker {
 			throw new AerospikeException.InvalidNamespace(namespace, map.size());
 		}
 
-		AtomicReferenceArray<Node> master = parts.replicas[0];
+		Node[] master = parts.getRoutes()[0];
 		boolean retry = (partitionFilter == null || partitionFilter.retry) && iteration == 1;
 
 		for (PartitionStatus part : partitions) {
 			if (retry || part.retry) {
-				Node node = master.get(part.id);
+				Node node = master[part.id];
 
 				if (node == null) {
 					throw new AerospikeException.InvalidNode(part.id);
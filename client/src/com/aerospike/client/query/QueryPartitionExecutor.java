@@ -21,6 +21,8 @@ import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import com.aerospike.client.AerospikeException;
 import com.aerospike.client.cluster.Cluster;
@@ -41,6 +43,8 @@ public final class QueryPartitionExecutor implements IQueryExecutor, Runnable {
 	private final List<QueryThread> threads;
 	private final AtomicInteger completedCount;
 	private final AtomicBoolean done;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition completeCondition = lock.newCondition();
 	private volatile Exception exception;
 	private int maxConcurrentThreads;
 	private boolean threadsComplete;
@@ -141,19 +145,31 @@ public final class QueryPartitionExecutor implements IQueryExecutor, Runnable {
 		}
 	}
 
-	private synchronized void waitTillComplete() {
-		while (! threadsComplete) {
-			try {
-				super.wait();
-			}
-			catch (InterruptedException ie) {
+	private void waitTillComplete() {
+		lock.lock();
+		try {
+			while (! threadsComplete) {
+				try {
+					completeCondition.await();
+				}
+				catch (InterruptedException ie) {
+				}
 			}
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
-	private synchronized void notifyCompleted() {
-		threadsComplete = true;
-		super.notify();
+	private void notifyCompleted() {
+		lock.lock();
+		try {
+			threadsComplete = true;
+			completeCondition.signal();
+		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	private final void threadCompleted() {
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.aerospike.client.Log;
+
+/**
+ * Shared pool of command buffers.
+ * <p>
+ * Platform threads use the arena for buffers above the thread local cutoff (128 KB).
+ * Virtual threads use the arena for all command buffers because a thread local buffer
+ * per virtual thread would never be reused. Requests are rounded up to power of two
+ * size classes from 8 KB to 16 MB. Each size class keeps a fixed number of slots that
+ * are claimed with compare-and-set, so acquire/release never block. The first slot probed
+ * is derived from the thread id, which spreads threads across slots and keeps a thread
+ * reusing the same buffer when there is no contention. Requests above 16 MB are always
+ * allocated from the heap.
+ * <p>
+ * Total retained memory is bounded by {@link #MaxRetainedBytes}. Buffers released when
+ * the bound has been reached are dropped and left to the garbage collector.
+ */
+public final class BufferArena {
+	/**
+	 * Maximum bytes retained in the arena across all size classes.
+	 * Set to zero to disable retention. Default: 64 MB
+	 */
+	public static long MaxRetainedBytes = 64L * 1024 * 1024;
+
+	/**
+	 * Platform thread buffers less than or equal to this size are stored in
+	 * {@link ThreadLocalData} instead of the arena.
+	 */
+	public static final int MIN_SIZE = 1024 * 128;  // 128 KB
+
+	private static final int MIN_SHIFT = 13;  // 8 KB
+	private static final int MAX_SHIFT = 24;  // 16 MB
+	private static final int SLOTS = Math.min(256, Math.max(16, Runtime.getRuntime().availableProcessors() * 4));
+
+	private static final SizeClass[] classes = new SizeClass[MAX_SHIFT - MIN_SHIFT + 1];
+
+	private static final AtomicLong retained = new AtomicLong();
+	private static final AtomicLong hits = new AtomicLong();
+	private static final AtomicLong misses = new AtomicLong();
+	private static final AtomicLong drops = new AtomicLong();
+
+	static {
+		for (int i = 0; i < classes.length; i++) {
+			classes[i] = new SizeClass();
+		}
+	}
+
+	/**
+	 * Return buffer with length &gt;= size. The buffer contents are undefined.
+	 * The buffer should be returned with {@link #release(byte[])} when it is no longer
+	 * referenced.
+	 */
+	public static byte[] acquire(int size) {
+		int index = classIndex(size);
+
+		if (index < 0) {
+			misses.getAndIncrement();
+			return new byte[size];
+		}
+
+		AtomicReferenceArray<byte[]> slots = classes[index].slots;
+		int start = slotIndex();
+
+		for (int i = 0; i < SLOTS; i++) {
+			int slot = (start + i) % SLOTS;
+			byte[] buffer = slots.get(slot);
+
+			if (buffer != null && slots.compareAndSet(slot, buffer, null)) {
+				retained.getAndAdd(-buffer.length);
+				hits.getAndIncrement();
+				return buffer;
+			}
+		}
+
+		misses.getAndIncrement();
+
+		if (Log.debugEnabled()) {
+			Log.debug("Thread " + Thread.currentThread().getId() + " allocate arena buffer " + (1 << (index + MIN_SHIFT)));
+		}
+		return new byte[1 << (index + MIN_SHIFT)];
+	}
+
+	/**
+	 * Return buffer to the arena. Buffers that were not sized by the arena are ignored.
+	 */
+	public static void release(byte[] buffer) {
+		int length = buffer.length;
+
+		// Only accept exact size class buffers.
+		if ((length & (length - 1)) != 0 || length < (1 << MIN_SHIFT) || length > (1 << MAX_SHIFT)) {
+			return;
+		}
+
+		if (retained.getAndAdd(length) + length > MaxRetainedBytes) {
+			retained.getAndAdd(-length);
+			drops.getAndIncrement();
+			return;
+		}
+
+		AtomicReferenceArray<byte[]> slots = classes[Integer.numberOfTrailingZeros(length) - MIN_SHIFT].slots;
+		int start = slotIndex();
+
+		for (int i = 0; i < SLOTS; i++) {
+			int slot = (start + i) % SLOTS;
+
+			if (slots.get(slot) == null && slots.compareAndSet(slot, null, buffer)) {
+				return;
+			}
+		}
+
+		// All slots are occupied.
+		retained.getAndAdd(-length);
+		drops.getAndIncrement();
+	}
+
+	/**
+	 * Return arena statistics.
+	 */
+	public static BufferArenaStats getStats() {
+		return new BufferArenaStats(hits.get(), misses.get(), drops.get(), retained.get());
+	}
+
+	private static int classIndex(int size) {
+		if (size > (1 << MAX_SHIFT)) {
+			return -1;
+		}
+
+		if (size <= (1 << MIN_SHIFT)) {
+			return 0;
+		}
+		return 32 - Integer.numberOfLeadingZeros(size - 1) - MIN_SHIFT;
+	}
+
+	private static int slotIndex() {
+		return (int)(Thread.currentThread().getId() % SLOTS);
+	}
+
+	private static final class SizeClass {
+		private final AtomicReferenceArray<byte[]> slots = new AtomicReferenceArray<byte[]>(SLOTS);
+	}
+}
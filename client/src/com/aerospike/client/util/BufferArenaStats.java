@@ -0,0 +1,59 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.util;
+
+/**
+ * Large buffer arena statistics.
+ */
+public final class BufferArenaStats {
+	/**
+	 * Number of buffer requests served from the arena.
+	 */
+	public final long hits;
+
+	/**
+	 * Number of buffer requests that allocated a new buffer.
+	 */
+	public final long misses;
+
+	/**
+	 * Number of released buffers that were not retained because the arena was full.
+	 */
+	public final long drops;
+
+	/**
+	 * Bytes currently retained by the arena.
+	 */
+	public final long retainedBytes;
+
+	/**
+	 * Buffer arena statistics constructor.
+	 */
+	public BufferArenaStats(long hits, long misses, long drops, long retainedBytes) {
+		this.hits = hits;
+		this.misses = misses;
+		this.drops = drops;
+		this.retainedBytes = retainedBytes;
+	}
+
+	/**
+	 * Convert statistics to string.
+	 */
+	public String toString() {
+		return "" + hits + ',' + misses + ',' + drops + ',' + retainedBytes;
+	}
+}
@@ -0,0 +1,327 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.util;
+
+import com.aerospike.client.command.Buffer;
+
+/**
+ * RIPEMD-160 hash used for record key digests.
+ * <p>
+ * The message is hashed in one call and the round functions are unrolled. Hash state
+ * lives in the instance, so one instance can be reused for any number of digests
+ * without allocating. The left and right lines are compressed in separate methods to
+ * keep each method small enough for the JIT to compile. Instances are not thread-safe.
+ */
+public final class Ripemd160 {
+	/**
+	 * Digest size in bytes.
+	 */
+	public static final int DIGEST_SIZE = 20;
+
+	private final byte[] block = new byte[64];
+	private final int[] x = new int[16];
+	private int h0, h1, h2, h3, h4;
+	private int a1, b1, c1, d1, e1;
+
+	/**
+	 * Hash message and write 20 byte digest to out at outOffset.
+	 */
+	public void digest(byte[] buf, int offset, int length, byte[] out, int outOffset) {
+		h0 = 0x67452301;
+		h1 = 0xefcdab89;
+		h2 = 0x98badcfe;
+		h3 = 0x10325476;
+		h4 = 0xc3d2e1f0;
+
+		int end = offset + length;
+
+		// Hash full blocks directly from input.
+		while (end - offset >= 64) {
+			compress(buf, offset);
+			offset += 64;
+		}
+
+		// Pad message tail.
+		int rem = end - offset;
+		byte[] block = this.block;
+		System.arraycopy(buf, offset, block, 0, rem);
+		block[rem++] = (byte)0x80;
+
+		if (rem > 56) {
+			fill(block, rem, 64);
+			compress(block, 0);
+			rem = 0;
+		}
+		fill(block, rem, 56);
+
+		long bits = (long)length << 3;
+
+		for (int i = 56; i < 64; i++) {
+			block[i] = (byte)bits;
+			bits >>>= 8;
+		}
+		compress(block, 0);
+
+		Buffer.intToLittleBytes(h0, out, outOffset);
+		Buffer.intToLittleBytes(h1, out, outOffset + 4);
+		Buffer.intToLittleBytes(h2, out, outOffset + 8);
+		Buffer.intToLittleBytes(h3, out, outOffset + 12);
+		Buffer.intToLittleBytes(h4, out, outOffset + 16);
+	}
+
+	private static void fill(byte[] block, int begin, int end) {
+		for (int i = begin; i < end; i++) {
+			block[i] = 0;
+		}
+	}
+
+	private void compress(byte[] block, int offset) {
+		int[] x = this.x;
+
+		for (int i = 0; i < 16; i++) {
+			x[i] = Buffer.littleBytesToInt(block, offset);
+			offset += 4;
+		}
+		leftLine(x);
+		rightLine(x);
+	}
+
+	private void leftLine(int[] x) {
+		int x0 = x[0];
+		int x1 = x[1];
+		int x2 = x[2];
+		int x3 = x[3];
+		int x4 = x[4];
+		int x5 = x[5];
+		int x6 = x[6];
+		int x7 = x[7];
+		int x8 = x[8];
+		int x9 = x[9];
+		int x10 = x[10];
+		int x11 = x[11];
+		int x12 = x[12];
+		int x13 = x[13];
+		int x14 = x[14];
+		int x15 = x[15];
+
+		int a = h0, b = h1, c = h2, d = h3, e = h4;
+
+		a += (b ^ c ^ d) + x0; a = (a << 11 | a >>> 21) + e; c = c << 10 | c >>> 22;
+		e += (a ^ b ^ c) + x1; e = (e << 14 | e >>> 18) + d; b = b << 10 | b >>> 22;
+		d += (e ^ a ^ b) + x2; d = (d << 15 | d >>> 17) + c; a = a << 10 | a >>> 22;
+		c += (d ^ e ^ a) + x3; c = (c << 12 | c >>> 20) + b; e = e << 10 | e >>> 22;
+		b += (c ^ d ^ e) + x4; b = (b << 5 | b >>> 27) + a; d = d << 10 | d >>> 22;
+		a += (b ^ c ^ d) + x5; a = (a << 8 | a >>> 24) + e; c = c << 10 | c >>> 22;
+		e += (a ^ b ^ c) + x6; e = (e << 7 | e >>> 25) + d; b = b << 10 | b >>> 22;
+		d += (e ^ a ^ b) + x7; d = (d << 9 | d >>> 23) + c; a = a << 10 | a >>> 22;
+		c += (d ^ e ^ a) + x8; c = (c << 11 | c >>> 21) + b; e = e << 10 | e >>> 22;
+		b += (c ^ d ^ e) + x9; b = (b << 13 | b >>> 19) + a; d = d << 10 | d >>> 22;
+		a += (b ^ c ^ d) + x10; a = (a << 14 | a >>> 18) + e; c = c << 10 | c >>> 22;
+		e += (a ^ b ^ c) + x11; e = (e << 15 | e >>> 17) + d; b = b << 10 | b >>> 22;
+		d += (e ^ a ^ b) + x12; d = (d << 6 | d >>> 26) + c; a = a << 10 | a >>> 22;
+		c += (d ^ e ^ a) + x13; c = (c << 7 | c >>> 25) + b; e = e << 10 | e >>> 22;
+		b += (c ^ d ^ e) + x14; b = (b << 9 | b >>> 23) + a; d = d << 10 | d >>> 22;
+		a += (b ^ c ^ d) + x15; a = (a << 8 | a >>> 24) + e; c = c << 10 | c >>> 22;
+
+		e += ((a & b) | (~a & c)) + x7 + 0x5a827999; e = (e << 7 | e >>> 25) + d; b = b << 10 | b >>> 22;
+		d += ((e & a) | (~e & b)) + x4 + 0x5a827999; d = (d << 6 | d >>> 26) + c; a = a << 10 | a >>> 22;
+		c += ((d & e) | (~d & a)) + x13 + 0x5a827999; c = (c << 8 | c >>> 24) + b; e = e << 10 | e >>> 22;
+		b += ((c & d) | (~c & e)) + x1 + 0x5a827999; b = (b << 13 | b >>> 19) + a; d = d << 10 | d >>> 22;
+		a += ((b & c) | (~b & d)) + x10 + 0x5a827999; a = (a << 11 | a >>> 21) + e; c = c << 10 | c >>> 22;
+		e += ((a & b) | (~a & c)) + x6 + 0x5a827999; e = (e << 9 | e >>> 23) + d; b = b << 10 | b >>> 22;
+		d += ((e & a) | (~e & b)) + x15 + 0x5a827999; d = (d << 7 | d >>> 25) + c; a = a << 10 | a >>> 22;
+		c += ((d & e) | (~d & a)) + x3 + 0x5a827999; c = (c << 15 | c >>> 17) + b; e = e << 10 | e >>> 22;
+		b += ((c & d) | (~c & e)) + x12 + 0x5a827999; b = (b << 7 | b >>> 25) + a; d = d << 10 | d >>> 22;
+		a += ((b & c) | (~b & d)) + x0 + 0x5a827999; a = (a << 12 | a >>> 20) + e; c = c << 10 | c >>> 22;
+		e += ((a & b) | (~a & c)) + x9 + 0x5a827999; e = (e << 15 | e >>> 17) + d; b = b << 10 | b >>> 22;
+		d += ((e & a) | (~e & b)) + x5 + 0x5a827999; d = (d << 9 | d >>> 23) + c; a = a << 10 | a >>> 22;
+		c += ((d & e) | (~d & a)) + x2 + 0x5a827999; c = (c << 11 | c >>> 21) + b; e = e << 10 | e >>> 22;
+		b += ((c & d) | (~c & e)) + x14 + 0x5a827999; b = (b << 7 | b >>> 25) + a; d = d << 10 | d >>> 22;
+		a += ((b & c) | (~b & d)) + x11 + 0x5a827999; a = (a << 13 | a >>> 19) + e; c = c << 10 | c >>> 22;
+		e += ((a & b) | (~a & c)) + x8 + 0x5a827999; e = (e << 12 | e >>> 20) + d; b = b << 10 | b >>> 22;
+
+		d += ((e | ~a) ^ b) + x3 + 0x6ed9eba1; d = (d << 11 | d >>> 21) + c; a = a << 10 | a >>> 22;
+		c += ((d | ~e) ^ a) + x10 + 0x6ed9eba1; c = (c << 13 | c >>> 19) + b; e = e << 10 | e >>> 22;
+		b += ((c | ~d) ^ e) + x14 + 0x6ed9eba1; b = (b << 6 | b >>> 26) + a; d = d << 10 | d >>> 22;
+		a += ((b | ~c) ^ d) + x4 + 0x6ed9eba1; a = (a << 7 | a >>> 25) + e; c = c << 10 | c >>> 22;
+		e += ((a | ~b) ^ c) + x9 + 0x6ed9eba1; e = (e << 14 | e >>> 18) + d; b = b << 10 | b >>> 22;
+		d += ((e | ~a) ^ b) + x15 + 0x6ed9eba1; d = (d << 9 | d >>> 23) + c; a = a << 10 | a >>> 22;
+		c += ((d | ~e) ^ a) + x8 + 0x6ed9eba1; c = (c << 13 | c >>> 19) + b; e = e << 10 | e >>> 22;
+		b += ((c | ~d) ^ e) + x1 + 0x6ed9eba1; b = (b << 15 | b >>> 17) + a; d = d << 10 | d >>> 22;
+		a += ((b | ~c) ^ d) + x2 + 0x6ed9eba1; a = (a << 14 | a >>> 18) + e; c = c << 10 | c >>> 22;
+		e += ((a | ~b) ^ c) + x7 + 0x6ed9eba1; e = (e << 8 | e >>> 24) + d; b = b << 10 | b >>> 22;
+		d += ((e | ~a) ^ b) + x0 + 0x6ed9eba1; d = (d << 13 | d >>> 19) + c; a = a << 10 | a >>> 22;
+		c += ((d | ~e) ^ a) + x6 + 0x6ed9eba1; c = (c << 6 | c >>> 26) + b; e = e << 10 | e >>> 22;
+		b += ((c | ~d) ^ e) + x13 + 0x6ed9eba1; b = (b << 5 | b >>> 27) + a; d = d << 10 | d >>> 22;
+		a += ((b | ~c) ^ d) + x11 + 0x6ed9eba1; a = (a << 12 | a >>> 20) + e; c = c << 10 | c >>> 22;
+		e += ((a | ~b) ^ c) + x5 + 0x6ed9eba1; e = (e << 7 | e >>> 25) + d; b = b << 10 | b >>> 22;
+		d += ((e | ~a) ^ b) + x12 + 0x6ed9eba1; d = (d << 5 | d >>> 27) + c; a = a << 10 | a >>> 22;
+
+		c += ((d & a) | (e & ~a)) + x1 + 0x8f1bbcdc; c = (c << 11 | c >>> 21) + b; e = e << 10 | e >>> 22;
+		b += ((c & e) | (d & ~e)) + x9 + 0x8f1bbcdc; b = (b << 12 | b >>> 20) + a; d = d << 10 | d >>> 22;
+		a += ((b & d) | (c & ~d)) + x11 + 0x8f1bbcdc; a = (a << 14 | a >>> 18) + e; c = c << 10 | c >>> 22;
+		e += ((a & c) | (b & ~c)) + x10 + 0x8f1bbcdc; e = (e << 15 | e >>> 17) + d; b = b << 10 | b >>> 22;
+		d += ((e & b) | (a & ~b)) + x0 + 0x8f1bbcdc; d = (d << 14 | d >>> 18) + c; a = a << 10 | a >>> 22;
+		c += ((d & a) | (e & ~a)) + x8 + 0x8f1bbcdc; c = (c << 15 | c >>> 17) + b; e = e << 10 | e >>> 22;
+		b += ((c & e) | (d & ~e)) + x12 + 0x8f1bbcdc; b = (b << 9 | b >>> 23) + a; d = d << 10 | d >>> 22;
+		a += ((b & d) | (c & ~d)) + x4 + 0x8f1bbcdc; a = (a << 8 | a >>> 24) + e; c = c << 10 | c >>> 22;
+		e += ((a & c) | (b & ~c)) + x13 + 0x8f1bbcdc; e = (e << 9 | e >>> 23) + d; b = b << 10 | b >>> 22;
+		d += ((e & b) | (a & ~b)) + x3 + 0x8f1bbcdc; d = (d << 14 | d >>> 18) + c; a = a << 10 | a >>> 22;
+		c += ((d & a) | (e & ~a)) + x7 + 0x8f1bbcdc; c = (c << 5 | c >>> 27) + b; e = e << 10 | e >>> 22;
+		b += ((c & e) | (d & ~e)) + x15 + 0x8f1bbcdc; b = (b << 6 | b >>> 26) + a; d = d << 10 | d >>> 22;
+		a += ((b & d) | (c & ~d)) + x14 + 0x8f1bbcdc; a = (a << 8 | a >>> 24) + e; c = c << 10 | c >>> 22;
+		e += ((a & c) | (b & ~c)) + x5 + 0x8f1bbcdc; e = (e << 6 | e >>> 26) + d; b = b << 10 | b >>> 22;
+		d += ((e & b) | (a & ~b)) + x6 + 0x8f1bbcdc; d = (d << 5 | d >>> 27) + c; a = a << 10 | a >>> 22;
+		c += ((d & a) | (e & ~a)) + x2 + 0x8f1bbcdc; c = (c << 12 | c >>> 20) + b; e = e << 10 | e >>> 22;
+
+		b += (c ^ (d | ~e)) + x4 + 0xa953fd4e; b = (b << 9 | b >>> 23) + a; d = d << 10 | d >>> 22;
+		a += (b ^ (c | ~d)) + x0 + 0xa953fd4e; a = (a << 15 | a >>> 17) + e; c = c << 10 | c >>> 22;
+		e += (a ^ (b | ~c)) + x5 + 0xa953fd4e; e = (e << 5 | e >>> 27) + d; b = b << 10 | b >>> 22;
+		d += (e ^ (a | ~b)) + x9 + 0xa953fd4e; d = (d << 11 | d >>> 21) + c; a = a << 10 | a >>> 22;
+		c += (d ^ (e | ~a)) + x7 + 0xa953fd4e; c = (c << 6 | c >>> 26) + b; e = e << 10 | e >>> 22;
+		b += (c ^ (d | ~e)) + x12 + 0xa953fd4e; b = (b << 8 | b >>> 24) + a; d = d << 10 | d >>> 22;
+		a += (b ^ (c | ~d)) + x2 + 0xa953fd4e; a = (a << 13 | a >>> 19) + e; c = c << 10 | c >>> 22;
+		e += (a ^ (b | ~c)) + x10 + 0xa953fd4e; e = (e << 12 | e >>> 20) + d; b = b << 10 | b >>> 22;
+		d += (e ^ (a | ~b)) + x14 + 0xa953fd4e; d = (d << 5 | d >>> 27) + c; a = a << 10 | a >>> 22;
+		c += (d ^ (e | ~a)) + x1 + 0xa953fd4e; c = (c << 12 | c >>> 20) + b; e = e << 10 | e >>> 22;
+		b += (c ^ (d | ~e)) + x3 + 0xa953fd4e; b = (b << 13 | b >>> 19) + a; d = d << 10 | d >>> 22;
+		a += (b ^ (c | ~d)) + x8 + 0xa953fd4e; a = (a << 14 | a >>> 18) + e; c = c << 10 | c >>> 22;
+		e += (a ^ (b | ~c)) + x11 + 0xa953fd4e; e = (e << 11 | e >>> 21) + d; b = b << 10 | b >>> 22;
+		d += (e ^ (a | ~b)) + x6 + 0xa953fd4e; d = (d << 8 | d >>> 24) + c; a = a << 10 | a >>> 22;
+		c += (d ^ (e | ~a)) + x15 + 0xa953fd4e; c = (c << 5 | c >>> 27) + b; e = e << 10 | e >>> 22;
+		b += (c ^ (d | ~e)) + x13 + 0xa953fd4e; b = (b << 6 | b >>> 26) + a; d = d << 10 | d >>> 22;
+
+		a1 = a;
+		b1 = b;
+		c1 = c;
+		d1 = d;
+		e1 = e;
+	}
+
+	private void rightLine(int[] x) {
+		int x0 = x[0];
+		int x1 = x[1];
+		int x2 = x[2];
+		int x3 = x[3];
+		int x4 = x[4];
+		int x5 = x[5];
+		int x6 = x[6];
+		int x7 = x[7];
+		int x8 = x[8];
+		int x9 = x[9];
+		int x10 = x[10];
+		int x11 = x[11];
+		int x12 = x[12];
+		int x13 = x[13];
+		int x14 = x[14];
+		int x15 = x[15];
+
+		int a = h0, b = h1, c = h2, d = h3, e = h4;
+
+		a += (b ^ (c | ~d)) + x5 + 0x50a28be6; a = (a << 8 | a >>> 24) + e; c = c << 10 | c >>> 22;
+		e += (a ^ (b | ~c)) + x14 + 0x50a28be6; e = (e << 9 | e >>> 23) + d; b = b << 10 | b >>> 22;
+		d += (e ^ (a | ~b)) + x7 + 0x50a28be6; d = (d << 9 | d >>> 23) + c; a = a << 10 | a >>> 22;
+		c += (d ^ (e | ~a)) + x0 + 0x50a28be6; c = (c << 11 | c >>> 21) + b; e = e << 10 | e >>> 22;
+		b += (c ^ (d | ~e)) + x9 + 0x50a28be6; b = (b << 13 | b >>> 19) + a; d = d << 10 | d >>> 22;
+		a += (b ^ (c | ~d)) + x2 + 0x50a28be6; a = (a << 15 | a >>> 17) + e; c = c << 10 | c >>> 22;
+		e += (a ^ (b | ~c)) + x11 + 0x50a28be6; e = (e << 15 | e >>> 17) + d; b = b << 10 | b >>> 22;
+		d += (e ^ (a | ~b)) + x4 + 0x50a28be6; d = (d << 5 | d >>> 27) + c; a = a << 10 | a >>> 22;
+		c += (d ^ (e | ~a)) + x13 + 0x50a28be6; c = (c << 7 | c >>> 25) + b; e = e << 10 | e >>> 22;
+		b += (c ^ (d | ~e)) + x6 + 0x50a28be6; b = (b << 7 | b >>> 25) + a; d = d << 10 | d >>> 22;
+		a += (b ^ (c | ~d)) + x15 + 0x50a28be6; a = (a << 8 | a >>> 24) + e; c = c << 10 | c >>> 22;
+		e += (a ^ (b | ~c)) + x8 + 0x50a28be6; e = (e << 11 | e >>> 21) + d; b = b << 10 | b >>> 22;
+		d += (e ^ (a | ~b)) + x1 + 0x50a28be6; d = (d << 14 | d >>> 18) + c; a = a << 10 | a >>> 22;
+		c += (d ^ (e | ~a)) + x10 + 0x50a28be6; c = (c << 14 | c >>> 18) + b; e = e << 10 | e >>> 22;
+		b += (c ^ (d | ~e)) + x3 + 0x50a28be6; b = (b << 12 | b >>> 20) + a; d = d << 10 | d >>> 22;
+		a += (b ^ (c | ~d)) + x12 + 0x50a28be6; a = (a << 6 | a >>> 26) + e; c = c << 10 | c >>> 22;
+
+		e += ((a & c) | (b & ~c)) + x6 + 0x5c4dd124; e = (e << 9 | e >>> 23) + d; b = b << 10 | b >>> 22;
+		d += ((e & b) | (a & ~b)) + x11 + 0x5c4dd124; d = (d << 13 | d >>> 19) + c; a = a << 10 | a >>> 22;
+		c += ((d & a) | (e & ~a)) + x3 + 0x5c4dd124; c = (c << 15 | c >>> 17) + b; e = e << 10 | e >>> 22;
+		b += ((c & e) | (d & ~e)) + x7 + 0x5c4dd124; b = (b << 7 | b >>> 25) + a; d = d << 10 | d >>> 22;
+		a += ((b & d) | (c & ~d)) + x0 + 0x5c4dd124; a = (a << 12 | a >>> 20) + e; c = c << 10 | c >>> 22;
+		e += ((a & c) | (b & ~c)) + x13 + 0x5c4dd124; e = (e << 8 | e >>> 24) + d; b = b << 10 | b >>> 22;
+		d += ((e & b) | (a & ~b)) + x5 + 0x5c4dd124; d = (d << 9 | d >>> 23) + c; a = a << 10 | a >>> 22;
+		c += ((d & a) | (e & ~a)) + x10 + 0x5c4dd124; c = (c << 11 | c >>> 21) + b; e = e << 10 | e >>> 22;
+		b += ((c & e) | (d & ~e)) + x14 + 0x5c4dd124; b = (b << 7 | b >>> 25) + a; d = d << 10 | d >>> 22;
+		a += ((b & d) | (c & ~d)) + x15 + 0x5c4dd124; a = (a << 7 | a >>> 25) + e; c = c << 10 | c >>> 22;
+		e += ((a & c) | (b & ~c)) + x8 + 0x5c4dd124; e = (e << 12 | e >>> 20) + d; b = b << 10 | b >>> 22;
+		d += ((e & b) | (a & ~b)) + x12 + 0x5c4dd124; d = (d << 7 | d >>> 25) + c; a = a << 10 | a >>> 22;
+		c += ((d & a) | (e & ~a)) + x4 + 0x5c4dd124; c = (c << 6 | c >>> 26) + b; e = e << 10 | e >>> 22;
+		b += ((c & e) | (d & ~e)) + x9 + 0x5c4dd124; b = (b << 15 | b >>> 17) + a; d = d << 10 | d >>> 22;
+		a += ((b & d) | (c & ~d)) + x1 + 0x5c4dd124; a = (a << 13 | a >>> 19) + e; c = c << 10 | c >>> 22;
+		e += ((a & c) | (b & ~c)) + x2 + 0x5c4dd124; e = (e << 11 | e >>> 21) + d; b = b << 10 | b >>> 22;
+
+		d += ((e | ~a) ^ b) + x15 + 0x6d703ef3; d = (d << 9 | d >>> 23) + c; a = a << 10 | a >>> 22;
+		c += ((d | ~e) ^ a) + x5 + 0x6d703ef3; c = (c << 7 | c >>> 25) + b; e = e << 10 | e >>> 22;
+		b += ((c | ~d) ^ e) + x1 + 0x6d703ef3; b = (b << 15 | b >>> 17) + a; d = d << 10 | d >>> 22;
+		a += ((b | ~c) ^ d) + x3 + 0x6d703ef3; a = (a << 11 | a >>> 21) + e; c = c << 10 | c >>> 22;
+		e += ((a | ~b) ^ c) + x7 + 0x6d703ef3; e = (e << 8 | e >>> 24) + d; b = b << 10 | b >>> 22;
+		d += ((e | ~a) ^ b) + x14 + 0x6d703ef3; d = (d << 6 | d >>> 26) + c; a = a << 10 | a >>> 22;
+		c += ((d | ~e) ^ a) + x6 + 0x6d703ef3; c = (c << 6 | c >>> 26) + b; e = e << 10 | e >>> 22;
+		b += ((c | ~d) ^ e) + x9 + 0x6d703ef3; b = (b << 14 | b >>> 18) + a; d = d << 10 | d >>> 22;
+		a += ((b | ~c) ^ d) + x11 + 0x6d703ef3; a = (a << 12 | a >>> 20) + e; c = c << 10 | c >>> 22;
+		e += ((a | ~b) ^ c) + x8 + 0x6d703ef3; e = (e << 13 | e >>> 19) + d; b = b << 10 | b >>> 22;
+		d += ((e | ~a) ^ b) + x12 + 0x6d703ef3; d = (d << 5 | d >>> 27) + c; a = a << 10 | a >>> 22;
+		c += ((d | ~e) ^ a) + x2 + 0x6d703ef3; c = (c << 14 | c >>> 18) + b; e = e << 10 | e >>> 22;
+		b += ((c | ~d) ^ e) + x10 + 0x6d703ef3; b = (b << 13 | b >>> 19) + a; d = d << 10 | d >>> 22;
+		a += ((b | ~c) ^ d) + x0 + 0x6d703ef3; a = (a << 13 | a >>> 19) + e; c = c << 10 | c >>> 22;
+		e += ((a | ~b) ^ c) + x4 + 0x6d703ef3; e = (e << 7 | e >>> 25) + d; b = b << 10 | b >>> 22;
+		d += ((e | ~a) ^ b) + x13 + 0x6d703ef3; d = (d << 5 | d >>> 27) + c; a = a << 10 | a >>> 22;
+
+		c += ((d & e) | (~d & a)) + x8 + 0x7a6d76e9; c = (c << 15 | c >>> 17) + b; e = e << 10 | e >>> 22;
+		b += ((c & d) | (~c & e)) + x6 + 0x7a6d76e9; b = (b << 5 | b >>> 27) + a; d = d << 10 | d >>> 22;
+		a += ((b & c) | (~b & d)) + x4 + 0x7a6d76e9; a = (a << 8 | a >>> 24) + e; c = c << 10 | c >>> 22;
+		e += ((a & b) | (~a & c)) + x1 + 0x7a6d76e9; e = (e << 11 | e >>> 21) + d; b = b << 10 | b >>> 22;
+		d += ((e & a) | (~e & b)) + x3 + 0x7a6d76e9; d = (d << 14 | d >>> 18) + c; a = a << 10 | a >>> 22;
+		c += ((d & e) | (~d & a)) + x11 + 0x7a6d76e9; c = (c << 14 | c >>> 18) + b; e = e << 10 | e >>> 22;
+		b += ((c & d) | (~c & e)) + x15 + 0x7a6d76e9; b = (b << 6 | b >>> 26) + a; d = d << 10 | d >>> 22;
+		a += ((b & c) | (~b & d)) + x0 + 0x7a6d76e9; a = (a << 14 | a >>> 18) + e; c = c << 10 | c >>> 22;
+		e += ((a & b) | (~a & c)) + x5 + 0x7a6d76e9; e = (e << 6 | e >>> 26) + d; b = b << 10 | b >>> 22;
+		d += ((e & a) | (~e & b)) + x12 + 0x7a6d76e9; d = (d << 9 | d >>> 23) + c; a = a << 10 | a >>> 22;
+		c += ((d & e) | (~d & a)) + x2 + 0x7a6d76e9; c = (c << 12 | c >>> 20) + b; e = e << 10 | e >>> 22;
+		b += ((c & d) | (~c & e)) + x13 + 0x7a6d76e9; b = (b << 9 | b >>> 23) + a; d = d << 10 | d >>> 22;
+		a += ((b & c) | (~b & d)) + x9 + 0x7a6d76e9; a = (a << 12 | a >>> 20) + e; c = c << 10 | c >>> 22;
+		e += ((a & b) | (~a & c)) + x7 + 0x7a6d76e9; e = (e << 5 | e >>> 27) + d; b = b << 10 | b >>> 22;
+		d += ((e & a) | (~e & b)) + x10 + 0x7a6d76e9; d = (d << 15 | d >>> 17) + c; a = a << 10 | a >>> 22;
+		c += ((d & e) | (~d & a)) + x14 + 0x7a6d76e9; c = (c << 8 | c >>> 24) + b; e = e << 10 | e >>> 22;
+
+		b += (c ^ d ^ e) + x12; b = (b << 8 | b >>> 24) + a; d = d << 10 | d >>> 22;
+		a += (b ^ c ^ d) + x15; a = (a << 5 | a >>> 27) + e; c = c << 10 | c >>> 22;
+		e += (a ^ b ^ c) + x10; e = (e << 12 | e >>> 20) + d; b = b << 10 | b >>> 22;
+		d += (e ^ a ^ b) + x4; d = (d << 9 | d >>> 23) + c; a = a << 10 | a >>> 22;
+		c += (d ^ e ^ a) + x1; c = (c << 12 | c >>> 20) + b; e = e << 10 | e >>> 22;
+		b += (c ^ d ^ e) + x5; b = (b << 5 | b >>> 27) + a; d = d << 10 | d >>> 22;
+		a += (b ^ c ^ d) + x8; a = (a << 14 | a >>> 18) + e; c = c << 10 | c >>> 22;
+		e += (a ^ b ^ c) + x7; e = (e << 6 | e >>> 26) + d; b = b << 10 | b >>> 22;
+		d += (e ^ a ^ b) + x6; d = (d << 8 | d >>> 24) + c; a = a << 10 | a >>> 22;
+		c += (d ^ e ^ a) + x2; c = (c << 13 | c >>> 19) + b; e = e << 10 | e >>> 22;
+		b += (c ^ d ^ e) + x13; b = (b << 6 | b >>> 26) + a; d = d << 10 | d >>> 22;
+		a += (b ^ c ^ d) + x14; a = (a << 5 | a >>> 27) + e; c = c << 10 | c >>> 22;
+		e += (a ^ b ^ c) + x0; e = (e << 15 | e >>> 17) + d; b = b << 10 | b >>> 22;
+		d += (e ^ a ^ b) + x3; d = (d << 13 | d >>> 19) + c; a = a << 10 | a >>> 22;
+		c += (d ^ e ^ a) + x9; c = (c << 11 | c >>> 21) + b; e = e << 10 | e >>> 22;
+		b += (c ^ d ^ e) + x11; b = (b << 11 | b >>> 21) + a; d = d << 10 | d >>> 22;
+
+		int t = h1 + c1 + d;
+		h1 = h2 + d1 + e;
+		h2 = h3 + e1 + a;
+		h3 = h4 + a1 + b;
+		h4 = h0 + b1 + c;
+		h0 = t;
+	}
+}
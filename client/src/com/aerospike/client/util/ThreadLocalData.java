@@ -20,6 +20,10 @@ import com.aerospike.client.Log;
 
 /**
  * Thread local buffer storage.
+ * <p>
+ * Virtual threads are not given thread local buffers because virtual threads are
+ * typically created per task and a cached buffer would never be reused. Virtual
+ * threads receive a new heap buffer on each call instead.
  */
 public final class ThreadLocalData {
 	/**
@@ -40,20 +44,24 @@ public final class ThreadLocalData {
 	 * Return thread local buffer.
 	 */
 	public static byte[] getBuffer() {
+		if (Util.isVirtualThread()) {
+			return new byte[DefaultBufferSize];
+		}
 		return BufferThreadLocal.get();
 	}
 
 	/**
 	 * Resize and return thread local buffer if the requested size &lt;= 128 KB.
 	 * Otherwise, the thread local buffer will not be resized and a new
-	 * buffer will be returned from heap memory.
+	 * buffer will be returned from heap memory. Virtual threads always
+	 * receive a new buffer from heap memory.
 	 * <p>
 	 * This method should only be called when the current buffer is too small to
 	 * hold the desired data.
 	 */
 	public static byte[] resizeBuffer(int size) {
 		// Do not store extremely large buffers in thread local storage.
-		if (size > THREAD_LOCAL_CUTOFF) {
+		if (size > THREAD_LOCAL_CUTOFF || Util.isVirtualThread()) {
 			/*
 			if (size > MAX_BUFFER_SIZE) {
 				throw new IllegalArgumentException("Thread " + Thread.currentThread().getId() + " invalid buffer size: " + size);
@@ -23,6 +23,8 @@ import java.io.FileInputStream;
 import java.io.InputStream;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.math.BigInteger;
 import java.net.SocketException;
 import java.net.SocketTimeoutException;
@@ -34,6 +36,41 @@ import java.util.Date;
 import com.aerospike.client.AerospikeException;
 
 public final class Util {
+	// Thread.isVirtual() exists in JDK 21+. Resolve by reflection so the client still runs on Java 8.
+	private static final MethodHandle IsVirtual = getIsVirtual();
+
+	private static MethodHandle getIsVirtual() {
+		try {
+			return MethodHandles.publicLookup().unreflect(Thread.class.getMethod("isVirtual"));
+		}
+		catch (Throwable e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Return if virtual threads are supported by the running JVM.
+	 */
+	public static boolean supportsVirtualThreads() {
+		return IsVirtual != null;
+	}
+
+	/**
+	 * Return if the current thread is a virtual thread.
+	 */
+	public static boolean isVirtualThread() {
+		if (IsVirtual == null) {
+			return false;
+		}
+
+		try {
+			return (boolean)IsVirtual.invokeExact(Thread.currentThread());
+		}
+		catch (Throwable e) {
+			return false;
+		}
+	}
+
 	public static void sleep(long millis) {
 		try {
 			Thread.sleep(millis);
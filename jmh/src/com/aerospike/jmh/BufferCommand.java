@@ -0,0 +1,46 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.jmh;
+
+import com.aerospike.client.Record;
+import com.aerospike.client.command.Command;
+
+/**
+ * Command that serializes into a reusable heap buffer instead of a socket.
+ */
+public final class BufferCommand extends Command {
+	public BufferCommand() {
+		super(0, 1000, 0);
+		dataBuffer = new byte[8192];
+	}
+
+	@Override
+	protected void sizeBuffer() {
+		if (dataOffset > dataBuffer.length) {
+			dataBuffer = new byte[dataOffset];
+		}
+	}
+
+	/**
+	 * Parse bins starting at offset in the given buffer.
+	 */
+	public Record parseRecord(byte[] buffer, int offset, int opCount, boolean lazyBins) {
+		dataBuffer = buffer;
+		dataOffset = offset;
+		return parseRecord(opCount, 1, 0, false, lazyBins);
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aerospike.client.BatchRecord;
+import com.aerospike.client.BatchWrite;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.cluster.Cluster;
+import com.aerospike.client.command.BatchNode;
+import com.aerospike.client.command.OperateArgs;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.policy.WritePolicy;
+
+/**
+ * Command serialization into an in-memory buffer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CommandBenchmark {
+	@Param({"1", "10"})
+	public int binCount;
+
+	@Param({"50", "1000"})
+	public int binSize;
+
+	@Param({"false", "true"})
+	public boolean compress;
+
+	private BufferCommand command;
+	private Policy readPolicy;
+	private WritePolicy writePolicy;
+	private BatchPolicy batchPolicy;
+	private Key key;
+	private Bin[] bins;
+	private String[] binNames;
+	private OperateArgs operateArgs;
+	private List<BatchRecord> batchRecords;
+	private BatchNode batchNode;
+
+	@Setup
+	public void setup() throws Exception {
+		command = new BufferCommand();
+		readPolicy = new Policy();
+		writePolicy = new WritePolicy();
+		writePolicy.compress = compress;
+		batchPolicy = BatchPolicy.WriteDefault();
+		batchPolicy.compress = compress;
+		key = new Key(Fixtures.NAMESPACE, Fixtures.SET, "key1");
+		bins = Fixtures.createBins(binCount, binSize);
+		binNames = new String[bins.length];
+
+		Operation[] ops = new Operation[bins.length + 1];
+
+		for (int i = 0; i < bins.length; i++) {
+			binNames[i] = bins[i].name;
+			ops[i] = Operation.put(bins[i]);
+		}
+		ops[bins.length] = Operation.get();
+
+		Cluster cluster = Fixtures.createOfflineCluster();
+		operateArgs = new OperateArgs(cluster, writePolicy, writePolicy, writePolicy, key, ops);
+
+		int batchSize = 100;
+		batchRecords = new ArrayList<BatchRecord>(batchSize);
+		batchNode = new BatchNode(null, batchSize, 0);
+
+		for (int i = 0; i < batchSize; i++) {
+			batchRecords.add(new BatchWrite(new Key(Fixtures.NAMESPACE, Fixtures.SET, i), ops));
+
+			if (i > 0) {
+				batchNode.addKey(i);
+			}
+		}
+	}
+
+	@Benchmark
+	public int setWrite() {
+		command.setWrite(writePolicy, Operation.Type.WRITE, key, bins);
+		return command.dataOffset;
+	}
+
+	@Benchmark
+	public int setReadAll() {
+		command.setRead(readPolicy, key, null);
+		return command.dataOffset;
+	}
+
+	@Benchmark
+	public int setReadBins() {
+		command.setRead(readPolicy, key, binNames);
+		return command.dataOffset;
+	}
+
+	@Benchmark
+	public int setOperate() {
+		command.setOperate(writePolicy, key, operateArgs);
+		return command.dataOffset;
+	}
+
+	@Benchmark
+	public int setBatchOperate() {
+		command.setBatchOperate(batchPolicy, batchRecords, batchNode);
+		return command.dataOffset;
+	}
+}
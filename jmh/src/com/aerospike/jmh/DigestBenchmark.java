@@ -0,0 +1,117 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Value;
+import com.aerospike.client.command.Buffer;
+import com.aerospike.client.util.Crypto;
+
+import gnu.crypto.hash.RipeMD160;
+
+/**
+ * Key digest (RIPEMD-160) computation. The gnu methods hash with gnu-crypto's RipeMD160
+ * as a baseline. Batch methods report throughput per key.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DigestBenchmark {
+	private static final int BATCH_SIZE = 1000;
+
+	private Value longKey;
+	private Value stringKey;
+	private Value[] batchKeys;
+	private byte[] digests;
+	private byte[] buffer;
+
+	@Setup
+	public void setup() {
+		longKey = Value.get(123456789L);
+		stringKey = Value.get("user:0000000123456789");
+		batchKeys = Fixtures.createUserKeys(BATCH_SIZE);
+		digests = new byte[BATCH_SIZE * 20];
+		buffer = new byte[1024];
+	}
+
+	@Benchmark
+	public byte[] computeDigestLong() {
+		return Crypto.computeDigest(Fixtures.SET, longKey);
+	}
+
+	@Benchmark
+	public byte[] computeDigestString() {
+		return Crypto.computeDigest(Fixtures.SET, stringKey);
+	}
+
+	@Benchmark
+	public byte[] computeDigestLongGnu() {
+		return computeDigestGnu(Fixtures.SET, longKey);
+	}
+
+	@Benchmark
+	public byte[] computeDigestStringGnu() {
+		return computeDigestGnu(Fixtures.SET, stringKey);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public byte[] computeDigestsBatch() {
+		Key.computeDigests(Fixtures.SET, batchKeys, digests);
+		return digests;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public byte[] computeDigestsBatchGnu() {
+		byte[] digest = null;
+
+		for (Value key : batchKeys) {
+			digest = computeDigestGnu(Fixtures.SET, key);
+		}
+		return digest;
+	}
+
+	private byte[] computeDigestGnu(String setName, Value key) {
+		int setLength = Buffer.stringToUtf8(setName, buffer, 0);
+
+		buffer[setLength] = (byte)key.getType();
+		int keyLength = key.write(buffer, setLength + 1);
+
+		RipeMD160 hash = new RipeMD160();
+		hash.update(buffer, 0, setLength);
+		hash.update(buffer, setLength, keyLength + 1);
+		return hash.digest();
+	}
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.jmh;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Value;
+import com.aerospike.client.cluster.Cluster;
+import com.aerospike.client.cluster.Connection;
+import com.aerospike.client.cluster.Node;
+import com.aerospike.client.cluster.Partitions;
+import com.aerospike.client.command.Buffer;
+import com.aerospike.client.command.Command;
+
+/**
+ * Shared benchmark data.
+ */
+public final class Fixtures {
+	public static final String NAMESPACE = "test";
+	public static final String SET = "bench";
+
+	/**
+	 * Create bins of mixed types. Blob bins are binSize bytes.
+	 */
+	public static Bin[] createBins(int binCount, int binSize) {
+		Bin[] bins = new Bin[binCount];
+
+		for (int i = 0; i < binCount; i++) {
+			String name = "bin" + i;
+
+			switch (i % 5) {
+			case 0:
+				bins[i] = new Bin(name, (long)i * 1000);
+				break;
+
+			case 1:
+				bins[i] = new Bin(name, createString(binSize));
+				break;
+
+			case 2:
+				bins[i] = new Bin(name, new byte[binSize]);
+				break;
+
+			case 3:
+				bins[i] = new Bin(name, createList(binSize / 8 + 1));
+				break;
+
+			default:
+				bins[i] = new Bin(name, createMap(binSize / 16 + 1));
+				break;
+			}
+		}
+		return bins;
+	}
+
+	public static String createString(int size) {
+		StringBuilder sb = new StringBuilder(size);
+
+		for (int i = 0; i < size; i++) {
+			sb.append((char)('a' + (i % 26)));
+		}
+		return sb.toString();
+	}
+
+	public static List<Object> createList(int size) {
+		List<Object> list = new ArrayList<Object>(size);
+
+		for (int i = 0; i < size; i++) {
+			list.add((i % 2 == 0) ? (Object)(long)i : "v" + i);
+		}
+		return list;
+	}
+
+	public static Map<Object,Object> createMap(int size) {
+		Map<Object,Object> map = new TreeMap<Object,Object>();
+
+		for (int i = 0; i < size; i++) {
+			map.put("k" + i, (long)i);
+		}
+		return map;
+	}
+
+	/**
+	 * Encode bins in server response operation format.
+	 * Returns buffer with operations starting at offset zero.
+	 */
+	public static byte[] encodeResponseOps(Bin[] bins) {
+		int size = 0;
+
+		for (Bin bin : bins) {
+			size += Command.OPERATION_HEADER_SIZE + Buffer.estimateSizeUtf8(bin.name) + bin.value.estimateSize();
+		}
+
+		byte[] buf = new byte[size];
+		int offset = 0;
+
+		for (Bin bin : bins) {
+			int nameLength = Buffer.stringToUtf8(bin.name, buf, offset + Command.OPERATION_HEADER_SIZE);
+			int valueLength = bin.value.write(buf, offset + Command.OPERATION_HEADER_SIZE + nameLength);
+
+			Buffer.intToBytes(nameLength + valueLength + 4, buf, offset);
+			offset += 4;
+			buf[offset++] = 1;  // read
+			buf[offset++] = (byte)bin.value.getType();
+			buf[offset++] = 0;
+			buf[offset++] = (byte)nameLength;
+			offset += nameLength + valueLength;
+		}
+		return buf;
+	}
+
+	/**
+	 * Create cluster instance without connecting to a server. Only the partition map
+	 * is initialized, which is sufficient for computing command partitions.
+	 */
+	public static Cluster createOfflineCluster() throws Exception {
+		Cluster cluster = (Cluster)getUnsafe().allocateInstance(Cluster.class);
+		HashMap<String,Partitions> map = new HashMap<String,Partitions>();
+		map.put(NAMESPACE, new Partitions(Node.PARTITIONS, 2, false));
+		cluster.partitionMap = map;
+		return cluster;
+	}
+
+	/**
+	 * Create offline cluster whose partitions are evenly distributed across nodeCount
+	 * active offline nodes. Sufficient for routing keys to nodes.
+	 */
+	public static Cluster createRoutedCluster(int nodeCount) throws Exception {
+		sun.misc.Unsafe unsafe = getUnsafe();
+		Field active = Node.class.getDeclaredField("active");
+		active.setAccessible(true);
+
+		Node[] nodes = new Node[nodeCount];
+
+		for (int i = 0; i < nodeCount; i++) {
+			nodes[i] = (Node)unsafe.allocateInstance(Node.class);
+			active.setBoolean(nodes[i], true);
+		}
+
+		Cluster cluster = createOfflineCluster();
+		Partitions partitions = cluster.partitionMap.get(NAMESPACE);
+
+		for (int r = 0; r < partitions.replicas.length; r++) {
+			for (int i = 0; i < Node.PARTITIONS; i++) {
+				partitions.replicas[r].set(i, nodes[(i + r) % nodeCount]);
+			}
+		}
+		partitions.publishRoutes();
+		return cluster;
+	}
+
+	/**
+	 * Create connections without sockets. They can only be pooled, not used for I/O.
+	 */
+	public static Connection[] createOfflineConnections(int count) throws Exception {
+		sun.misc.Unsafe unsafe = getUnsafe();
+		Connection[] conns = new Connection[count];
+
+		for (int i = 0; i < count; i++) {
+			conns[i] = (Connection)unsafe.allocateInstance(Connection.class);
+		}
+		return conns;
+	}
+
+	private static sun.misc.Unsafe getUnsafe() throws Exception {
+		Field f = sun.misc.Unsafe.class.getDeclaredField("theUnsafe");
+		f.setAccessible(true);
+		return (sun.misc.Unsafe)f.get(null);
+	}
+
+	public static Value[] createUserKeys(int count) {
+		Value[] keys = new Value[count];
+
+		for (int i = 0; i < count; i++) {
+			keys[i] = (i % 2 == 0) ? Value.get((long)i) : Value.get("key" + i);
+		}
+		return keys;
+	}
+}
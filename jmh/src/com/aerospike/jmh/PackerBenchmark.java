@@ -0,0 +1,84 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.jmh;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aerospike.client.cdt.MapOrder;
+import com.aerospike.client.util.Packer;
+import com.aerospike.client.util.Unpacker;
+
+/**
+ * Msgpack list/map serialization.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PackerBenchmark {
+	@Param({"10", "1000"})
+	public int size;
+
+	private List<Object> list;
+	private Map<Object,Object> map;
+	private byte[] packedList;
+	private byte[] packedMap;
+
+	@Setup
+	public void setup() {
+		list = Fixtures.createList(size);
+		map = Fixtures.createMap(size);
+		packedList = Packer.pack(list);
+		packedMap = Packer.pack(map, MapOrder.KEY_ORDERED);
+	}
+
+	@Benchmark
+	public byte[] packList() {
+		return Packer.pack(list);
+	}
+
+	@Benchmark
+	public byte[] packMap() {
+		return Packer.pack(map, MapOrder.KEY_ORDERED);
+	}
+
+	@Benchmark
+	public Object unpackList() {
+		return Unpacker.unpackObjectList(packedList, 0, packedList.length);
+	}
+
+	@Benchmark
+	public Object unpackMap() {
+		return Unpacker.unpackObjectMap(packedMap, 0, packedMap.length);
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Record;
+import com.aerospike.client.command.Buffer;
+import com.aerospike.client.command.Command;
+
+/**
+ * Response parsing from an in-memory buffer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParseBenchmark {
+	@Param({"1", "10", "50"})
+	public int binCount;
+
+	@Param({"50", "1000"})
+	public int binSize;
+
+	private BufferCommand command;
+	private byte[] response;
+	private int[] particleOffsets;
+	private int[] particleSizes;
+	private int[] particleTypes;
+	private String lastBinName;
+
+	@Setup
+	public void setup() {
+		Bin[] bins = Fixtures.createBins(binCount, binSize);
+		command = new BufferCommand();
+		response = Fixtures.encodeResponseOps(bins);
+		lastBinName = bins[binCount - 1].name;
+		particleOffsets = new int[binCount];
+		particleSizes = new int[binCount];
+		particleTypes = new int[binCount];
+
+		int offset = 0;
+
+		for (int i = 0; i < binCount; i++) {
+			int opSize = Buffer.bytesToInt(response, offset);
+			int nameSize = response[offset + 7];
+			particleTypes[i] = response[offset + 5];
+			particleOffsets[i] = offset + Command.OPERATION_HEADER_SIZE + nameSize;
+			particleSizes[i] = opSize - (4 + nameSize);
+			offset += 4 + opSize;
+		}
+	}
+
+	@Benchmark
+	public Record parseRecord() {
+		return command.parseRecord(response, 0, binCount, false);
+	}
+
+	@Benchmark
+	public Object parseRecordOneBin() {
+		return command.parseRecord(response, 0, binCount, false).getValue(lastBinName);
+	}
+
+	@Benchmark
+	public Object parseLazyRecordOneBin() {
+		return command.parseRecord(response, 0, binCount, true).getValue(lastBinName);
+	}
+
+	@Benchmark
+	public void bytesToParticle(Blackhole bh) {
+		for (int i = 0; i < particleTypes.length; i++) {
+			bh.consume(Buffer.bytesToParticle(particleTypes[i], response, particleOffsets[i], particleSizes[i]));
+		}
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.aerospike.client.cluster.Connection;
+import com.aerospike.client.cluster.ConnectionPool;
+import com.aerospike.client.policy.ConnPoolType;
+
+/**
+ * Sync connection pool contention. All benchmark threads share one pool, which
+ * models connPoolsPerNode=1 with many sync threads. Thread count is set with
+ * the JMH -t argument, e.g. "./run_jmh PoolBenchmark -t 256".
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PoolBenchmark {
+	@Param({"LOCK", "LOCK_FREE"})
+	public ConnPoolType type;
+
+	@Param({"300"})
+	public int capacity;
+
+	/**
+	 * Simulated work while a connection is checked out, in JMH cpu tokens.
+	 */
+	@Param({"0", "100"})
+	public int work;
+
+	private ConnectionPool pool;
+
+	@Setup
+	public void setup() throws Exception {
+		pool = ConnectionPool.create(type, 0, capacity);
+
+		for (Connection conn : Fixtures.createOfflineConnections(capacity)) {
+			pool.offer(conn);
+		}
+	}
+
+	@Benchmark
+	public Connection pollOffer() {
+		Connection conn = pool.poll();
+
+		if (conn != null) {
+			if (work > 0) {
+				Blackhole.consumeCPU(work);
+			}
+			pool.offer(conn);
+		}
+		return conn;
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.cluster.Cluster;
+import com.aerospike.client.cluster.Node;
+import com.aerospike.client.cluster.Partition;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.policy.Replica;
+import com.aerospike.client.policy.WritePolicy;
+
+/**
+ * Key to node routing for single record reads/writes and batch node assignment.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoutingBenchmark {
+	@Param({"SEQUENCE", "MASTER"})
+	public Replica replica;
+
+	private static final int KEY_COUNT = 1024;
+
+	private Cluster cluster;
+	private Policy readPolicy;
+	private WritePolicy writePolicy;
+	private Key[] keys;
+	private int index;
+
+	@Setup
+	public void setup() throws Exception {
+		cluster = Fixtures.createRoutedCluster(3);
+		readPolicy = new Policy();
+		readPolicy.replica = replica;
+		writePolicy = new WritePolicy();
+		writePolicy.replica = replica;
+		keys = new Key[KEY_COUNT];
+
+		for (int i = 0; i < KEY_COUNT; i++) {
+			keys[i] = new Key(Fixtures.NAMESPACE, Fixtures.SET, i);
+		}
+	}
+
+	private Key nextKey() {
+		return keys[index++ & (KEY_COUNT - 1)];
+	}
+
+	@Benchmark
+	public Node routeRead() {
+		return Partition.read(cluster, readPolicy, nextKey()).getNodeRead(cluster);
+	}
+
+	@Benchmark
+	public Node routeWrite() {
+		return Partition.write(cluster, writePolicy, nextKey()).getNodeWrite(cluster);
+	}
+
+	@Benchmark
+	public Node routeBatchRead() {
+		return Partition.getNodeBatchRead(cluster, nextKey(), replica, replica, null, 0, 0);
+	}
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.fake;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import com.aerospike.client.Host;
+import com.aerospike.client.cluster.Node;
+
+/**
+ * In-process stand-in for an Aerospike cluster. Nodes speak the info and AS_MSG
+ * protocols used by the Java client and store records in memory, so client
+ * throughput, latency and allocation can be measured without a real server.
+ * <p>
+ * Supported commands: get, put, add, append, prepend, touch, delete, exists,
+ * scalar operate, batch (read, exists, operate, write and delete) and partition
+ * scans. Secondary index queries, UDFs, CDT/bit/HLL/expression operations and
+ * security are not supported. Filter expressions are ignored.
+ * <p>
+ * Cluster changes are deterministic. Partition p is mastered by live node
+ * p % nodeCount and replica r of p lives on node (p + r) % nodeCount.
+ * Adding or removing a node immediately redistributes partitions and bumps
+ * the partition and peers generations reported to the client.
+ * <p>
+ * Example:
+ * <pre>
+ * FakeCluster fake = new FakeCluster(new FakeConfig());
+ * fake.start();
+ * AerospikeClient client = new AerospikeClient(new ClientPolicy(), fake.getHosts());
+ * </pre>
+ */
+public final class FakeCluster implements Closeable {
+	final Store store;
+	final String[] namespaces;
+	final String clusterName;
+	private final FakeConfig config;
+	private final ArrayList<FakeNode> nodes = new ArrayList<FakeNode>();
+	private volatile FakeNode[] masters = new FakeNode[0];
+	private int nextNodeId = 1;
+	private int generation;
+
+	public FakeCluster(FakeConfig config) {
+		this.config = config;
+		this.namespaces = config.namespaces.clone();
+		this.clusterName = config.clusterName;
+		this.store = new Store(namespaces);
+	}
+
+	/**
+	 * Start configured number of nodes.
+	 */
+	public synchronized void start() throws IOException {
+		for (int i = 0; i < config.nodeCount; i++) {
+			nodes.add(createNode());
+		}
+		rebalance();
+	}
+
+	/**
+	 * Start a new node and move partitions to it.
+	 */
+	public synchronized FakeNode addNode() throws IOException {
+		FakeNode node = createNode();
+		nodes.add(node);
+		rebalance();
+		return node;
+	}
+
+	/**
+	 * Shutdown node and move its partitions to the remaining nodes.
+	 * Records are retained because they are shared by all nodes.
+	 */
+	public synchronized void removeNode(FakeNode node) {
+		if (nodes.remove(node)) {
+			node.close();
+			rebalance();
+		}
+	}
+
+	/**
+	 * Return live nodes in partition assignment order.
+	 */
+	public synchronized List<FakeNode> getNodes() {
+		return new ArrayList<FakeNode>(nodes);
+	}
+
+	/**
+	 * Return live node at given index.
+	 */
+	public synchronized FakeNode getNode(int index) {
+		return nodes.get(index);
+	}
+
+	/**
+	 * Return addresses of live nodes for use as client seeds.
+	 */
+	public synchronized Host[] getHosts() {
+		Host[] hosts = new Host[nodes.size()];
+
+		for (int i = 0; i < hosts.length; i++) {
+			hosts[i] = nodes.get(i).getHost();
+		}
+		return hosts;
+	}
+
+	/**
+	 * Return number of records stored in namespace.
+	 */
+	public long getRecordCount(String namespace) {
+		Store.Namespace ns = store.getNamespace(namespace);
+		return (ns != null)? ns.size() : 0;
+	}
+
+	/**
+	 * Shutdown all nodes.
+	 */
+	@Override
+	public synchronized void close() {
+		for (FakeNode node : nodes) {
+			node.close();
+		}
+		nodes.clear();
+		masters = new FakeNode[0];
+	}
+
+	private FakeNode createNode() throws IOException {
+		int id = nextNodeId++;
+		String name = String.format("BB9%013X", id);
+		int port = (config.port > 0)? config.port + id - 1 : 0;
+		FakeNode node = new FakeNode(this, name, config.host, port, config.responseBufferSize);
+		node.start();
+		return node;
+	}
+
+	/**
+	 * Reassign partitions to live nodes and publish new partition and peer maps.
+	 */
+	private void rebalance() {
+		int nodeCount = nodes.size();
+		generation++;
+
+		if (nodeCount == 0) {
+			masters = new FakeNode[0];
+			return;
+		}
+
+		int replicaCount = Math.max(1, Math.min(config.replicationFactor, nodeCount));
+		FakeNode[] newMasters = new FakeNode[Node.PARTITIONS];
+
+		for (int p = 0; p < Node.PARTITIONS; p++) {
+			newMasters[p] = nodes.get(p % nodeCount);
+		}
+
+		for (int i = 0; i < nodeCount; i++) {
+			FakeNode node = nodes.get(i);
+			node.replicas = buildReplicas(i, nodeCount, replicaCount);
+			node.peers = buildPeers(node);
+			node.partitionGeneration = generation;
+			node.peersGeneration = generation;
+			node.rebalanceGeneration = generation;
+		}
+		masters = newMasters;
+	}
+
+	private String buildReplicas(int nodeIndex, int nodeCount, int replicaCount) {
+		// Format: <ns>:<regime>,<replicaCount>,<base64 bitmap replica 0>,...;
+		StringBuilder sb = new StringBuilder(1024 * replicaCount);
+		Base64.Encoder encoder = Base64.getEncoder();
+
+		for (String ns : namespaces) {
+			sb.append(ns);
+			sb.append(":0,");
+			sb.append(replicaCount);
+
+			for (int r = 0; r < replicaCount; r++) {
+				byte[] bitmap = new byte[(Node.PARTITIONS + 7) / 8];
+
+				for (int p = 0; p < Node.PARTITIONS; p++) {
+					if ((p + r) % nodeCount == nodeIndex) {
+						bitmap[p >> 3] |= 0x80 >> (p & 7);
+					}
+				}
+				sb.append(',');
+				sb.append(encoder.encodeToString(bitmap));
+			}
+			sb.append(';');
+		}
+		return sb.toString();
+	}
+
+	private String buildPeers(FakeNode self) {
+		// Format: <gen>,<default port>,[[<node name>,<tls name>,[<host:port>,...]],...]
+		StringBuilder sb = new StringBuilder(256);
+		sb.append(generation);
+		sb.append(',');
+		sb.append(self.getPort());
+		sb.append(",[");
+
+		boolean first = true;
+
+		for (FakeNode node : nodes) {
+			if (node == self) {
+				continue;
+			}
+
+			if (! first) {
+				sb.append(',');
+			}
+			first = false;
+			sb.append('[');
+			sb.append(node.getName());
+			sb.append(",,[");
+			sb.append(config.host);
+			sb.append(':');
+			sb.append(node.getPort());
+			sb.append("]]");
+		}
+		sb.append(']');
+		return sb.toString();
+	}
+
+	boolean isMaster(FakeNode node, int partitionId) {
+		FakeNode[] m = masters;
+		return partitionId < m.length && m[partitionId] == node;
+	}
+
+	String namespaceInfo(String namespace) {
+		Store.Namespace ns = store.getNamespace(namespace);
+
+		if (ns == null) {
+			return "";
+		}
+
+		int replicaCount;
+
+		synchronized (this) {
+			replicaCount = Math.max(1, Math.min(config.replicationFactor, nodes.size()));
+		}
+		return "objects=" + ns.size() + ";replication-factor=" + replicaCount;
+	}
+}
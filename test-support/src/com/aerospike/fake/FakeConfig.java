@@ -0,0 +1,67 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.fake;
+
+/**
+ * Fake cluster configuration. Fields are read when the cluster is started.
+ */
+public final class FakeConfig {
+	/**
+	 * Namespaces served by every node.
+	 * Default: {"test"}
+	 */
+	public String[] namespaces = new String[] {"test"};
+
+	/**
+	 * Number of nodes started by {@link FakeCluster#start()}.
+	 * Default: 1
+	 */
+	public int nodeCount = 1;
+
+	/**
+	 * Number of replicas reported for each partition. Capped at the number of live nodes.
+	 * Records are stored once and shared by all nodes, so replicas are always in sync.
+	 * Default: 1
+	 */
+	public int replicationFactor = 1;
+
+	/**
+	 * Address that nodes bind to and advertise to clients.
+	 * Default: 127.0.0.1
+	 */
+	public String host = "127.0.0.1";
+
+	/**
+	 * Port of the first node. Subsequent nodes use consecutive ports.
+	 * If zero, each node binds to an ephemeral port.
+	 * Default: 0
+	 */
+	public int port;
+
+	/**
+	 * Cluster name returned by the "cluster-name" info command.
+	 * Default: null (no cluster name)
+	 */
+	public String clusterName;
+
+	/**
+	 * Maximum number of bytes buffered for one scan or batch response message
+	 * before the message is flushed to the socket.
+	 * Default: 128KB
+	 */
+	public int responseBufferSize = 128 * 1024;
+}
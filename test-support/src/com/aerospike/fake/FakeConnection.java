@@ -0,0 +1,417 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.fake;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import com.aerospike.client.Operation;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.cluster.Node;
+import com.aerospike.client.cluster.Partition;
+import com.aerospike.client.command.Buffer;
+import com.aerospike.client.command.Command;
+import com.aerospike.client.command.FieldType;
+
+/**
+ * Serve requests from one client socket. Each connection runs on its own thread
+ * and processes requests sequentially, just like a server transaction thread.
+ */
+final class FakeConnection implements Runnable {
+	private static final long MAX_MESSAGE_SIZE = 128L * 1024 * 1024;
+
+	private final FakeNode node;
+	private final Socket socket;
+	private final RecordHandler handler;
+	private final MessageWriter writer;
+	private final int flushSize;
+	private final byte[] header = new byte[8];
+	private byte[] buffer = new byte[8192];
+	private InputStream is;
+	private OutputStream os;
+
+	FakeConnection(FakeNode node, Socket socket, RecordHandler handler, int flushSize) {
+		this.node = node;
+		this.socket = socket;
+		this.handler = handler;
+		this.writer = new MessageWriter(8192);
+		this.flushSize = flushSize;
+	}
+
+	@Override
+	public void run() {
+		try {
+			socket.setTcpNoDelay(true);
+			is = socket.getInputStream();
+			os = socket.getOutputStream();
+
+			while (true) {
+				if (! readFully(header, 8)) {
+					break;
+				}
+
+				long proto = Buffer.bytesToLong(header, 0);
+				long type = (proto >> 48) & 0xFF;
+				long size = proto & 0xFFFFFFFFFFFFL;
+
+				if (size <= 0 || size > MAX_MESSAGE_SIZE) {
+					break;
+				}
+
+				if (buffer.length < size) {
+					buffer = new byte[(int)size];
+				}
+
+				if (! readFully(buffer, (int)size)) {
+					break;
+				}
+
+				if (type == MessageWriter.INFO_TYPE) {
+					node.infoCount.getAndIncrement();
+					handleInfo(buffer, (int)size);
+				}
+				else if (type == Command.AS_MSG_TYPE) {
+					node.commandCount.getAndIncrement();
+					handleMessage(buffer, 0);
+				}
+				else if (type == Command.MSG_TYPE_COMPRESSED) {
+					node.commandCount.getAndIncrement();
+					byte[] ubuf = inflate(buffer, (int)size);
+					handleMessage(ubuf, 8);
+				}
+				else {
+					// Security and other message types are not supported.
+					break;
+				}
+			}
+		}
+		catch (IOException ioe) {
+			// Client or node closed socket.
+		}
+		catch (Exception e) {
+			if (! node.isClosed()) {
+				System.err.println("Fake node " + node.getName() + " connection error: " + e);
+				e.printStackTrace();
+			}
+		}
+		finally {
+			node.closeConnection(socket);
+		}
+	}
+
+	private boolean readFully(byte[] buf, int length) throws IOException {
+		int pos = 0;
+
+		while (pos < length) {
+			int count = is.read(buf, pos, length - pos);
+
+			if (count < 0) {
+				if (pos == 0) {
+					return false;
+				}
+				throw new EOFException();
+			}
+			pos += count;
+		}
+		return true;
+	}
+
+	private static byte[] inflate(byte[] buf, int size) throws IOException {
+		int usize = (int)Buffer.bytesToLong(buf, 0);
+		byte[] ubuf = new byte[usize];
+		Inflater inf = new Inflater();
+
+		try {
+			inf.setInput(buf, 8, size - 8);
+
+			if (inf.inflate(ubuf) != usize) {
+				throw new IOException("Decompressed size mismatch");
+			}
+		}
+		catch (DataFormatException dfe) {
+			throw new IOException(dfe);
+		}
+		finally {
+			inf.end();
+		}
+		return ubuf;
+	}
+
+	//-------------------------------------------------------
+	// Info
+	//-------------------------------------------------------
+
+	private void handleInfo(byte[] buf, int size) throws IOException {
+		String request = Buffer.utf8ToString(buf, 0, size);
+		StringBuilder sb = new StringBuilder(256);
+
+		for (String name : request.split("\n")) {
+			if (name.length() == 0) {
+				continue;
+			}
+			String value = node.info(name);
+			sb.append(name);
+			sb.append('\t');
+			sb.append(value);
+			sb.append('\n');
+		}
+
+		byte[] response = Buffer.stringToUtf8(sb.toString());
+		writer.writeInfo(response, response.length);
+		writer.send(os, MessageWriter.INFO_TYPE, false);
+	}
+
+	//-------------------------------------------------------
+	// AS_MSG
+	//-------------------------------------------------------
+
+	private void handleMessage(byte[] buf, int offset) throws IOException {
+		Request request = MessageReader.parse(buf, offset);
+		boolean compress = (request.readAttr & Command.INFO1_COMPRESS_RESPONSE) != 0;
+
+		if (node.isDropResponses()) {
+			// Simulate a lost response. The client will eventually time out.
+			return;
+		}
+
+		int delay = node.getDelay();
+
+		if (delay > 0) {
+			try {
+				Thread.sleep(delay);
+			}
+			catch (InterruptedException ie) {
+				throw new IOException("Interrupted");
+			}
+		}
+
+		int forcedResultCode = node.getResultCode();
+
+		if (request.isBatch()) {
+			if (forcedResultCode == ResultCode.OK) {
+				forcedResultCode = node.getBatchResultCode();
+			}
+
+			if (forcedResultCode != ResultCode.OK) {
+				sendLast(forcedResultCode, compress);
+				return;
+			}
+			handleBatch(buf, request, compress);
+		}
+		else if (request.isSingle()) {
+			if (forcedResultCode == ResultCode.OK) {
+				forcedResultCode = node.getRecordResultCode(request.digest);
+			}
+
+			Result result = (forcedResultCode != ResultCode.OK)? new Result(forcedResultCode) : handler.execute(request);
+			writer.writeHeader(0, result.resultCode, result.generation, result.expiration, 0, 0, result.opCount());
+			writeOps(result);
+			writer.send(os, Command.AS_MSG_TYPE, compress);
+		}
+		else {
+			if (forcedResultCode != ResultCode.OK) {
+				sendLast(forcedResultCode, compress);
+				return;
+			}
+			handleScan(buf, request, compress);
+		}
+	}
+
+	private void handleBatch(byte[] buf, Request request, boolean compress) throws IOException {
+		ArrayList<Request> rows = MessageReader.parseBatch(buf, request);
+
+		for (Request row : rows) {
+			int resultCode = node.getRecordResultCode(row.digest);
+			Result result = (resultCode != ResultCode.OK)? new Result(resultCode) : handler.execute(row);
+			writer.writeHeader(0, result.resultCode, result.generation, result.expiration, row.batchIndex, 0, result.opCount());
+			writeOps(result);
+			flushIfFull(compress);
+		}
+		sendLast(ResultCode.OK, compress);
+	}
+
+	private void handleScan(byte[] buf, Request request, boolean compress) throws IOException {
+		Store.Namespace ns = node.getCluster().store.getNamespace(request.namespace);
+
+		if (ns == null) {
+			sendLast(ResultCode.INVALID_NAMESPACE, compress);
+			return;
+		}
+
+		if (request.unsupported || (request.writeAttr & Command.INFO2_WRITE) != 0) {
+			// Secondary index queries and background operations are not supported.
+			sendLast(ResultCode.UNSUPPORTED_FEATURE, compress);
+			return;
+		}
+
+		ScanState state = new ScanState(request, compress);
+
+		if (request.pidLength == 0 && request.digestLength == 0) {
+			// Scan all partitions owned by this node.
+			for (int pid = 0; pid < Node.PARTITIONS && ! state.done(); pid++) {
+				if (node.isMaster(pid)) {
+					scanPartition(state, ns, pid, null);
+				}
+			}
+		}
+		else {
+			for (int i = 0; i < request.pidLength && ! state.done(); i += 2) {
+				int pid = Buffer.littleBytesToShort(buf, request.pidOffset + i);
+				scanPartition(state, ns, pid, null);
+			}
+
+			for (int i = 0; i < request.digestLength && ! state.done(); i += 20) {
+				byte[] digest = new byte[20];
+				System.arraycopy(buf, request.digestOffset + i, digest, 0, 20);
+				scanPartition(state, ns, Partition.getPartitionId(digest), digest);
+			}
+		}
+		sendLast(ResultCode.OK, compress);
+	}
+
+	private void scanPartition(ScanState state, Store.Namespace ns, int pid, byte[] after) throws IOException {
+		if (! node.isMaster(pid)) {
+			// Partition has moved. Tell client to retry partition on next scan iteration.
+			writer.writeHeader(Command.INFO3_PARTITION_DONE, ResultCode.PARTITION_UNAVAILABLE, pid, 0, 0, 0, 0);
+			flushIfFull(state.compress);
+			return;
+		}
+
+		Store.PartitionStore ps = ns.partitions[pid];
+		Iterable<StoredRecord> records = (after != null)?
+			ps.records.tailMap(after, false).values() : ps.records.values();
+		int now = RecordHandler.now();
+
+		for (StoredRecord record : records) {
+			if (record.isExpired(now)) {
+				continue;
+			}
+
+			if (state.setName != null && ! state.setName.equals(record.setName)) {
+				continue;
+			}
+
+			writeRecord(state, record);
+			flushIfFull(state.compress);
+
+			if (state.done()) {
+				return;
+			}
+		}
+	}
+
+	private void writeRecord(ScanState state, StoredRecord record) {
+		ArrayList<Op> ops = new ArrayList<Op>();
+
+		if (state.includeBins) {
+			for (Map.Entry<String,Particle> entry : record.bins.entrySet()) {
+				String name = entry.getKey();
+
+				if (state.binNames == null || state.binNames.contains(name)) {
+					Particle p = entry.getValue();
+					ops.add(new Op(Operation.Type.READ.protocolType, p.type, name, p.bytes));
+				}
+			}
+		}
+
+		int fieldCount = 2;
+
+		if (record.setName != null) {
+			fieldCount++;
+		}
+
+		if (record.userKey != null) {
+			fieldCount++;
+		}
+
+		writer.writeHeader(0, ResultCode.OK, record.generation, record.expiration, 0, fieldCount, ops.size());
+		writer.writeField(FieldType.NAMESPACE, state.namespace);
+		writer.writeField(FieldType.DIGEST_RIPE, record.digest);
+
+		if (record.setName != null) {
+			writer.writeField(FieldType.TABLE, record.setName);
+		}
+
+		if (record.userKey != null) {
+			writer.writeField(FieldType.KEY, record.userKey);
+		}
+
+		for (Op op : ops) {
+			writer.writeOp(op);
+		}
+		state.count++;
+	}
+
+	private void writeOps(Result result) {
+		if (result.ops != null) {
+			for (Op op : result.ops) {
+				writer.writeOp(op);
+			}
+		}
+	}
+
+	private void flushIfFull(boolean compress) throws IOException {
+		if (writer.size() >= flushSize) {
+			writer.send(os, Command.AS_MSG_TYPE, compress);
+		}
+	}
+
+	private void sendLast(int resultCode, boolean compress) throws IOException {
+		writer.writeHeader(Command.INFO3_LAST, resultCode, 0, 0, 0, 0, 0);
+		writer.send(os, Command.AS_MSG_TYPE, compress);
+	}
+
+	private static final class ScanState {
+		final String namespace;
+		final String setName;
+		final ArrayList<String> binNames;
+		final boolean includeBins;
+		final boolean compress;
+		final long maxRecords;
+		long count;
+
+		ScanState(Request request, boolean compress) {
+			this.namespace = request.namespace;
+			this.setName = request.setName;
+			this.includeBins = (request.readAttr & Command.INFO1_NOBINDATA) == 0;
+			this.compress = compress;
+			this.maxRecords = request.maxRecords;
+
+			if (request.ops.size() > 0) {
+				binNames = new ArrayList<String>(request.ops.size());
+
+				for (Op op : request.ops) {
+					binNames.add(op.name);
+				}
+			}
+			else {
+				binNames = null;
+			}
+		}
+
+		boolean done() {
+			return maxRecords > 0 && count >= maxRecords;
+		}
+	}
+}
@@ -0,0 +1,347 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.fake;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.aerospike.client.Host;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.command.Buffer;
+
+/**
+ * Single node of a fake cluster. The node accepts client connections on its own
+ * port and serves each connection on a dedicated daemon thread.
+ * <p>
+ * Fault injection settings take effect on the next request received by any connection.
+ */
+public final class FakeNode implements Closeable {
+	private static final long THREAD_STACK_SIZE = 256 * 1024;
+
+	private final FakeCluster cluster;
+	private final String name;
+	private final String host;
+	private final ServerSocket serverSocket;
+	private final Thread acceptThread;
+	private final RecordHandler handler;
+	private final int flushSize;
+	private final Set<Socket> sockets = ConcurrentHashMap.newKeySet();
+	final AtomicLong commandCount = new AtomicLong();
+	final AtomicLong infoCount = new AtomicLong();
+	private final AtomicLong connectionsOpened = new AtomicLong();
+	private final AtomicInteger connectionsOpen = new AtomicInteger();
+
+	// Cluster state maintained by FakeCluster.
+	volatile String replicas = "";
+	volatile String peers = "";
+	volatile int partitionGeneration;
+	volatile int peersGeneration;
+	volatile int rebalanceGeneration;
+
+	private volatile int delay;
+	private volatile int resultCode;
+	private volatile int batchResultCode;
+	private final ConcurrentHashMap<String,Integer> recordResultCodes = new ConcurrentHashMap<String,Integer>();
+	private volatile boolean dropResponses;
+	private volatile boolean closed;
+
+	FakeNode(FakeCluster cluster, String name, String host, int port, int flushSize) throws IOException {
+		this.cluster = cluster;
+		this.name = name;
+		this.host = host;
+		this.handler = new RecordHandler(cluster.store);
+		this.flushSize = flushSize;
+		this.serverSocket = new ServerSocket();
+		this.serverSocket.setReuseAddress(true);
+		this.serverSocket.bind(new InetSocketAddress(InetAddress.getByName(host), port), 4096);
+		this.acceptThread = new Thread(new Runnable() {
+			public void run() {
+				acceptLoop();
+			}
+		}, "fake-" + name + "-accept");
+		this.acceptThread.setDaemon(true);
+	}
+
+	void start() {
+		acceptThread.start();
+	}
+
+	private void acceptLoop() {
+		int count = 0;
+
+		while (! closed) {
+			Socket socket;
+
+			try {
+				socket = serverSocket.accept();
+			}
+			catch (IOException ioe) {
+				// Server socket closed.
+				break;
+			}
+
+			if (closed) {
+				closeSocket(socket);
+				break;
+			}
+
+			sockets.add(socket);
+			connectionsOpened.getAndIncrement();
+			connectionsOpen.getAndIncrement();
+
+			FakeConnection conn = new FakeConnection(this, socket, handler, flushSize);
+			Thread thread = new Thread(null, conn, "fake-" + name + "-" + (++count), THREAD_STACK_SIZE);
+			thread.setDaemon(true);
+			thread.start();
+		}
+	}
+
+	void closeConnection(Socket socket) {
+		if (sockets.remove(socket)) {
+			connectionsOpen.getAndDecrement();
+		}
+		closeSocket(socket);
+	}
+
+	private static void closeSocket(Socket socket) {
+		try {
+			socket.close();
+		}
+		catch (IOException ioe) {
+		}
+	}
+
+	/**
+	 * Stop accepting connections and close all open connections.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+
+		try {
+			serverSocket.close();
+		}
+		catch (IOException ioe) {
+		}
+
+		for (Socket socket : sockets) {
+			closeConnection(socket);
+		}
+	}
+
+	/**
+	 * Close all open client connections, but keep accepting new connections.
+	 * Simulates a network interruption between the client and this node.
+	 */
+	public void closeConnections() {
+		for (Socket socket : sockets) {
+			closeConnection(socket);
+		}
+	}
+
+	String info(String command) {
+		switch (command) {
+		case "node":
+			return name;
+
+		case "partition-generation":
+			return Integer.toString(partitionGeneration);
+
+		case "peers-generation":
+			return Integer.toString(peersGeneration);
+
+		case "rebalance-generation":
+			return Integer.toString(rebalanceGeneration);
+
+		case "replicas":
+			return replicas;
+
+		case "peers-clear-std":
+			return peers;
+
+		case "service-clear-std":
+			return host + ':' + getPort();
+
+		case "features":
+			return "pscans;batch-any;pquery";
+
+		case "cluster-name":
+			return (cluster.clusterName != null)? cluster.clusterName : "null";
+
+		case "namespaces":
+			return String.join(";", cluster.namespaces);
+
+		case "build":
+			return "6.0.0.0";
+
+		default:
+			if (command.startsWith("namespace/")) {
+				return cluster.namespaceInfo(command.substring(10));
+			}
+			return "";
+		}
+	}
+
+	FakeCluster getCluster() {
+		return cluster;
+	}
+
+	boolean isMaster(int partitionId) {
+		return cluster.isMaster(this, partitionId);
+	}
+
+	boolean isClosed() {
+		return closed;
+	}
+
+	/**
+	 * Return node name.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Return port the node is listening on.
+	 */
+	public int getPort() {
+		return serverSocket.getLocalPort();
+	}
+
+	/**
+	 * Return node address.
+	 */
+	public Host getHost() {
+		return new Host(host, getPort());
+	}
+
+	/**
+	 * Delay every AS_MSG response by the given number of milliseconds.
+	 * Info requests are not delayed, so cluster tending is unaffected.
+	 * Set to zero to disable.
+	 */
+	public void setDelay(int millis) {
+		this.delay = millis;
+	}
+
+	int getDelay() {
+		return delay;
+	}
+
+	/**
+	 * Read AS_MSG requests, but never respond. Commands sent to this node
+	 * will time out. Info requests are still answered.
+	 */
+	public void setDropResponses(boolean dropResponses) {
+		this.dropResponses = dropResponses;
+	}
+
+	boolean isDropResponses() {
+		return dropResponses;
+	}
+
+	/**
+	 * Fail every AS_MSG request with the given result code instead of executing it,
+	 * e.g. {@link com.aerospike.client.ResultCode#DEVICE_OVERLOAD}.
+	 * Set to {@link com.aerospike.client.ResultCode#OK} to disable.
+	 */
+	public void setResultCode(int resultCode) {
+		this.resultCode = resultCode;
+	}
+
+	int getResultCode() {
+		return resultCode;
+	}
+
+	/**
+	 * Fail every batch request with the given result code. Single record commands are
+	 * unaffected. Set to {@link com.aerospike.client.ResultCode#OK} to disable.
+	 */
+	public void setBatchResultCode(int resultCode) {
+		this.batchResultCode = resultCode;
+	}
+
+	int getBatchResultCode() {
+		return batchResultCode;
+	}
+
+	/**
+	 * Return the given result code for the record with this digest in single record and
+	 * batch commands, e.g. {@link com.aerospike.client.ResultCode#FILTERED_OUT}.
+	 * Set to {@link com.aerospike.client.ResultCode#OK} to disable.
+	 */
+	public void setRecordResultCode(byte[] digest, int resultCode) {
+		String key = Buffer.bytesToHexString(digest);
+
+		if (resultCode == ResultCode.OK) {
+			recordResultCodes.remove(key);
+		}
+		else {
+			recordResultCodes.put(key, resultCode);
+		}
+	}
+
+	int getRecordResultCode(byte[] digest) {
+		if (digest == null || recordResultCodes.isEmpty()) {
+			return ResultCode.OK;
+		}
+
+		Integer resultCode = recordResultCodes.get(Buffer.bytesToHexString(digest));
+		return (resultCode != null)? resultCode : ResultCode.OK;
+	}
+
+	/**
+	 * Return number of AS_MSG requests received.
+	 */
+	public long getCommandCount() {
+		return commandCount.get();
+	}
+
+	/**
+	 * Return number of info requests received.
+	 */
+	public long getInfoCount() {
+		return infoCount.get();
+	}
+
+	/**
+	 * Return number of client connections currently open.
+	 */
+	public int getConnectionsOpen() {
+		return connectionsOpen.get();
+	}
+
+	/**
+	 * Return number of client connections accepted since the node started.
+	 */
+	public long getConnectionsOpened() {
+		return connectionsOpened.get();
+	}
+
+	@Override
+	public String toString() {
+		return name + ' ' + host + ':' + getPort();
+	}
+}
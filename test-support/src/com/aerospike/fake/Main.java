@@ -0,0 +1,88 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.fake;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.CommandLineParser;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.PosixParser;
+
+/**
+ * Run a fake cluster as a standalone process, so existing tools like the
+ * benchmarks program can connect to it with -h and -p.
+ */
+public final class Main {
+	public static void main(String[] args) {
+		try {
+			Options options = new Options();
+			options.addOption("h", "host", true, "Address to bind and advertise. Default: 127.0.0.1");
+			options.addOption("p", "port", true, "Port of first node. Other nodes use consecutive ports. Default: 3000");
+			options.addOption("n", "nodes", true, "Number of nodes. Default: 1");
+			options.addOption("ns", "namespaces", true, "Comma separated namespaces. Default: test");
+			options.addOption("rf", "replicationFactor", true, "Replication factor. Default: 1");
+			options.addOption("c", "clusterName", true, "Cluster name. Default: none");
+			options.addOption("d", "delay", true, "Delay every command response by this many milliseconds. Default: 0");
+			options.addOption("u", "usage", false, "Print usage.");
+
+			CommandLineParser parser = new PosixParser();
+			CommandLine cl = parser.parse(options, args, false);
+
+			if (cl.hasOption("u")) {
+				logUsage(options);
+				return;
+			}
+
+			FakeConfig config = new FakeConfig();
+			config.host = cl.getOptionValue("h", "127.0.0.1");
+			config.port = Integer.parseInt(cl.getOptionValue("p", "3000"));
+			config.nodeCount = Integer.parseInt(cl.getOptionValue("n", "1"));
+			config.namespaces = cl.getOptionValue("ns", "test").split(",");
+			config.replicationFactor = Integer.parseInt(cl.getOptionValue("rf", "1"));
+			config.clusterName = cl.getOptionValue("c");
+
+			int delay = Integer.parseInt(cl.getOptionValue("d", "0"));
+
+			FakeCluster cluster = new FakeCluster(config);
+			cluster.start();
+
+			for (FakeNode node : cluster.getNodes()) {
+				node.setDelay(delay);
+				System.out.println("Fake node " + node + " started");
+			}
+
+			// Serve until the process is killed.
+			Thread.currentThread().join();
+		}
+		catch (Exception e) {
+			System.out.println("Error: " + e.getMessage());
+			e.printStackTrace();
+		}
+	}
+
+	private static void logUsage(Options options) {
+		HelpFormatter formatter = new HelpFormatter();
+		StringWriter sw = new StringWriter();
+		PrintWriter pw = new PrintWriter(sw);
+		String syntax = Main.class.getName() + " [<options>]";
+		formatter.printHelp(pw, 100, syntax, "options:", options, 0, 2, null);
+		System.out.println(sw.toString());
+	}
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.fake;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import com.aerospike.client.command.Buffer;
+import com.aerospike.client.command.Command;
+import com.aerospike.client.command.FieldType;
+
+/**
+ * Decode client AS_MSG requests.
+ */
+final class MessageReader {
+	/**
+	 * Parse message starting at the 22 byte message header.
+	 */
+	static Request parse(byte[] buf, int offset) {
+		Request request = new Request();
+		request.readAttr = buf[offset + 1] & 0xFF;
+		request.writeAttr = buf[offset + 2] & 0xFF;
+		request.infoAttr = buf[offset + 3] & 0xFF;
+		request.generation = Buffer.bytesToInt(buf, offset + 6);
+		request.expiration = Buffer.bytesToInt(buf, offset + 10);
+
+		int fieldCount = Buffer.bytesToShort(buf, offset + 18);
+		int opCount = Buffer.bytesToShort(buf, offset + 20);
+
+		offset += Command.MSG_REMAINING_HEADER_SIZE;
+		offset = parseFields(buf, offset, fieldCount, request);
+		parseOps(buf, offset, opCount, request);
+		return request;
+	}
+
+	/**
+	 * Parse batch index field into one request per batch row.
+	 */
+	static ArrayList<Request> parseBatch(byte[] buf, Request parent) {
+		int offset = parent.batchOffset;
+		int count = Buffer.bytesToInt(buf, offset);
+		offset += 5;  // Skip count and allowInline flag.
+
+		ArrayList<Request> rows = new ArrayList<Request>(count);
+		Request prev = null;
+
+		for (int i = 0; i < count; i++) {
+			int index = Buffer.bytesToInt(buf, offset);
+			offset += 4;
+
+			byte[] digest = Arrays.copyOfRange(buf, offset, offset + 20);
+			offset += 20;
+
+			int type = buf[offset++] & 0xFF;
+			Request row;
+
+			if (type == Command.BATCH_MSG_REPEAT) {
+				if (prev == null) {
+					throw new IllegalStateException("Batch repeat without previous row");
+				}
+				row = copy(prev);
+			}
+			else {
+				row = new Request();
+
+				switch (type) {
+				case Command.BATCH_MSG_READ:
+					row.readAttr = buf[offset++] & 0xFF;
+					break;
+
+				case Command.BATCH_MSG_INFO:
+					row.readAttr = buf[offset++] & 0xFF;
+					row.writeAttr = buf[offset++] & 0xFF;
+					row.infoAttr = buf[offset++] & 0xFF;
+					break;
+
+				case Command.BATCH_MSG_WRITE:
+					row.readAttr = buf[offset++] & 0xFF;
+					row.writeAttr = buf[offset++] & 0xFF;
+					row.infoAttr = buf[offset++] & 0xFF;
+					row.generation = Buffer.bytesToShort(buf, offset);
+					offset += 2;
+					row.expiration = Buffer.bytesToInt(buf, offset);
+					offset += 4;
+					break;
+
+				default:
+					throw new IllegalStateException("Invalid batch row type: " + type);
+				}
+
+				int fieldCount = Buffer.bytesToShort(buf, offset);
+				offset += 2;
+				int opCount = Buffer.bytesToShort(buf, offset);
+				offset += 2;
+				offset = parseFields(buf, offset, fieldCount, row);
+				offset = parseOps(buf, offset, opCount, row);
+				prev = row;
+			}
+			row.digest = digest;
+			row.batchIndex = index;
+			rows.add(row);
+		}
+		return rows;
+	}
+
+	private static Request copy(Request prev) {
+		Request row = new Request();
+		row.readAttr = prev.readAttr;
+		row.writeAttr = prev.writeAttr;
+		row.infoAttr = prev.infoAttr;
+		row.generation = prev.generation;
+		row.expiration = prev.expiration;
+		row.namespace = prev.namespace;
+		row.setName = prev.setName;
+		row.unsupported = prev.unsupported;
+		row.ops = prev.ops;
+		return row;
+	}
+
+	private static int parseFields(byte[] buf, int offset, int fieldCount, Request request) {
+		for (int i = 0; i < fieldCount; i++) {
+			int len = Buffer.bytesToInt(buf, offset) - 1;
+			int type = buf[offset + 4];
+			offset += 5;
+
+			switch (type) {
+			case FieldType.NAMESPACE:
+				request.namespace = Buffer.utf8ToString(buf, offset, len);
+				break;
+
+			case FieldType.TABLE:
+				request.setName = Buffer.utf8ToString(buf, offset, len);
+				break;
+
+			case FieldType.DIGEST_RIPE:
+				request.digest = Arrays.copyOfRange(buf, offset, offset + len);
+				break;
+
+			case FieldType.KEY:
+				request.userKey = Arrays.copyOfRange(buf, offset, offset + len);
+				break;
+
+			case FieldType.BATCH_INDEX:
+				request.batchOffset = offset;
+				request.batchLength = len;
+				break;
+
+			case FieldType.PID_ARRAY:
+				request.pidOffset = offset;
+				request.pidLength = len;
+				break;
+
+			case FieldType.DIGEST_ARRAY:
+				request.digestOffset = offset;
+				request.digestLength = len;
+				break;
+
+			case FieldType.MAX_RECORDS:
+				request.maxRecords = Buffer.bytesToLong(buf, offset);
+				break;
+
+			case FieldType.INDEX_RANGE:
+			case FieldType.INDEX_FILTER:
+			case FieldType.UDF_PACKAGE_NAME:
+			case FieldType.UDF_FUNCTION:
+			case FieldType.UDF_ARGLIST:
+			case FieldType.UDF_OP:
+				request.unsupported = true;
+				break;
+
+			default:
+				// Filter expressions, timeouts, task ids and throttles are accepted and ignored.
+				break;
+			}
+			offset += len;
+		}
+		return offset;
+	}
+
+	private static int parseOps(byte[] buf, int offset, int opCount, Request request) {
+		for (int i = 0; i < opCount; i++) {
+			int size = Buffer.bytesToInt(buf, offset);
+			int type = buf[offset + 4] & 0xFF;
+			int particleType = buf[offset + 5] & 0xFF;
+			int nameLen = buf[offset + 7] & 0xFF;
+			String name = Buffer.utf8ToString(buf, offset + 8, nameLen);
+			int valueOffset = offset + 8 + nameLen;
+			int valueLen = size - 4 - nameLen;
+			byte[] value = Arrays.copyOfRange(buf, valueOffset, valueOffset + valueLen);
+			request.ops.add(new Op(type, particleType, name, value));
+			offset += 4 + size;
+		}
+		return offset;
+	}
+}
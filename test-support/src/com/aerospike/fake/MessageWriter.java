@@ -0,0 +1,159 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.fake;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+
+import com.aerospike.client.command.Buffer;
+import com.aerospike.client.command.Command;
+
+/**
+ * Encode server responses. Multiple AS_MSG messages may be written
+ * into the same proto message before it is sent.
+ */
+final class MessageWriter {
+	static final long INFO_TYPE = 1L;
+	static final int COMPRESS_THRESHOLD = 128;
+
+	private byte[] buffer;
+	private int offset;
+	private byte[] cbuf;
+
+	MessageWriter(int capacity) {
+		buffer = new byte[capacity];
+		offset = 8;
+	}
+
+	int size() {
+		return offset;
+	}
+
+	boolean isEmpty() {
+		return offset == 8;
+	}
+
+	void writeHeader(int info3, int resultCode, int generation, int expiration, int batchIndex, int fieldCount, int opCount) {
+		ensure(Command.MSG_REMAINING_HEADER_SIZE);
+		buffer[offset] = Command.MSG_REMAINING_HEADER_SIZE;
+		buffer[offset + 1] = 0;
+		buffer[offset + 2] = 0;
+		buffer[offset + 3] = (byte)info3;
+		buffer[offset + 4] = 0;
+		buffer[offset + 5] = (byte)resultCode;
+		Buffer.intToBytes(generation, buffer, offset + 6);
+		Buffer.intToBytes(expiration, buffer, offset + 10);
+		Buffer.intToBytes(batchIndex, buffer, offset + 14);
+		Buffer.shortToBytes(fieldCount, buffer, offset + 18);
+		Buffer.shortToBytes(opCount, buffer, offset + 20);
+		offset += Command.MSG_REMAINING_HEADER_SIZE;
+	}
+
+	void writeField(int type, byte[] bytes) {
+		ensure(5 + bytes.length);
+		Buffer.intToBytes(bytes.length + 1, buffer, offset);
+		buffer[offset + 4] = (byte)type;
+		offset += 5;
+		System.arraycopy(bytes, 0, buffer, offset, bytes.length);
+		offset += bytes.length;
+	}
+
+	void writeField(int type, String value) {
+		writeField(type, Buffer.stringToUtf8(value));
+	}
+
+	void writeOp(Op op) {
+		byte[] name = Buffer.stringToUtf8(op.name);
+		int size = 4 + name.length + op.value.length;
+		ensure(4 + size);
+		Buffer.intToBytes(size, buffer, offset);
+		buffer[offset + 4] = (byte)op.type;
+		buffer[offset + 5] = (byte)op.particleType;
+		buffer[offset + 6] = 0;
+		buffer[offset + 7] = (byte)name.length;
+		offset += 8;
+		System.arraycopy(name, 0, buffer, offset, name.length);
+		offset += name.length;
+		System.arraycopy(op.value, 0, buffer, offset, op.value.length);
+		offset += op.value.length;
+	}
+
+	void writeInfo(byte[] bytes, int length) {
+		ensure(length);
+		System.arraycopy(bytes, 0, buffer, offset, length);
+		offset += length;
+	}
+
+	/**
+	 * Write proto header, send message and reset buffer for the next message.
+	 */
+	void send(OutputStream os, long type, boolean compress) throws IOException {
+		long proto = (offset - 8) | (Command.CL_MSG_VERSION << 56) | (type << 48);
+		Buffer.longToBytes(proto, buffer, 0);
+
+		if (compress && offset > COMPRESS_THRESHOLD) {
+			sendCompressed(os);
+		}
+		else {
+			os.write(buffer, 0, offset);
+		}
+		offset = 8;
+	}
+
+	private void sendCompressed(OutputStream os) throws IOException {
+		if (cbuf == null || cbuf.length < offset + 16) {
+			cbuf = new byte[offset + 16];
+		}
+
+		Deflater def = new Deflater(Deflater.BEST_SPEED);
+		int csize;
+
+		try {
+			def.setInput(buffer, 0, offset);
+			def.finish();
+			csize = def.deflate(cbuf, 16, cbuf.length - 16);
+
+			if (! def.finished()) {
+				// Compressed size exceeds original size.
+				os.write(buffer, 0, offset);
+				return;
+			}
+		}
+		finally {
+			def.end();
+		}
+
+		long proto = (csize + 8) | (Command.CL_MSG_VERSION << 56) | (Command.MSG_TYPE_COMPRESSED << 48);
+		Buffer.longToBytes(proto, cbuf, 0);
+		Buffer.longToBytes(offset, cbuf, 8);
+		os.write(cbuf, 0, csize + 16);
+	}
+
+	private void ensure(int size) {
+		if (offset + size > buffer.length) {
+			int capacity = buffer.length * 2;
+
+			while (offset + size > capacity) {
+				capacity *= 2;
+			}
+			byte[] tmp = new byte[capacity];
+			System.arraycopy(buffer, 0, tmp, 0, offset);
+			buffer = tmp;
+		}
+	}
+}
@@ -0,0 +1,335 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.fake;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.aerospike.client.Operation;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.command.Buffer;
+import com.aerospike.client.command.Command;
+import com.aerospike.client.command.ParticleType;
+
+/**
+ * Apply single record requests to the store. Scalar bin operations are supported.
+ * CDT, bit, HLL, expression and UDF operations return UNSUPPORTED_FEATURE.
+ * Filter expressions are ignored.
+ */
+final class RecordHandler {
+	private static final long CITRUSLEAF_EPOCH = 1262304000L;
+	private static final byte[] EMPTY = new byte[0];
+
+	private final Store store;
+
+	RecordHandler(Store store) {
+		this.store = store;
+	}
+
+	/**
+	 * Current time in seconds since the Aerospike epoch.
+	 */
+	static int now() {
+		return (int)(System.currentTimeMillis() / 1000 - CITRUSLEAF_EPOCH);
+	}
+
+	Result execute(Request request) {
+		Store.Namespace ns = store.getNamespace(request.namespace);
+
+		if (ns == null) {
+			return new Result(ResultCode.INVALID_NAMESPACE);
+		}
+
+		if (request.unsupported) {
+			return new Result(ResultCode.UNSUPPORTED_FEATURE);
+		}
+
+		Store.PartitionStore ps = ns.getPartition(request.digest);
+
+		if ((request.writeAttr & Command.INFO2_WRITE) != 0) {
+			synchronized (ps) {
+				return write(ps, request);
+			}
+		}
+		return read(ps, request);
+	}
+
+	private Result read(Store.PartitionStore ps, Request request) {
+		StoredRecord record = get(ps, request.digest);
+
+		if (record == null) {
+			return new Result(ResultCode.KEY_NOT_FOUND_ERROR);
+		}
+
+		if ((request.readAttr & Command.INFO1_NOBINDATA) != 0) {
+			return new Result(ResultCode.OK, record.generation, record.expiration, null);
+		}
+
+		ArrayList<Op> out = new ArrayList<Op>();
+
+		if ((request.readAttr & Command.INFO1_GET_ALL) != 0 || request.ops.isEmpty()) {
+			readAll(record.bins, out);
+		}
+		else {
+			for (Op op : request.ops) {
+				if (op.type != Operation.Type.READ.protocolType) {
+					return new Result(ResultCode.UNSUPPORTED_FEATURE);
+				}
+				read(record.bins, op.name, out);
+			}
+		}
+		return new Result(ResultCode.OK, record.generation, record.expiration, out);
+	}
+
+	private Result write(Store.PartitionStore ps, Request request) {
+		StoredRecord old = get(ps, request.digest);
+
+		if ((request.writeAttr & Command.INFO2_DELETE) != 0) {
+			if (old == null) {
+				return new Result(ResultCode.KEY_NOT_FOUND_ERROR);
+			}
+
+			if (! checkGeneration(old, request)) {
+				return new Result(ResultCode.GENERATION_ERROR);
+			}
+			ps.records.remove(request.digest);
+			return new Result(ResultCode.OK);
+		}
+
+		if (old != null) {
+			if ((request.writeAttr & Command.INFO2_CREATE_ONLY) != 0) {
+				return new Result(ResultCode.KEY_EXISTS_ERROR);
+			}
+
+			if (! checkGeneration(old, request)) {
+				return new Result(ResultCode.GENERATION_ERROR);
+			}
+		}
+		else if ((request.infoAttr & (Command.INFO3_UPDATE_ONLY | Command.INFO3_REPLACE_ONLY)) != 0 ||
+				 hasTouch(request)) {
+			return new Result(ResultCode.KEY_NOT_FOUND_ERROR);
+		}
+
+		boolean replace = (request.infoAttr & (Command.INFO3_CREATE_OR_REPLACE | Command.INFO3_REPLACE_ONLY)) != 0;
+		LinkedHashMap<String,Particle> bins = (old != null && ! replace)?
+			new LinkedHashMap<String,Particle>(old.bins) : new LinkedHashMap<String,Particle>();
+
+		boolean respondAll = (request.writeAttr & Command.INFO2_RESPOND_ALL_OPS) != 0;
+		boolean readBins = (request.readAttr & Command.INFO1_NOBINDATA) == 0;
+		ArrayList<Op> out = new ArrayList<Op>();
+
+		for (Op op : request.ops) {
+			int rc = apply(bins, op, readBins, out);
+
+			if (rc != ResultCode.OK) {
+				return new Result(rc);
+			}
+
+			if (respondAll && op.type != Operation.Type.READ.protocolType) {
+				out.add(new Op(Operation.Type.READ.protocolType, ParticleType.NULL, op.name, EMPTY));
+			}
+		}
+
+		if (bins.isEmpty()) {
+			// Records without bins do not exist.
+			if (old != null) {
+				ps.records.remove(request.digest);
+			}
+			return new Result(ResultCode.OK, 0, 0, out);
+		}
+
+		int generation = (old != null)? (old.generation + 1) & 0xFFFF : 1;
+
+		if (generation == 0) {
+			generation = 1;
+		}
+
+		int expiration = getExpiration(request.expiration, old);
+		String setName = (request.setName != null || old == null)? request.setName : old.setName;
+		byte[] userKey = (request.userKey != null || old == null)? request.userKey : old.userKey;
+
+		StoredRecord record = new StoredRecord(request.digest, setName, userKey, bins, generation, expiration);
+		ps.records.put(request.digest, record);
+		return new Result(ResultCode.OK, generation, expiration, out);
+	}
+
+	private static int apply(LinkedHashMap<String,Particle> bins, Op op, boolean readBins, ArrayList<Op> out) {
+		switch (op.type) {
+		case 1: // READ
+			if (readBins) {
+				if (op.name.length() == 0) {
+					readAll(bins, out);
+				}
+				else {
+					read(bins, op.name, out);
+				}
+			}
+			return ResultCode.OK;
+
+		case 2: // WRITE
+			if (op.particleType == ParticleType.NULL) {
+				bins.remove(op.name);
+			}
+			else {
+				bins.put(op.name, new Particle(op.particleType, op.value));
+			}
+			return ResultCode.OK;
+
+		case 5: // ADD
+			return add(bins, op);
+
+		case 9: // APPEND
+			return concat(bins, op, op.value, null);
+
+		case 10: // PREPEND
+			return concat(bins, op, null, op.value);
+
+		case 11: // TOUCH
+			return ResultCode.OK;
+
+		case 14: // DELETE
+			bins.clear();
+			return ResultCode.OK;
+
+		default:
+			return ResultCode.UNSUPPORTED_FEATURE;
+		}
+	}
+
+	private static int add(LinkedHashMap<String,Particle> bins, Op op) {
+		Particle p = bins.get(op.name);
+
+		if (p != null && p.type != op.particleType) {
+			return ResultCode.BIN_TYPE_ERROR;
+		}
+
+		switch (op.particleType) {
+		case ParticleType.INTEGER: {
+			long v = Buffer.bytesToLong(op.value, 0);
+
+			if (p != null) {
+				v += Buffer.bytesToLong(p.bytes, 0);
+			}
+			byte[] bytes = new byte[8];
+			Buffer.longToBytes(v, bytes, 0);
+			bins.put(op.name, new Particle(ParticleType.INTEGER, bytes));
+			return ResultCode.OK;
+		}
+
+		case ParticleType.DOUBLE: {
+			double v = Buffer.bytesToDouble(op.value, 0);
+
+			if (p != null) {
+				v += Buffer.bytesToDouble(p.bytes, 0);
+			}
+			byte[] bytes = new byte[8];
+			Buffer.doubleToBytes(v, bytes, 0);
+			bins.put(op.name, new Particle(ParticleType.DOUBLE, bytes));
+			return ResultCode.OK;
+		}
+
+		default:
+			return ResultCode.BIN_TYPE_ERROR;
+		}
+	}
+
+	private static int concat(LinkedHashMap<String,Particle> bins, Op op, byte[] suffix, byte[] prefix) {
+		if (op.particleType != ParticleType.STRING && op.particleType != ParticleType.BLOB) {
+			return ResultCode.BIN_TYPE_ERROR;
+		}
+
+		Particle p = bins.get(op.name);
+
+		if (p == null) {
+			bins.put(op.name, new Particle(op.particleType, op.value));
+			return ResultCode.OK;
+		}
+
+		if (p.type != op.particleType) {
+			return ResultCode.BIN_TYPE_ERROR;
+		}
+
+		byte[] head = (prefix != null)? prefix : p.bytes;
+		byte[] tail = (suffix != null)? suffix : p.bytes;
+		byte[] bytes = new byte[head.length + tail.length];
+		System.arraycopy(head, 0, bytes, 0, head.length);
+		System.arraycopy(tail, 0, bytes, head.length, tail.length);
+		bins.put(op.name, new Particle(p.type, bytes));
+		return ResultCode.OK;
+	}
+
+	private static void readAll(Map<String,Particle> bins, ArrayList<Op> out) {
+		for (Map.Entry<String,Particle> entry : bins.entrySet()) {
+			Particle p = entry.getValue();
+			out.add(new Op(Operation.Type.READ.protocolType, p.type, entry.getKey(), p.bytes));
+		}
+	}
+
+	private static void read(Map<String,Particle> bins, String name, ArrayList<Op> out) {
+		Particle p = bins.get(name);
+
+		if (p != null) {
+			out.add(new Op(Operation.Type.READ.protocolType, p.type, name, p.bytes));
+		}
+	}
+
+	private static boolean hasTouch(Request request) {
+		for (Op op : request.ops) {
+			if (op.type == Operation.Type.TOUCH.protocolType) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean checkGeneration(StoredRecord old, Request request) {
+		if ((request.writeAttr & Command.INFO2_GENERATION) != 0) {
+			return old.generation == request.generation;
+		}
+
+		if ((request.writeAttr & Command.INFO2_GENERATION_GT) != 0) {
+			return request.generation > old.generation;
+		}
+		return true;
+	}
+
+	private static int getExpiration(int ttl, StoredRecord old) {
+		switch (ttl) {
+		case 0:
+		case -1:
+			// Namespace default and never expire. The fake namespace default is never expire.
+			return 0;
+
+		case -2:
+			// Do not change ttl.
+			return (old != null)? old.expiration : 0;
+
+		default:
+			return now() + ttl;
+		}
+	}
+
+	static StoredRecord get(Store.PartitionStore ps, byte[] digest) {
+		StoredRecord record = ps.records.get(digest);
+
+		if (record != null && record.isExpired(now())) {
+			return null;
+		}
+		return record;
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.fake;
+
+import java.util.ArrayList;
+
+/**
+ * Decoded AS_MSG request. Batch requests produce one instance per batch row.
+ */
+final class Request {
+	int readAttr;
+	int writeAttr;
+	int infoAttr;
+	int generation;
+	int expiration;
+
+	String namespace;
+	String setName;
+	byte[] digest;
+	byte[] userKey;
+	boolean unsupported;
+	ArrayList<Op> ops = new ArrayList<Op>();
+
+	// Batch request fields.
+	int batchIndex;
+	int batchOffset;
+	int batchLength;
+
+	// Scan request fields.
+	int pidOffset;
+	int pidLength;
+	int digestOffset;
+	int digestLength;
+	long maxRecords;
+
+	boolean isBatch() {
+		return batchLength > 0;
+	}
+
+	boolean isSingle() {
+		return digest != null;
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.fake;
+
+import java.util.ArrayList;
+
+/**
+ * Outcome of a single record request.
+ */
+final class Result {
+	final int resultCode;
+	final int generation;
+	final int expiration;
+	final ArrayList<Op> ops;
+
+	Result(int resultCode) {
+		this(resultCode, 0, 0, null);
+	}
+
+	Result(int resultCode, int generation, int expiration, ArrayList<Op> ops) {
+		this.resultCode = resultCode;
+		this.generation = generation;
+		this.expiration = expiration;
+		this.ops = ops;
+	}
+
+	int opCount() {
+		return (ops != null)? ops.size() : 0;
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.fake;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import com.aerospike.client.cluster.Node;
+import com.aerospike.client.cluster.Partition;
+
+/**
+ * Record storage shared by all nodes of a fake cluster. Records are kept
+ * per partition in digest order so partition scans can resume from a digest.
+ */
+final class Store {
+	private static final Comparator<byte[]> DIGEST_ORDER = new Comparator<byte[]>() {
+		@Override
+		public int compare(byte[] d1, byte[] d2) {
+			for (int i = 0; i < d1.length; i++) {
+				int c = (d1[i] & 0xFF) - (d2[i] & 0xFF);
+
+				if (c != 0) {
+					return c;
+				}
+			}
+			return 0;
+		}
+	};
+
+	private final HashMap<String,Namespace> namespaces;
+
+	Store(String[] names) {
+		namespaces = new HashMap<String,Namespace>(names.length * 2);
+
+		for (String name : names) {
+			namespaces.put(name, new Namespace());
+		}
+	}
+
+	Namespace getNamespace(String name) {
+		return namespaces.get(name);
+	}
+
+	static final class Namespace {
+		final PartitionStore[] partitions;
+
+		private Namespace() {
+			partitions = new PartitionStore[Node.PARTITIONS];
+
+			for (int i = 0; i < partitions.length; i++) {
+				partitions[i] = new PartitionStore();
+			}
+		}
+
+		PartitionStore getPartition(byte[] digest) {
+			return partitions[Partition.getPartitionId(digest)];
+		}
+
+		long size() {
+			long count = 0;
+
+			for (PartitionStore ps : partitions) {
+				count += ps.records.size();
+			}
+			return count;
+		}
+	}
+
+	/**
+	 * Records for a single partition. Writers synchronize on this object.
+	 * Readers access the map directly.
+	 */
+	static final class PartitionStore {
+		final ConcurrentSkipListMap<byte[],StoredRecord> records =
+			new ConcurrentSkipListMap<byte[],StoredRecord>(DIGEST_ORDER);
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.fake;
+
+import java.util.LinkedHashMap;
+
+/**
+ * In-memory record. Instances are immutable once stored, so readers
+ * never need to lock.
+ */
+final class StoredRecord {
+	final byte[] digest;
+	final String setName;
+	final byte[] userKey;
+	final LinkedHashMap<String,Particle> bins;
+	final int generation;
+	final int expiration;
+
+	StoredRecord(
+		byte[] digest,
+		String setName,
+		byte[] userKey,
+		LinkedHashMap<String,Particle> bins,
+		int generation,
+		int expiration
+	) {
+		this.digest = digest;
+		this.setName = setName;
+		this.userKey = userKey;
+		this.bins = bins;
+		this.generation = generation;
+		this.expiration = expiration;
+	}
+
+	boolean isExpired(int now) {
+		return expiration != 0 && expiration <= now;
+	}
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.test.unit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Record;
+import com.aerospike.client.Value;
+import com.aerospike.client.command.Buffer;
+import com.aerospike.client.command.Command;
+
+public class TestLazyBins {
+	@Test
+	public void parseEquivalence() {
+		List<Object> list = new ArrayList<Object>();
+		list.add(1L);
+		list.add("two");
+
+		Map<Object,Object> map = new TreeMap<Object,Object>();
+		map.put("k1", 1L);
+		map.put("k2", "v2");
+
+		Bin[] bins = new Bin[] {
+			new Bin("long", 42L),
+			new Bin("str", "value"),
+			new Bin("double", 1.5),
+			new Bin("bool", true),
+			new Bin("list", list),
+			new Bin("map", map),
+			Bin.asNull("null"),
+			new Bin("näme", "umlaut"),
+			new Bin("str", "replaced")
+		};
+
+		Record eager = parse(bins, false);
+		Record lazy = parse(bins, true);
+
+		// Compare before the lazy map is materialized.
+		for (Bin bin : bins) {
+			assertEquals(eager.getValue(bin.name), lazy.getValue(bin.name));
+			assertTrue(lazy.bins.containsKey(bin.name));
+		}
+		assertNull(lazy.getValue("missing"));
+		assertFalse(lazy.bins.containsKey("missing"));
+		assertFalse(lazy.bins.isEmpty());
+
+		assertEquals(eager.bins, lazy.bins);
+		assertEquals(lazy.bins, eager.bins);
+		assertEquals(eager.bins.hashCode(), lazy.bins.hashCode());
+		assertEquals(eager, lazy);
+		assertEquals(eager.hashCode(), lazy.hashCode());
+		assertEquals(eager.bins.size(), lazy.bins.size());
+		assertEquals(new ArrayList<String>(eager.bins.keySet()), new ArrayList<String>(lazy.bins.keySet()));
+		assertEquals(new ArrayList<Object>(eager.bins.values()), new ArrayList<Object>(lazy.bins.values()));
+	}
+
+	@Test
+	public void blob() {
+		byte[] bytes = new byte[] {1, 2, 3, -1};
+		Record lazy = parse(new Bin[] {new Bin("blob", bytes)}, true);
+
+		assertArrayEquals(bytes, (byte[])lazy.getValue("blob"));
+	}
+
+	@Test
+	public void duplicateLastWins() {
+		Bin[] bins = new Bin[] {
+			new Bin("a", 1L),
+			new Bin("b", 2L),
+			new Bin("a", 3L)
+		};
+
+		Record lazy = parse(bins, true);
+		assertEquals(3L, lazy.getValue("a"));
+		assertEquals(2L, lazy.getValue("b"));
+
+		// Materialized map keeps the first position of a duplicate bin.
+		assertEquals(2, lazy.bins.size());
+		assertEquals(3L, lazy.getValue("a"));
+
+		List<String> names = new ArrayList<String>(lazy.bins.keySet());
+		assertEquals("a", names.get(0));
+		assertEquals("b", names.get(1));
+		assertEquals(parse(bins, false), lazy);
+	}
+
+	@Test
+	public void nonAsciiNames() {
+		Bin[] bins = new Bin[] {
+			new Bin("bïn", 1L),
+			new Bin("名前", 2L),
+			new Bin("aé", 3L),
+			new Bin("ab", 4L)
+		};
+
+		Record lazy = parse(bins, true);
+		assertEquals(1L, lazy.getValue("bïn"));
+		assertEquals(2L, lazy.getValue("名前"));
+		assertEquals(3L, lazy.getValue("aé"));
+		assertEquals(4L, lazy.getValue("ab"));
+
+		// Names that match a prefix or the character count of a non-ascii name.
+		assertNull(lazy.getValue("b"));
+		assertNull(lazy.getValue("bin"));
+		assertNull(lazy.getValue("a"));
+		assertNull(lazy.getValue("名"));
+		assertNull(lazy.getValue("aè"));
+		assertFalse(lazy.bins.containsKey("名前名"));
+
+		// Second lookup uses the decoded name cache.
+		assertEquals(1L, lazy.getValue("bïn"));
+		assertEquals(parse(bins, false), lazy);
+	}
+
+	@Test
+	public void nullParticle() {
+		Bin[] bins = new Bin[] {
+			Bin.asNull("n"),
+			new Bin("v", 1L)
+		};
+
+		Record lazy = parse(bins, true);
+
+		// Repeat lookup to read the cached null value.
+		for (int i = 0; i < 2; i++) {
+			assertNull(lazy.getValue("n"));
+			assertTrue(lazy.bins.containsKey("n"));
+		}
+		assertEquals(1L, lazy.getValue("v"));
+		assertEquals(2, lazy.bins.size());
+		assertTrue(lazy.bins.containsKey("n"));
+		assertNull(lazy.getValue("n"));
+		assertEquals(parse(bins, false), lazy);
+	}
+
+	@Test
+	public void modify() {
+		Bin[] bins = new Bin[] {
+			new Bin("a", 1L),
+			new Bin("b", 2L)
+		};
+
+		Record eager = parse(bins, false);
+		Record lazy = parse(bins, true);
+
+		eager.bins.put("c", 3L);
+		lazy.bins.put("c", 3L);
+		eager.bins.remove("a");
+		lazy.bins.remove("a");
+
+		assertEquals(eager, lazy);
+		assertNull(lazy.getValue("a"));
+		assertEquals(3L, lazy.getValue("c"));
+	}
+
+	@Test
+	public void empty() {
+		Record lazy = parse(new Bin[0], true);
+
+		assertTrue(lazy.bins.isEmpty());
+		assertEquals(0, lazy.bins.size());
+		assertEquals(parse(new Bin[0], false), lazy);
+	}
+
+	private static Record parse(Bin[] bins, boolean lazyBins) {
+		byte[] buf = encodeResponseOps(bins);
+		return new BufferCommand().parseRecord(buf, 0, bins.length, lazyBins);
+	}
+
+	/**
+	 * Encode bins in server response operation format.
+	 */
+	private static byte[] encodeResponseOps(Bin[] bins) {
+		int size = 0;
+
+		for (Bin bin : bins) {
+			size += Command.OPERATION_HEADER_SIZE + Buffer.estimateSizeUtf8(bin.name) + bin.value.estimateSize();
+		}
+
+		byte[] buf = new byte[size];
+		int offset = 0;
+
+		for (Bin bin : bins) {
+			int nameLength = Buffer.stringToUtf8(bin.name, buf, offset + Command.OPERATION_HEADER_SIZE);
+			int valueLength = bin.value.write(buf, offset + Command.OPERATION_HEADER_SIZE + nameLength);
+
+			Buffer.intToBytes(nameLength + valueLength + 4, buf, offset);
+			offset += 4;
+			buf[offset++] = 1;  // read
+			buf[offset++] = (byte)bin.value.getType();
+			buf[offset++] = 0;
+			buf[offset++] = (byte)nameLength;
+			offset += nameLength + valueLength;
+		}
+		return buf;
+	}
+
+	/**
+	 * Command that parses records from a heap buffer instead of a socket.
+	 */
+	private static final class BufferCommand extends Command {
+		private BufferCommand() {
+			super(0, 1000, 0);
+		}
+
+		@Override
+		protected void sizeBuffer() {
+			if (dataBuffer == null || dataOffset > dataBuffer.length) {
+				dataBuffer = new byte[dataOffset];
+			}
+		}
+
+		private Record parseRecord(byte[] buffer, int offset, int opCount, boolean lazyBins) {
+			dataBuffer = buffer;
+			dataOffset = offset;
+			return parseRecord(opCount, 1, 0, false, lazyBins);
+		}
+	}
+}
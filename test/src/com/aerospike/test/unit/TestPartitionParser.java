@@ -0,0 +1,214 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.test.unit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.Info;
+import com.aerospike.client.cluster.Node;
+import com.aerospike.client.cluster.PartitionParser;
+import com.aerospike.client.cluster.Partitions;
+import com.aerospike.client.policy.ClientPolicy;
+import com.aerospike.client.util.Crypto;
+import com.aerospike.fake.FakeCluster;
+import com.aerospike.fake.FakeConfig;
+
+public class TestPartitionParser {
+	private static final int BITMAP_SIZE = 512;
+
+	private static Node nodeA;
+	private static Node nodeB;
+
+	@BeforeClass
+	public static void connect() throws Exception {
+		FakeConfig config = new FakeConfig();
+		config.nodeCount = 2;
+
+		// Only node instances are needed. Close the client before parsing so the
+		// cluster tend does not share the nodes with the tests.
+		FakeCluster fake = new FakeCluster(config);
+
+		try {
+			fake.start();
+
+			AerospikeClient client = new AerospikeClient(new ClientPolicy(), fake.getHosts());
+
+			try {
+				Node[] nodes = client.getNodes();
+				assertEquals(2, nodes.length);
+				nodeA = nodes[0];
+				nodeB = nodes[1];
+			}
+			finally {
+				client.close();
+			}
+		}
+		finally {
+			fake.close();
+		}
+	}
+
+	@AfterClass
+	public static void release() {
+		nodeA = null;
+		nodeB = null;
+	}
+
+	@Test
+	public void decodeAllZero() {
+		assertBitmap(new byte[BITMAP_SIZE], 4096);
+		assertBitmap(new byte[BITMAP_SIZE], 4093);
+	}
+
+	@Test
+	public void decodeAllOne() {
+		byte[] bitmap = new byte[BITMAP_SIZE];
+		Arrays.fill(bitmap, (byte)0xFF);
+		assertBitmap(bitmap, 4096);
+		assertBitmap(bitmap, 4093);
+	}
+
+	@Test
+	public void decodeRandom() {
+		Random random = new Random(3);
+		byte[] bitmap = new byte[BITMAP_SIZE];
+
+		for (int i = 0; i < 100; i++) {
+			random.nextBytes(bitmap);
+			assertBitmap(bitmap, (i % 2 == 0)? 4096 : 4096 - 1 - random.nextInt(7));
+		}
+	}
+
+	@Test
+	public void ownershipChange() {
+		byte[] all = new byte[BITMAP_SIZE];
+		Arrays.fill(all, (byte)0xFF);
+
+		// Node A owns every partition of both namespaces.
+		HashMap<String,Partitions> map = new HashMap<String,Partitions>();
+		PartitionParser parser = parse(nodeA, map, 4096, "test", all, "bar", all);
+		map = parser.getPartitionMap();
+
+		assertTrue(parser.isPartitionMapCopied());
+		assertEquals(2 * 4096, parser.getMovedCount());
+		assertEquals(2, parser.getChangedPartitions().size());
+
+		// Node B takes over some partitions of namespace test only.
+		byte[] some = new byte[BITMAP_SIZE];
+		new Random(7).nextBytes(some);
+
+		parser = parse(nodeB, map, 4096, "test", some, "bar", new byte[BITMAP_SIZE]);
+
+		assertFalse(parser.isPartitionMapCopied());
+		assertSame(map, parser.getPartitionMap());
+		assertEquals(bitCount(some, 4096), parser.getMovedCount());
+
+		List<Partitions> changed = parser.getChangedPartitions();
+		assertEquals(1, changed.size());
+		assertSame(map.get("test"), changed.get(0));
+
+		// Previous owner must refresh its partition map on the next tend.
+		assertEquals(-1, nodeA.getPartitionGeneration());
+
+		for (int i = 0; i < 4096; i++) {
+			Node expected = isSet(some, i)? nodeB : nodeA;
+			assertSame(expected, map.get("test").replicas[0].get(i));
+			assertSame(nodeA, map.get("bar").replicas[0].get(i));
+		}
+
+		// Same response again does not move any partitions.
+		parser = parse(nodeB, map, 4096, "test", some, "bar", new byte[BITMAP_SIZE]);
+		assertEquals(0, parser.getMovedCount());
+		assertTrue(parser.getChangedPartitions().isEmpty());
+	}
+
+	/**
+	 * Parse bitmap into an empty map and verify node ownership against the bitmap
+	 * decoded by Crypto.decodeBase64.
+	 */
+	private static void assertBitmap(byte[] bitmap, int partitionCount) {
+		String encoded = Crypto.encodeBase64(bitmap);
+		byte[] src = encoded.getBytes(StandardCharsets.US_ASCII);
+		byte[] decoded = Crypto.decodeBase64(src, 0, src.length);
+		assertArrayEquals(bitmap, decoded);
+
+		HashMap<String,Partitions> map = new HashMap<String,Partitions>();
+		PartitionParser parser = parse(nodeA, map, partitionCount, "test", bitmap);
+		Partitions partitions = parser.getPartitionMap().get("test");
+
+		for (int i = 0; i < partitionCount; i++) {
+			if (isSet(decoded, i)) {
+				assertSame(nodeA, partitions.replicas[0].get(i));
+			}
+			else {
+				assertNull(partitions.replicas[0].get(i));
+			}
+		}
+		assertEquals(bitCount(decoded, partitionCount), parser.getMovedCount());
+		assertEquals(1, parser.getChangedPartitions().size());
+	}
+
+	/**
+	 * Parse single replica bitmaps given as namespace/bitmap pairs.
+	 */
+	private static PartitionParser parse(Node node, HashMap<String,Partitions> map, int partitionCount, Object... pairs) {
+		StringBuilder sb = new StringBuilder();
+		sb.append("partition-generation\t1\nreplicas\t");
+
+		for (int i = 0; i < pairs.length; i += 2) {
+			sb.append(pairs[i]);
+			sb.append(":0,1,");
+			sb.append(Crypto.encodeBase64((byte[])pairs[i + 1]));
+			sb.append(';');
+		}
+		sb.append('\n');
+
+		byte[] buffer = sb.toString().getBytes(StandardCharsets.US_ASCII);
+		return new PartitionParser(new Info(buffer, buffer.length), node, map, partitionCount);
+	}
+
+	private static boolean isSet(byte[] bitmap, int index) {
+		return (bitmap[index >> 3] & (0x80 >> (index & 7))) != 0;
+	}
+
+	private static int bitCount(byte[] bitmap, int partitionCount) {
+		int count = 0;
+
+		for (int i = 0; i < partitionCount; i++) {
+			if (isSet(bitmap, i)) {
+				count++;
+			}
+		}
+		return count;
+	}
+}
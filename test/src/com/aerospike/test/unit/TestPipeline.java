@@ -0,0 +1,227 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.test.unit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.policy.ClientPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.fake.FakeCluster;
+import com.aerospike.fake.FakeConfig;
+import com.aerospike.fake.FakeNode;
+
+/**
+ * Pipelined sync connection tests. The fake server answers commands on a connection in
+ * order and delays each response, so commands queue up behind each other.
+ */
+public class TestPipeline {
+	private static final int DELAY = 300;
+	private static final int LONG_TIMEOUT = 5000;
+	private static final int SHORT_TIMEOUT = 100;
+
+	private static FakeCluster fake;
+	private static FakeNode node;
+	private static ExecutorService executor;
+	private AerospikeClient client;
+
+	@BeforeClass
+	public static void start() throws Exception {
+		fake = new FakeCluster(new FakeConfig());
+		fake.start();
+		node = fake.getNode(0);
+		executor = Executors.newCachedThreadPool();
+	}
+
+	@AfterClass
+	public static void stop() {
+		executor.shutdownNow();
+		fake.close();
+	}
+
+	@After
+	public void closeClient() {
+		node.setDelay(0);
+		node.setDropResponses(false);
+
+		if (client != null) {
+			client.close();
+			client = null;
+		}
+	}
+
+	@Test
+	public void abandonDiscard() throws Exception {
+		connect(32);
+		node.setDelay(DELAY);
+
+		Future<Result> first = get(0, LONG_TIMEOUT);
+		Thread.sleep(50);
+		Future<Result> abandoned = get(1, SHORT_TIMEOUT);
+		Thread.sleep(50);
+		Future<Result> last = get(2, LONG_TIMEOUT);
+
+		assertTimeout(abandoned.get());
+
+		// The first command must not wait for the abandoned command's response.
+		Result r = first.get();
+		assertRecord(0, r);
+		assertTrue("first command waited " + r.millis + "ms", r.millis < DELAY + 150);
+
+		// The last command discards the abandoned response before reading its own.
+		assertRecord(2, last.get());
+		assertRecord(3, get(3, LONG_TIMEOUT).get());
+	}
+
+	@Test
+	public void abandonClose() throws Exception {
+		connect(32);
+		node.setDelay(DELAY);
+
+		Future<Result> first = get(0, LONG_TIMEOUT);
+		Thread.sleep(50);
+		Future<Result> abandoned = get(1, SHORT_TIMEOUT);
+
+		assertTimeout(abandoned.get());
+
+		// No command is waiting behind the abandoned command, so the connection is closed.
+		Result r = first.get();
+		assertRecord(0, r);
+		assertTrue("first command waited " + r.millis + "ms", r.millis < DELAY + 150);
+		assertEquals(0, client.getClusterStats().nodes[0].sync.inUse);
+
+		node.setDelay(0);
+		assertRecord(2, get(2, LONG_TIMEOUT).get());
+	}
+
+	@Test
+	public void connectionFailure() throws Exception {
+		connect(32);
+		node.setDropResponses(true);
+
+		Future<Result> first = get(0, DELAY);
+		Thread.sleep(50);
+		Future<Result> waiting = get(1, LONG_TIMEOUT);
+
+		assertTimeout(first.get());
+
+		// Waiting command fails with a connection error when the first command closes the
+		// connection.
+		Result r = waiting.get();
+
+		if (! (r.exception instanceof AerospikeException.Connection)) {
+			fail("Expected connection error: " + r.exception);
+		}
+		assertTrue("waiting command failed after " + r.millis + "ms", r.millis < LONG_TIMEOUT / 2);
+
+		node.setDropResponses(false);
+		assertRecord(2, get(2, LONG_TIMEOUT).get());
+	}
+
+	@Test
+	public void fullPipeline() throws Exception {
+		connect(1);
+		node.setDelay(DELAY);
+
+		Future<Result> first = get(0, LONG_TIMEOUT);
+		Thread.sleep(50);
+		Future<Result> full = get(1, SHORT_TIMEOUT);
+		Future<Result> waiting = get(2, LONG_TIMEOUT);
+
+		Result r = full.get();
+		assertTimeout(r);
+		assertTrue("full pipeline wait " + r.millis + "ms", r.millis < DELAY);
+
+		assertRecord(0, first.get());
+		assertRecord(2, waiting.get());
+	}
+
+	private void connect(int depth) {
+		ClientPolicy policy = new ClientPolicy();
+		policy.pipelineConnsPerNode = 1;
+		policy.pipelineDepth = depth;
+		client = new AerospikeClient(policy, fake.getHosts());
+
+		for (int i = 0; i < 4; i++) {
+			client.put(null, key(i), new Bin("v", i));
+		}
+	}
+
+	private Future<Result> get(final int id, final int timeout) {
+		final Policy policy = new Policy();
+		policy.socketTimeout = timeout;
+		policy.totalTimeout = timeout;
+		policy.maxRetries = 0;
+
+		return executor.submit(new Callable<Result>() {
+			@Override
+			public Result call() {
+				Result result = new Result();
+				long begin = System.nanoTime();
+
+				try {
+					result.record = client.get(policy, key(id));
+				}
+				catch (AerospikeException ae) {
+					result.exception = ae;
+				}
+				result.millis = (System.nanoTime() - begin) / 1000000;
+				return result;
+			}
+		});
+	}
+
+	private static Key key(int id) {
+		return new Key("test", "pipeline", id);
+	}
+
+	private static void assertRecord(int id, Result result) throws ExecutionException {
+		if (result.exception != null) {
+			throw new ExecutionException(result.exception);
+		}
+		assertEquals(id, result.record.getInt("v"));
+	}
+
+	private static void assertTimeout(Result result) {
+		if (! (result.exception instanceof AerospikeException.Timeout)) {
+			fail("Expected timeout: " + result.exception);
+		}
+	}
+
+	private static final class Result {
+		private Record record;
+		private AerospikeException exception;
+		private long millis;
+	}
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.test.unit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.policy.ClientPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.fake.FakeCluster;
+import com.aerospike.fake.FakeConfig;
+import com.aerospike.fake.FakeNode;
+
+/**
+ * Coalesced read tests. Reads that use the default read policy are combined into batch
+ * reads by the client.
+ */
+public class TestReadCoalescer {
+	private static final int KEYS = 4;
+
+	private static FakeCluster fake;
+	private static FakeNode node;
+	private static ExecutorService executor;
+	private AerospikeClient client;
+
+	@BeforeClass
+	public static void start() throws Exception {
+		fake = new FakeCluster(new FakeConfig());
+		fake.start();
+		node = fake.getNode(0);
+		executor = Executors.newCachedThreadPool();
+	}
+
+	@AfterClass
+	public static void stop() {
+		executor.shutdownNow();
+		fake.close();
+	}
+
+	@After
+	public void closeClient() {
+		node.setDelay(0);
+		node.setBatchResultCode(ResultCode.OK);
+
+		for (int i = 0; i < KEYS; i++) {
+			node.setRecordResultCode(key(i).digest, ResultCode.OK);
+		}
+
+		if (client != null) {
+			client.close();
+			client = null;
+		}
+	}
+
+	@Test
+	public void followerTimeout() throws Exception {
+		ClientPolicy policy = createPolicy(50000, 128);
+		policy.readPolicyDefault.socketTimeout = 300;
+		policy.readPolicyDefault.totalTimeout = 300;
+		policy.readPolicyDefault.maxRetries = 0;
+		connect(policy);
+		node.setDelay(1000);
+
+		Future<Result> leader = get(0);
+		Thread.sleep(10);
+		Future<Result> follower = get(1);
+
+		// Follower gives up at its own deadline while the batch is still in progress.
+		Result r = follower.get();
+		assertTimeout(r);
+		assertTrue("follower waited " + r.millis + "ms", r.millis < 700);
+		assertTimeout(leader.get());
+	}
+
+	@Test
+	public void batchFailure() throws Exception {
+		connect(createPolicy(50000, 128));
+		node.setBatchResultCode(ResultCode.SERVER_ERROR);
+
+		long begin = node.getCommandCount();
+		Future<Result>[] futures = getAll(3);
+
+		for (int i = 0; i < futures.length; i++) {
+			assertRecord(i, futures[i].get());
+		}
+
+		// One failed batch and one single record read per key.
+		assertEquals(1 + futures.length, node.getCommandCount() - begin);
+	}
+
+	@Test
+	public void keyError() throws Exception {
+		assertKeyError(false);
+		closeClient();
+		assertKeyError(true);
+	}
+
+	@Test
+	public void groupFull() throws Exception {
+		// The window is much longer than the test, so the batch is only sent early.
+		connect(createPolicy(5000000, 2));
+
+		long begin = node.getCommandCount();
+		Future<Result>[] futures = getAll(2);
+
+		for (int i = 0; i < futures.length; i++) {
+			Result r = futures[i].get();
+			assertRecord(i, r);
+			assertTrue("read waited " + r.millis + "ms", r.millis < 1000);
+		}
+		assertEquals(1, node.getCommandCount() - begin);
+	}
+
+	private void assertKeyError(boolean failOnFilteredOut) throws Exception {
+		ClientPolicy policy = createPolicy(50000, 128);
+		policy.readPolicyDefault.failOnFilteredOut = failOnFilteredOut;
+		connect(policy);
+		node.setRecordResultCode(key(1).digest, ResultCode.FILTERED_OUT);
+
+		// A policy other than the default read policy is not coalesced.
+		Policy single = new Policy(client.getReadPolicyDefault());
+		Result expected = call(single, 1);
+
+		Future<Result>[] futures = getAll(3);
+		assertRecord(0, futures[0].get());
+		assertRecord(2, futures[2].get());
+
+		Result r = futures[1].get();
+
+		if (failOnFilteredOut) {
+			assertEquals(ResultCode.FILTERED_OUT, expected.exception.getResultCode());
+			assertEquals(expected.exception.getResultCode(), r.exception.getResultCode());
+		}
+		else {
+			assertNull(expected.exception);
+			assertNull(expected.record);
+			assertNull(r.exception);
+			assertNull(r.record);
+		}
+	}
+
+	private static ClientPolicy createPolicy(int windowMicros, int maxKeys) {
+		ClientPolicy policy = new ClientPolicy();
+		policy.readCoalesceMicros = windowMicros;
+		policy.readCoalesceMaxKeys = maxKeys;
+		return policy;
+	}
+
+	private void connect(ClientPolicy policy) {
+		client = new AerospikeClient(policy, fake.getHosts());
+
+		for (int i = 0; i < KEYS; i++) {
+			client.put(null, key(i), new Bin("v", i));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private Future<Result>[] getAll(int count) {
+		Future<Result>[] futures = new Future[count];
+
+		for (int i = 0; i < count; i++) {
+			futures[i] = get(i);
+		}
+		return futures;
+	}
+
+	private Future<Result> get(final int id) {
+		return executor.submit(new Callable<Result>() {
+			@Override
+			public Result call() {
+				// Null policy uses the default read policy, which enables coalescing.
+				return TestReadCoalescer.this.call(null, id);
+			}
+		});
+	}
+
+	private Result call(Policy policy, int id) {
+		Result result = new Result();
+		long begin = System.nanoTime();
+
+		try {
+			result.record = client.get(policy, key(id));
+		}
+		catch (AerospikeException ae) {
+			result.exception = ae;
+		}
+		result.millis = (System.nanoTime() - begin) / 1000000;
+		return result;
+	}
+
+	private static Key key(int id) {
+		return new Key("test", "coalesce", id);
+	}
+
+	private static void assertRecord(int id, Result result) throws ExecutionException {
+		if (result.exception != null) {
+			throw new ExecutionException(result.exception);
+		}
+		assertEquals(id, result.record.getInt("v"));
+	}
+
+	private static void assertTimeout(Result result) {
+		if (! (result.exception instanceof AerospikeException.Timeout)) {
+			fail("Expected timeout: " + result.exception);
+		}
+	}
+
+	private static final class Result {
+		private Record record;
+		private AerospikeException exception;
+		private long millis;
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2012-2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.test.unit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Value;
+import com.aerospike.client.util.Ripemd160;
+
+public class TestRipemd160 {
+	@Test
+	public void standardVectors() {
+		assertDigest("", "9c1185a5c5e9fc54612808977ee8f548b2258d31");
+		assertDigest("a", "0bdc9d2d256b3ee9daae347be6f4dc835a467ffe");
+		assertDigest("abc", "8eb208f7e05d987a9b044a8e98c6b087f15a0bfc");
+		assertDigest("message digest", "5d0689ef49d2fae572b881b123a85ffa21595f36");
+		assertDigest("abcdefghijklmnopqrstuvwxyz", "f71c27109c692c1b56bbdceb5b9d2865b3708dbc");
+		assertDigest("abcdbcdecdefdefgefghfghighijhijkijkljklmklmnlmnomnopnopq", "12a053384a9c0c88e405a06c27dcf49ada62eb2b");
+		assertDigest("ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789", "b0e20b6e3116640286ed3a87a5713079b21f5189");
+
+		StringBuilder sb = new StringBuilder(80);
+
+		for (int i = 0; i < 8; i++) {
+			sb.append("1234567890");
+		}
+		assertDigest(sb.toString(), "9b752e45573d4b39f4dbd3323cab82bf63326bfb");
+
+		byte[] million = new byte[1000000];
+
+		for (int i = 0; i < million.length; i++) {
+			million[i] = 'a';
+		}
+		assertEquals("52783243c1697bdbe16d37f97f68f08325dc1528", digest(million, 0, million.length));
+	}
+
+	@Test
+	public void lengthsAndOffsets() {
+		// Hash every length from 0 to 1999 at a non-zero offset to cover all padding and
+		// block boundary cases. The expected value is the digest of all 2000 digests.
+		byte[] buf = new byte[2100];
+
+		for (int i = 0; i < buf.length; i++) {
+			buf[i] = (byte)(i * 31 + 7);
+		}
+
+		Ripemd160 hash = new Ripemd160();
+		byte[] all = new byte[2000 * Ripemd160.DIGEST_SIZE];
+
+		for (int len = 0; len < 2000; len++) {
+			hash.digest(buf, len % 7, len, all, len * Ripemd160.DIGEST_SIZE);
+		}
+		assertEquals("5c085aded2430f4bbe8681664aecc063bbbee640", digest(all, 0, all.length));
+	}
+
+	@Test
+	public void keyDigest() {
+		assertEquals("ec91192d4b7f8ce35d5d78d34bca65cbaaaac960", toHex(new Key("test", "demo", "key1").digest));
+		assertEquals("b7f4b83889e2da67de683e1df6919a1eacc446c8", toHex(new Key("test", "demo", 1L).digest));
+		assertEquals("ff31c926fbef445648ce63ca72a698a5473425c1", toHex(new Key("test", "demo", new byte[] {1, 2, 3}).digest));
+		assertEquals("579f05ecf9e6a9e796f4da2ab0b1323364df5c10", toHex(new Key("test", null, "key1").digest));
+		assertArrayEquals(new Key("test", "demo", "key1").digest, Key.computeDigest("demo", Value.get("key1")));
+	}
+
+	@Test
+	public void computeDigests() {
+		Value[] keys = new Value[1000];
+
+		for (int i = 0; i < keys.length; i++) {
+			switch (i % 3) {
+			case 0:
+				keys[i] = Value.get((long)i);
+				break;
+			case 1:
+				keys[i] = Value.get("key" + i);
+				break;
+			default:
+				keys[i] = Value.get(new byte[] {(byte)i, (byte)(i >> 8), 7});
+				break;
+			}
+		}
+
+		byte[] digests = new byte[keys.length * Ripemd160.DIGEST_SIZE];
+		Key.computeDigests("demo", keys, digests);
+
+		for (int i = 0; i < keys.length; i++) {
+			byte[] expected = new Key("test", "demo", keys[i]).digest;
+			byte[] received = new byte[Ripemd160.DIGEST_SIZE];
+			System.arraycopy(digests, i * Ripemd160.DIGEST_SIZE, received, 0, received.length);
+			assertArrayEquals("key " + i, expected, received);
+		}
+	}
+
+	private static void assertDigest(String message, String expected) {
+		byte[] bytes = message.getBytes(StandardCharsets.US_ASCII);
+		assertEquals(message, expected, digest(bytes, 0, bytes.length));
+	}
+
+	private static String digest(byte[] buf, int offset, int length) {
+		byte[] out = new byte[Ripemd160.DIGEST_SIZE];
+		new Ripemd160().digest(buf, offset, length, out, 0);
+		return toHex(out);
+	}
+
+	private static String toHex(byte[] bytes) {
+		StringBuilder sb = new StringBuilder(bytes.length * 2);
+
+		for (byte b : bytes) {
+			sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+			sb.append(Character.forDigit(b & 0xF, 16));
+		}
+		return sb.toString();
+	}
+}